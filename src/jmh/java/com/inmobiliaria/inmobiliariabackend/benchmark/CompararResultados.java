@@ -0,0 +1,66 @@
+package com.inmobiliaria.inmobiliariabackend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dos resultados JMH en JSON (por ejemplo de dos commits) benchmark por benchmark:
+ * mvn -Pjmh test-compile exec:exec@comparar -Djmh.base=base.json -Djmh.actual=target/jmh-result.json
+ * La razón es actual / base sobre el puntaje (en AverageTime, menor es mejor).
+ */
+public class CompararResultados {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CompararResultados <base.json> <actual.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> base = leer(args[0]);
+        Map<String, JsonNode> actual = leer(args[1]);
+
+        System.out.printf("%-90s %14s %14s %8s%n", "Benchmark", "base", "actual", "act/base");
+        for (Map.Entry<String, JsonNode> entrada : actual.entrySet()) {
+            JsonNode a = entrada.getValue().get("primaryMetric");
+            JsonNode b = base.containsKey(entrada.getKey()) ? base.get(entrada.getKey()).get("primaryMetric") : null;
+            String unidad = a.get("scoreUnit").asText();
+            if (b == null) {
+                System.out.printf("%-90s %14s %14.3f %8s  %s%n", entrada.getKey(), "-", a.get("score").asDouble(), "nuevo", unidad);
+            } else {
+                double razon = a.get("score").asDouble() / b.get("score").asDouble();
+                System.out.printf("%-90s %14.3f %14.3f %8.2f  %s%n", entrada.getKey(),
+                        b.get("score").asDouble(), a.get("score").asDouble(), razon, unidad);
+            }
+        }
+        for (String clave : base.keySet()) {
+            if (!actual.containsKey(clave)) System.out.printf("%-90s (ya no existe)%n", clave);
+        }
+    }
+
+    // Clave: nombre del benchmark + parámetros, que identifica la misma medición entre ejecuciones
+    private static Map<String, JsonNode> leer(String ruta) throws IOException {
+        Map<String, JsonNode> resultados = new LinkedHashMap<>();
+        for (JsonNode resultado : new ObjectMapper().readTree(new File(ruta))) {
+            StringBuilder clave = new StringBuilder(resultado.get("benchmark").asText()
+                    .replace("com.inmobiliaria.inmobiliariabackend.", ""));
+            JsonNode params = resultado.get("params");
+            if (params != null) {
+                Map<String, String> ordenados = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> campos = params.fields();
+                while (campos.hasNext()) {
+                    Map.Entry<String, JsonNode> campo = campos.next();
+                    ordenados.put(campo.getKey(), campo.getValue().asText());
+                }
+                clave.append(ordenados);
+            }
+            resultados.put(clave.toString(), resultado);
+        }
+        return resultados;
+    }
+}
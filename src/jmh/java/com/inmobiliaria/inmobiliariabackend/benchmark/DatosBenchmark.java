@@ -0,0 +1,131 @@
+package com.inmobiliaria.inmobiliariabackend.benchmark;
+
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResumenProjection;
+import com.inmobiliaria.inmobiliariabackend.model.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Grafo de entidades sintético (departamento → ... → lote → venta) con semilla fija,
+ * para que todas las ejecuciones midan exactamente los mismos datos.
+ */
+public final class DatosBenchmark {
+
+    private static final String[] NOMBRES = {"José", "María", "Ángel", "Lucía", "Raúl", "Rocío", "Iñigo", "Ana"};
+    private static final String[] APELLIDOS = {"Pérez", "Núñez", "Quispe", "Mamani", "Gómez", "Ríos", "Chávez", "Huamán"};
+    private static final String[] PROYECTOS = {"Los Álamos", "Villa Sol", "Las Praderas de Chilca", "Mirador del Valle"};
+    private static final String[] DISTRITOS = {"Chilca", "Lurín", "Punta Hermosa", "San Bartolo"};
+
+    public final List<Lote> lotes = new ArrayList<>();
+    public final List<Cliente> clientes = new ArrayList<>();
+    public final List<Venta> ventas = new ArrayList<>();
+    public final EstadoVenta estadoVenta = new EstadoVenta();
+    public final EstadoLote estadoLote = new EstadoLote();
+    public final Moneda moneda = new Moneda();
+
+    public DatosBenchmark(int cantidad) {
+        Random random = new Random(42L);
+
+        estadoVenta.setEstadoVentaId(UUID.randomUUID());
+        estadoVenta.setNombre("Activa");
+        estadoLote.setEstadoLoteId(UUID.randomUUID());
+        estadoLote.setNombre("Vendido");
+        moneda.setMonedaId(UUID.randomUUID());
+        moneda.setNombre("Soles");
+        moneda.setSimbolo("S/");
+
+        Departamento departamento = new Departamento(UUID.randomUUID(), "Lima", null, true);
+        Provincia provincia = new Provincia();
+        provincia.setProvinciaId(UUID.randomUUID());
+        provincia.setNombre("Lima");
+        provincia.setDepartamento(departamento);
+
+        List<Proyecto> proyectos = new ArrayList<>();
+        for (int i = 0; i < PROYECTOS.length; i++) {
+            Distrito distrito = new Distrito();
+            distrito.setDistritoId(UUID.randomUUID());
+            distrito.setNombre(DISTRITOS[i]);
+            distrito.setProvincia(provincia);
+
+            Proyecto proyecto = new Proyecto();
+            proyecto.setProyectoId(UUID.randomUUID());
+            proyecto.setNombre(PROYECTOS[i]);
+            proyecto.setDistrito(distrito);
+            proyectos.add(proyecto);
+        }
+
+        for (int i = 0; i < cantidad; i++) {
+            Lote lote = new Lote();
+            lote.setLoteId(UUID.randomUUID());
+            lote.setNombre("Lote " + (i + 1) + " Mz " + (char) ('A' + i % 20));
+            lote.setDescripcion("Lote residencial con frente a parque");
+            lote.setPrecio(25_000 + random.nextInt(50_000) * 1.0);
+            lote.setArea(90 + random.nextInt(200) * 1.0);
+            lote.setDireccion("Calle " + (i % 50 + 1));
+            lote.setEstadoLote(estadoLote);
+            lote.setProyecto(proyectos.get(i % proyectos.size()));
+            lote.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            lotes.add(lote);
+
+            Cliente cliente = new Cliente();
+            cliente.setClienteId(UUID.randomUUID());
+            cliente.setPrimerNombre(NOMBRES[random.nextInt(NOMBRES.length)]);
+            cliente.setApellidoPaterno(APELLIDOS[random.nextInt(APELLIDOS.length)]);
+            cliente.setApellidoMaterno(APELLIDOS[random.nextInt(APELLIDOS.length)]);
+            cliente.setNumeroDocumento(String.valueOf(40_000_000 + i));
+            clientes.add(cliente);
+
+            Venta venta = new Venta();
+            venta.setVentaId(UUID.randomUUID());
+            venta.setCliente(cliente);
+            venta.setLote(lote);
+            venta.setEstadoVenta(estadoVenta);
+            venta.setMoneda(moneda);
+            venta.setFechaContrato(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            venta.setNroCuotas(12 + i % 48);
+            venta.setMontoTotal(lote.getPrecio());
+            // La mitad de las ventas sin saldo conciliado: VentaService consulta la suma de abonos
+            venta.setMontoAbonado(i % 2 == 0 ? lote.getPrecio() / 4 : null);
+            venta.setFechaCreacion(lote.getFechaCreacion());
+            ventas.add(venta);
+        }
+    }
+
+    public List<VentaResumenProjection> resumenes() {
+        List<VentaResumenProjection> resumenes = new ArrayList<>(ventas.size());
+        for (Venta venta : ventas) resumenes.add(new Resumen(venta));
+        return resumenes;
+    }
+
+    // Lo que devolvería la consulta de proyección, ya materializado
+    private static final class Resumen implements VentaResumenProjection {
+        private final Venta v;
+
+        private Resumen(Venta venta) {
+            this.v = venta;
+        }
+
+        @Override public UUID getVentaId() { return v.getVentaId(); }
+        @Override public UUID getClienteId() { return v.getCliente().getClienteId(); }
+        @Override public String getClientePrimerNombre() { return v.getCliente().getPrimerNombre(); }
+        @Override public String getClienteApellidoPaterno() { return v.getCliente().getApellidoPaterno(); }
+        @Override public UUID getLoteId() { return v.getLote().getLoteId(); }
+        @Override public String getLoteNombre() { return v.getLote().getNombre(); }
+        @Override public UUID getProyectoId() { return v.getLote().getProyecto().getProyectoId(); }
+        @Override public String getProyectoNombre() { return v.getLote().getProyecto().getNombre(); }
+        @Override public UUID getEstadoVentaId() { return v.getEstadoVenta().getEstadoVentaId(); }
+        @Override public String getEstadoVentaNombre() { return v.getEstadoVenta().getNombre(); }
+        @Override public UUID getMonedaId() { return v.getMoneda().getMonedaId(); }
+        @Override public String getMonedaNombre() { return v.getMoneda().getNombre(); }
+        @Override public LocalDateTime getFechaCreacion() { return v.getFechaCreacion(); }
+        @Override public LocalDate getFechaContrato() { return v.getFechaContrato(); }
+        @Override public Integer getNroCuotas() { return v.getNroCuotas(); }
+        @Override public Double getMontoTotal() { return v.getMontoTotal(); }
+        @Override public Double getMontoAbonado() { return v.getMontoAbonado(); }
+    }
+}
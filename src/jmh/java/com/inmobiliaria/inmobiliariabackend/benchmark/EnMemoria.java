@@ -0,0 +1,52 @@
+package com.inmobiliaria.inmobiliariabackend.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repositorios falsos para benchmarks: implementa la interfaz con un Proxy y responde solo los métodos
+ * registrados (por nombre); cualquier otro lanza UnsupportedOperationException para que el benchmark
+ * no mida por accidente un camino distinto al esperado.
+ * El costo de despacho es similar al del proxy que Spring Data arma sobre los repositorios reales.
+ */
+public final class EnMemoria<R> {
+
+    private final Class<R> tipo;
+    private final Map<String, Function<Object[], Object>> metodos = new HashMap<>();
+
+    private EnMemoria(Class<R> tipo) {
+        this.tipo = tipo;
+    }
+
+    public static <R> EnMemoria<R> de(Class<R> tipo) {
+        return new EnMemoria<>(tipo);
+    }
+
+    public EnMemoria<R> con(String metodo, Function<Object[], Object> respuesta) {
+        metodos.put(metodo, respuesta);
+        return this;
+    }
+
+    public R crear() {
+        Map<String, Function<Object[], Object>> registrados = new HashMap<>(metodos);
+        Object proxy = Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (instancia, metodo, args) -> {
+            switch (metodo.getName()) {
+                case "toString":
+                    return "EnMemoria<" + tipo.getSimpleName() + ">";
+                case "hashCode":
+                    return System.identityHashCode(instancia);
+                case "equals":
+                    return instancia == args[0];
+                default:
+                    Function<Object[], Object> respuesta = registrados.get(metodo.getName());
+                    if (respuesta == null) {
+                        throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+                    }
+                    return respuesta.apply(args);
+            }
+        });
+        return tipo.cast(proxy);
+    }
+}
@@ -0,0 +1,66 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.benchmark.DatosBenchmark;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización Jackson de los listados de lotes y ventas, con un ObjectMapper configurado como el de
+ * Spring Boot (módulos de java.time) y la salida indentada que usa la aplicación (indent_output: true).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacionDtoBenchmark {
+
+    @Param({"100", "1000"})
+    private int cantidad;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().indentOutput(true).build();
+    private List<LoteResponseDTO> lotes;
+    private List<VentaResponseDTO> ventas;
+
+    @Setup
+    public void preparar() {
+        DatosBenchmark datos = new DatosBenchmark(cantidad);
+        lotes = new ArrayList<>(cantidad);
+        for (Lote l : datos.lotes) {
+            lotes.add(new LoteResponseDTO(l.getLoteId(), l.getNombre(), l.getDescripcion(), l.getPrecio(), l.getArea(),
+                    l.getEstadoLote().getNombre(), l.getProyecto().getDistrito().getNombre(), l.getDireccion(), true,
+                    l.getProyecto().getProyectoId(), l.getProyecto().getNombre(), l.getProyecto().getDistrito().getDistritoId(),
+                    l.getProyecto().getDistrito().getProvincia().getProvinciaId(),
+                    l.getProyecto().getDistrito().getProvincia().getDepartamento().getDepartamentoId()));
+        }
+        ventas = new ArrayList<>(cantidad);
+        for (Venta v : datos.ventas) {
+            double abonado = v.getMontoAbonado() != null ? v.getMontoAbonado() : 0.0;
+            ventas.add(new VentaResponseDTO(v.getVentaId(), v.getCliente().getClienteId(),
+                    v.getCliente().getPrimerNombre() + " " + v.getCliente().getApellidoPaterno(),
+                    v.getLote().getLoteId(), v.getLote().getNombre(), v.getLote().getProyecto().getProyectoId(),
+                    v.getLote().getProyecto().getNombre(), v.getEstadoVenta().getEstadoVentaId(), v.getEstadoVenta().getNombre(),
+                    v.getMoneda().getMonedaId(), v.getMoneda().getNombre(), v.getFechaContrato(), v.getNroCuotas(),
+                    v.getMontoTotal(), abonado, v.getMontoTotal() - abonado, true));
+        }
+    }
+
+    @Benchmark
+    public byte[] lotes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lotes);
+    }
+
+    @Benchmark
+    public byte[] ventas() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ventas);
+    }
+}
@@ -0,0 +1,50 @@
+package com.inmobiliaria.inmobiliariabackend.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de JwtUtil por petición.
+ * validarEnCache es el caso normal del filtro (token ya verificado); generarYValidar siempre falla
+ * la caché, así que validarSinCache ≈ generarYValidar - generar es el costo de parsear + HMAC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final UserDetails usuario = new User("agente.ventas", "x",
+            Collections.singletonList(new SimpleGrantedAuthority("AGENTE VENTAS")));
+    private String token;
+
+    @Setup
+    public void preparar() {
+        token = jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String generar() {
+        return jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public boolean generarYValidar() {
+        return jwtUtil.validateToken(jwtUtil.generateToken(usuario), usuario);
+    }
+
+    @Benchmark
+    public boolean validarEnCache() {
+        Claims claims = jwtUtil.getClaims(token);
+        return jwtUtil.validateToken(claims, usuario);
+    }
+}
@@ -0,0 +1,47 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.benchmark.DatosBenchmark;
+import com.inmobiliaria.inmobiliariabackend.model.Cliente;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda en memoria (IndiceBusquedaService) sobre lotes, clientes y ventas sintéticos.
+ * Consultas: una palabra frecuente, un prefijo corto (muchos términos) y dos palabras con acentos (intersección).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndiceBusquedaBenchmark {
+
+    @Param({"10000"})
+    private int cantidad;
+
+    @Param({"quispe", "lo", "Pérez Álamos"})
+    private String consulta;
+
+    private IndiceBusquedaService indice;
+
+    @Setup
+    public void preparar() {
+        DatosBenchmark datos = new DatosBenchmark(cantidad);
+        indice = new IndiceBusquedaService();
+        for (Lote lote : datos.lotes) indice.actualizar(IndiceBusquedaService.Tipo.LOTE, lote.getLoteId(), lote);
+        for (Cliente cliente : datos.clientes) indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, cliente.getClienteId(), cliente);
+        for (Venta venta : datos.ventas) indice.actualizar(IndiceBusquedaService.Tipo.VENTA, venta.getVentaId(), venta);
+    }
+
+    @Benchmark
+    public Map<IndiceBusquedaService.Tipo, List<UUID>> buscar() {
+        return indice.buscar(consulta, 50);
+    }
+}
@@ -0,0 +1,88 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.benchmark.DatosBenchmark;
+import com.inmobiliaria.inmobiliariabackend.benchmark.EnMemoria;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResumenProjection;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo entidad → DTO de LoteService y VentaService a través de sus métodos públicos, con repositorios
+ * en memoria: mide solo el trabajo en Java (mapeo, streams, cálculo de saldos), sin base de datos.
+ * <ul>
+ *     <li>lotes: listarActivos() → mapearLoteADto por cada lote</li>
+ *     <li>ventasEntidad: obtenerPorId() → mapearVentaADto (la mitad suma abonos en el repositorio falso)</li>
+ *     <li>ventasResumen: listar() → mapearResumenADto sobre la proyección del listado</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeoDtoBenchmark {
+
+    @Param({"100", "1000"})
+    private int cantidad;
+
+    private LoteService loteService;
+    private VentaService ventaService;
+    private UUID[] idsVentas;
+
+    @Setup
+    public void preparar() {
+        DatosBenchmark datos = new DatosBenchmark(cantidad);
+        Map<UUID, Venta> ventasPorId = new HashMap<>();
+        for (Venta venta : datos.ventas) ventasPorId.put(venta.getVentaId(), venta);
+        List<VentaResumenProjection> resumenes = datos.resumenes();
+
+        LoteRepository loteRepository = EnMemoria.de(LoteRepository.class)
+                .con("findByFechaEliminacionIsNull", args -> {
+                    if (args != null && args.length > 0) throw new UnsupportedOperationException("paginado");
+                    return datos.lotes;
+                })
+                .crear();
+        VentaRepository ventaRepository = EnMemoria.de(VentaRepository.class)
+                .con("findById", args -> Optional.ofNullable(ventasPorId.get((UUID) args[0])))
+                .con("listarResumenActivas", args -> resumenes)
+                .crear();
+        AbonoRepository abonoRepository = EnMemoria.de(AbonoRepository.class)
+                .con("sumarMontoAbonadoPorVenta", args -> 1_500.0)
+                .crear();
+        CatalogoRegistry catalogos = new CatalogoRegistry(
+                EnMemoria.de(EstadoVentaRepository.class).con("findAll", args -> Collections.singletonList(datos.estadoVenta)).crear(),
+                EnMemoria.de(EstadoLoteRepository.class).con("findAll", args -> Collections.singletonList(datos.estadoLote)).crear(),
+                EnMemoria.de(MonedaRepository.class).con("findAll", args -> Collections.singletonList(datos.moneda)).crear());
+
+        loteService = new LoteService(loteRepository, EnMemoria.de(ProyectoRepository.class).crear(), ventaRepository,
+                catalogos, null, new IndiceBusquedaService(), null, null);
+        ventaService = new VentaService(ventaRepository, EnMemoria.de(ClienteRepository.class).crear(), loteRepository,
+                abonoRepository, catalogos, null, new IndiceBusquedaService(), null, null);
+        idsVentas = ventasPorId.keySet().toArray(new UUID[0]);
+    }
+
+    @Benchmark
+    public List<LoteResponseDTO> lotes() {
+        return loteService.listarActivos();
+    }
+
+    @Benchmark
+    public void ventasEntidad(Blackhole bh) {
+        for (UUID id : idsVentas) {
+            bh.consume(ventaService.obtenerPorId(id));
+        }
+    }
+
+    @Benchmark
+    public List<VentaResponseDTO> ventasResumen() {
+        return ventaService.listar();
+    }
+}
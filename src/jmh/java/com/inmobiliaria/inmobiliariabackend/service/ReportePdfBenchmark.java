@@ -0,0 +1,52 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación del reporte mensual en PDF con datos del tamaño que devuelve el servicio de IA.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportePdfBenchmark {
+
+    private final ReporteMensualPdfService servicio = new ReporteMensualPdfService(new SimpleMeterRegistry(), "");
+    private final ByteArrayOutputStream salida = new ByteArrayOutputStream(64 * 1024);
+    private Map<String, Object> data;
+
+    @Setup
+    public void preparar() {
+        Map<String, Object> proyectos = new LinkedHashMap<>();
+        Map<String, Object> zonas = new LinkedHashMap<>();
+        Map<String, Object> tickets = new LinkedHashMap<>();
+        for (int i = 1; i <= 10; i++) {
+            proyectos.put("Proyecto " + i, 40 - i * 3);
+            zonas.put("Zona " + i, 25 - i * 2);
+            tickets.put("Proyecto " + i, 35_000.0 + i * 1_250.5);
+        }
+        data = new HashMap<>();
+        data.put("ventas_mes", 128);
+        data.put("proyectos_con_mas_ventas", proyectos);
+        data.put("zonas_top", zonas);
+        data.put("ticket_promedio_proyecto", tickets);
+        data.put("recomendaciones", Arrays.asList(
+                "Reforzar la publicidad de los proyectos con menor movimiento.",
+                "Ofrecer descuentos por pago al contado en lotes esquineros.",
+                "Priorizar el seguimiento de clientes con cuotas vencidas."));
+    }
+
+    @Benchmark
+    public int generarReporteProfesional() {
+        salida.reset();
+        servicio.generarReporteProfesional(data, salida);
+        return salida.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara limpiarAcentos (tabla, una pasada) con la implementación original basada en Normalizer + regex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextUtilBenchmark {
+
+    @Param({"ascii", "espanol", "mixto"})
+    private String tipo;
+
+    private String[] textos;
+
+    @Setup
+    public void preparar() {
+        switch (tipo) {
+            case "ascii":
+                textos = new String[]{"lote 12 manzana b", "los alamos etapa 2", "juan perez 45871236", "disponible"};
+                break;
+            case "espanol":
+                textos = new String[]{"Lote 12 Manzana B", "Los Álamos – Etapa 2", "José Núñez Pérez 45871236", "Reservado"};
+                break;
+            default:
+                textos = new String[]{"Ñandú Ωmega", "Zoë Łukasz", "Straße ﬁnal", "Ǆemal Çelik"};
+        }
+    }
+
+    @Benchmark
+    public void tabla(Blackhole bh) {
+        for (String texto : textos) {
+            bh.consume(TextUtil.limpiarAcentos(texto));
+        }
+    }
+
+    @Benchmark
+    public void normalizer(Blackhole bh) {
+        for (String texto : textos) {
+            bh.consume(TextUtil.limpiarAcentosReferencia(texto));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inmobiliaria.inmobiliariabackend.config;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente HTTP compartido para el servicio de IA: conexiones reutilizadas desde un pool acotado y
+ * timeouts en todas las etapas (obtener conexión del pool, conectar, leer).
+ */
+@Configuration
+public class IaClientConfig {
+
+    @Bean
+    public RestTemplate iaRestTemplate(@Value("${app.ia.cliente.pool-max:20}") int poolMax,
+                                       @Value("${app.ia.cliente.pool-por-ruta:10}") int poolPorRuta,
+                                       @Value("${app.ia.cliente.espera-pool-ms:1000}") int esperaPoolMs,
+                                       @Value("${app.ia.cliente.connect-timeout-ms:2000}") int connectTimeoutMs,
+                                       @Value("${app.ia.cliente.read-timeout-ms:10000}") int readTimeoutMs) {
+        PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager(60, TimeUnit.SECONDS);
+        pool.setMaxTotal(poolMax);
+        pool.setDefaultMaxPerRoute(poolPorRuta);
+        pool.setValidateAfterInactivity(5000);
+
+        RequestConfig config = RequestConfig.custom()
+                .setConnectionRequestTimeout(esperaPoolMs)
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(HttpClientBuilder.create()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(config)
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.inmobiliaria.inmobiliariabackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.service.HttpOutboxSink;
+import com.inmobiliaria.inmobiliariabackend.service.LocalOutboxSink;
+import com.inmobiliaria.inmobiliariabackend.service.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.time.Duration;
+
+/**
+ * Destino del outbox, solo si el relay está habilitado: HTTP hacia app.outbox.sink.url.
+ * Sin URL no arranca, salvo con el perfil "ia-stub" (desarrollo), que usa el destino local en memoria:
+ * en cualquier otro caso los eventos se marcarían como enviados y se purgarían sin haber salido.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.relay.habilitado", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(@Value("${app.outbox.sink.url:}") String url,
+                                 @Value("${app.outbox.sink.timeout-ms:5000}") long timeoutMs,
+                                 RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+                                 Environment environment) {
+        if (url == null || url.isBlank()) {
+            if (environment.acceptsProfiles(Profiles.of("ia-stub"))) {
+                return new LocalOutboxSink(1000);
+            }
+            throw new IllegalStateException("app.outbox.relay.habilitado=true requiere app.outbox.sink.url (IA_OUTBOX_URL); "
+                    + "el destino en memoria solo se usa con el perfil ia-stub");
+        }
+        return new HttpOutboxSink(restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build(), url, objectMapper);
+    }
+}
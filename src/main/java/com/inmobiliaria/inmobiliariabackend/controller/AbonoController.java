@@ -1,14 +1,24 @@
 package com.inmobiliaria.inmobiliariabackend.controller;
 
 import com.inmobiliaria.inmobiliariabackend.dto.AbonoDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Abono;
+import com.inmobiliaria.inmobiliariabackend.service.AbonoImportacionService;
 import com.inmobiliaria.inmobiliariabackend.service.AbonoService;
+import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,9 +27,11 @@ import java.util.UUID;
 public class AbonoController {
 
     private final AbonoService abonoService;
+    private final AbonoImportacionService abonoImportacionService;
 
-    public AbonoController(AbonoService abonoService) {
+    public AbonoController(AbonoService abonoService, AbonoImportacionService abonoImportacionService) {
         this.abonoService = abonoService;
+        this.abonoImportacionService = abonoImportacionService;
     }
 
     /**
@@ -40,6 +52,37 @@ public class AbonoController {
         }
     }
 
+    @Operation(summary = "Importar abonos (CSV)",
+            description = "Archivo de conciliación bancaria. Cabecera: ventaId, montoAbonado (o monto) y fechaAbono (o fecha: "
+                    + "yyyy-MM-dd, yyyy-MM-ddTHH:mm o dd/MM/yyyy); separador ',' o ';'. Cada línea se valida contra el saldo "
+                    + "que dejan las anteriores de la misma venta; las válidas se registran aunque otras se rechacen. "
+                    + "Responde 201 si se registró al menos una y 422 si ninguna, con el resultado de cada línea.")
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> importarAbonosCsv(HttpServletRequest request) {
+        // Sin charset en el Content-Type se asume UTF-8 (el servlet usaría ISO-8859-1)
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        try (Reader csv = new InputStreamReader(request.getInputStream(), charset)) {
+            return respuestaImportacion(abonoImportacionService.importarCsv(csv));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("No se pudo leer el archivo CSV.");
+        }
+    }
+
+    @Operation(summary = "Importar abonos (JSON)",
+            description = "Arreglo de abonos con los campos de POST /api/abonos; mismas reglas que la importación CSV.")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importarAbonosJson(@RequestBody List<AbonoDTO> abonos) {
+        try {
+            return respuestaImportacion(abonoImportacionService.importar(abonos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     /**
      * GET /api/abonos/venta/{ventaId} : Obtiene todos los abonos de una venta específica.
      * Retorna una lista de abonos.
@@ -51,4 +94,10 @@ public class AbonoController {
         // Si no se encuentran abonos, regresa una lista vacía (200 OK)
         return ResponseEntity.ok(abonos);
     }
+
+    private static ResponseEntity<ImportacionAbonosDTO> respuestaImportacion(ImportacionAbonosDTO resultado) {
+        return ResponseEntity
+                .status(resultado.getRegistrados() > 0 ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(resultado);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.inmobiliaria.inmobiliariabackend.controller;
+
+import com.inmobiliaria.inmobiliariabackend.service.IndiceBusquedaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Tag(name = "Búsqueda", description = "Búsqueda rápida sobre el índice en memoria de lotes, ventas, clientes y proyectos")
+@RestController
+@RequestMapping("/api/busqueda")
+@CrossOrigin(origins = "*")
+public class BusquedaController {
+
+    private final IndiceBusquedaService indiceBusqueda;
+
+    public BusquedaController(IndiceBusquedaService indiceBusqueda) {
+        this.indiceBusqueda = indiceBusqueda;
+    }
+
+    @GetMapping
+    @Operation(summary = "Búsqueda rápida", description = "Devuelve los IDs por tipo de entidad cuyo texto contiene todas las palabras (como prefijo, sin acentos)")
+    public ResponseEntity<Map<IndiceBusquedaService.Tipo, List<UUID>>> buscar(@RequestParam String q,
+                                                                            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(indiceBusqueda.buscar(q, limit));
+    }
+
+    @GetMapping("/indice")
+    @Operation(summary = "Estado del índice", description = "Documentos, términos y tamaño de las listas de posiciones por tipo de entidad")
+    public ResponseEntity<Map<IndiceBusquedaService.Tipo, Map<String, Long>>> estadisticas() {
+        return ResponseEntity.ok(indiceBusqueda.estadisticas());
+    }
+
+    @PostMapping("/indice/reconstruir")
+    @Operation(summary = "Reconstruir índice", description = "Vuelve a cargar el índice en memoria desde la base de datos")
+    public ResponseEntity<Map<IndiceBusquedaService.Tipo, Map<String, Long>>> reconstruir() {
+        return ResponseEntity.ok(indiceBusqueda.reconstruir());
+    }
+}
@@ -11,7 +11,6 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid; // ✨ Para validar DTO con anotaciones
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Clientes", description = "Operaciones relacionadas con clientes")
@@ -28,7 +27,16 @@ public class ClienteController {
 
     @GetMapping
     @Operation(summary = "Listar clientes", description = "Obtiene todos los clientes activos")
-    public ResponseEntity<List<Cliente>> listarTodos(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listarTodos(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(clienteService.listarClientesPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(clienteService.listarClientes(search));
     }
 
@@ -10,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Estados de Venta", description = "Gestión de los estados en los que puede estar una venta")
@@ -27,7 +26,16 @@ public class EstadoVentaController {
 
     @GetMapping
     @Operation(summary = "Listar estados de venta", description = "Obtiene todos los estados de venta activos")
-    public ResponseEntity<List<EstadoVenta>> listar(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(estadoVentaService.listarPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(estadoVentaService.listar(search));
     }
 
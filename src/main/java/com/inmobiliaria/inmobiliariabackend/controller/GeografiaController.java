@@ -0,0 +1,83 @@
+package com.inmobiliaria.inmobiliariabackend.controller;
+
+import com.inmobiliaria.inmobiliariabackend.service.GeografiaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Geografía", description = "Árbol de departamentos, provincias y distritos (solo lectura)")
+@RestController
+@RequestMapping("/api/geografia")
+@CrossOrigin(origins = "*")
+public class GeografiaController {
+
+    private final GeografiaService geografiaService;
+
+    public GeografiaController(GeografiaService geografiaService) {
+        this.geografiaService = geografiaService;
+    }
+
+    @GetMapping("/arbol")
+    @Operation(summary = "Árbol geográfico completo",
+            description = "Devuelve departamentos → provincias → distritos activos desde una copia en memoria. " +
+                    "Soporta gzip (Accept-Encoding) y If-None-Match: si el ETag coincide responde 304 sin cuerpo.")
+    public ResponseEntity<byte[]> arbol(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        GeografiaService.Arbol arbol = geografiaService.obtenerArbol();
+        boolean gzip = aceptaGzip(acceptEncoding);
+        String etag = gzip ? arbol.getEtagGzip() : arbol.getEtag();
+
+        if (coincideEtag(ifNoneMatch, arbol)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(arbol.getGzip());
+        }
+        return respuesta.body(arbol.getJson());
+    }
+
+    @PostMapping("/arbol/recargar")
+    @Operation(summary = "Recargar árbol geográfico", description = "Vuelve a leer el árbol desde la base y renueva el ETag.")
+    public ResponseEntity<Void> recargar() {
+        geografiaService.recargar();
+        return ResponseEntity.noContent().build();
+    }
+
+    private static boolean aceptaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String codificacion : acceptEncoding.split(",")) {
+            String[] partes = codificacion.trim().split(";");
+            if (!partes[0].trim().equalsIgnoreCase("gzip")) continue;
+            // "gzip;q=0" significa que el cliente lo rechaza
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.startsWith("q=") && parametro.substring(2).trim().matches("0(\\.0*)?")) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Cualquiera de las dos representaciones vigentes vale (un proxy pudo haber descomprimido la respuesta)
+    private static boolean coincideEtag(String ifNoneMatch, GeografiaService.Arbol arbol) {
+        if (ifNoneMatch == null) return false;
+        for (String candidato : ifNoneMatch.split(",")) {
+            String etag = candidato.trim();
+            if (etag.startsWith("W/")) etag = etag.substring(2);
+            if (etag.equals("*") || etag.equals(arbol.getEtag()) || etag.equals(arbol.getEtagGzip())) return true;
+        }
+        return false;
+    }
+}
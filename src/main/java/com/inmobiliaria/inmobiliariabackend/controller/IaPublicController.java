@@ -1,17 +1,26 @@
 package com.inmobiliaria.inmobiliariabackend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.dto.CambiosDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.LoteResponseDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.ProyectoResponseDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.VentaResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.service.CambiosService;
 import com.inmobiliaria.inmobiliariabackend.service.VentaService;
 import com.inmobiliaria.inmobiliariabackend.service.LoteService;
 import com.inmobiliaria.inmobiliariabackend.service.ProyectoService;
+import com.inmobiliaria.inmobiliariabackend.util.EscritorJsonStream;
 import io.swagger.v3.oas.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/ia")
@@ -20,15 +29,23 @@ public class IaPublicController {
     private final VentaService ventaService;
     private final LoteService loteService;
     private final ProyectoService proyectoService;
+    private final CambiosService cambiosService;
+    private final ObjectMapper objectMapper;
+
+    private static final Logger log = LoggerFactory.getLogger(IaPublicController.class);
 
     public IaPublicController(
             VentaService ventaService,
             LoteService loteService,
-            ProyectoService proyectoService
+            ProyectoService proyectoService,
+            CambiosService cambiosService,
+            ObjectMapper objectMapper
     ) {
         this.ventaService = ventaService;
         this.loteService = loteService;
         this.proyectoService = proyectoService;
+        this.cambiosService = cambiosService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/ventas")
@@ -37,6 +54,22 @@ public class IaPublicController {
         return ResponseEntity.ok(ventaService.listar());
     }
 
+    @GetMapping("/ventas/exportar")
+    @Operation(summary = "Exportar ventas (streaming)",
+            description = "Envía todas las ventas activas a medida que se leen de la base, sin armar la lista en memoria. " +
+                    "formato=ndjson (por defecto, un objeto por línea) o json (un arreglo).")
+    public ResponseEntity<StreamingResponseBody> exportarVentas(@RequestParam(required = false) String formato) {
+        return exportar(formato, "ventas", ventaService::exportarActivas);
+    }
+
+    @GetMapping("/lotes/exportar")
+    @Operation(summary = "Exportar lotes (streaming)",
+            description = "Envía todos los lotes activos a medida que se leen de la base, sin armar la lista en memoria. " +
+                    "formato=ndjson (por defecto, un objeto por línea) o json (un arreglo).")
+    public ResponseEntity<StreamingResponseBody> exportarLotes(@RequestParam(required = false) String formato) {
+        return exportar(formato, "lotes", loteService::exportarActivos);
+    }
+
     @GetMapping("/lotes")
     @Operation(summary = "Listar lotes con paginación", description = "Obtiene los lotes activos paginados")
     public ResponseEntity<Page<LoteResponseDTO>> listarPaginado(
@@ -51,5 +84,44 @@ public class IaPublicController {
     public ResponseEntity<List<ProyectoResponseDTO>> listarActivos() {
         return ResponseEntity.ok(proyectoService.listarActivos());
     }
-}
 
+    @GetMapping("/cambios")
+    @Operation(summary = "Feed de cambios",
+            description = "Ventas, lotes y proyectos creados, modificados o eliminados después de la marca 'since' " +
+                    "(la 'marca' de la respuesta anterior o una fecha ISO; sin 'since' devuelve todo, paginado). " +
+                    "Los eliminados llegan en 'eliminados'. Si 'haySiguiente' es true, volver a llamar con la nueva marca.")
+    public ResponseEntity<CambiosDTO> cambios(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(cambiosService.cambiosDesde(since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> exportar(String formato, String recurso, Consumer<Consumer<T>> origen) {
+        EscritorJsonStream.Formato formatoSalida;
+        try {
+            formatoSalida = EscritorJsonStream.Formato.desde(formato);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // La consulta (y su transacción) corre en el hilo que escribe la respuesta, fila por fila
+        StreamingResponseBody cuerpo = salida -> {
+            try (EscritorJsonStream escritor = new EscritorJsonStream(objectMapper, salida, formatoSalida)) {
+                origen.accept(escritor::accept);
+                escritor.terminar();
+            } catch (RuntimeException e) {
+                // Los encabezados ya se enviaron: solo queda cortar la respuesta (el arreglo queda sin cerrar)
+                log.error("Exportación de {} interrumpida", recurso, e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoSalida.getContentType()))
+                .body(cuerpo);
+    }
+}
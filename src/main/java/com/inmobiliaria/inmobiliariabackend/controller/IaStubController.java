@@ -0,0 +1,46 @@
+package com.inmobiliaria.inmobiliariabackend.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imitación local del endpoint de reportes del servicio de IA para desarrollo sin conexión.
+ * Se activa con el perfil "ia-stub" apuntando IA_SERVICE_URL a esta misma aplicación;
+ * app.ia.stub.retraso-ms permite simular un servicio lento para probar timeouts y el circuit breaker.
+ */
+@RestController
+@Profile("ia-stub")
+public class IaStubController {
+
+    @Value("${app.ia.stub.retraso-ms:0}")
+    private long retrasoMs;
+
+    @GetMapping("/api/v1/reportes/api/reportes/mensual")
+    public Map<String, Object> reporteMensual() throws InterruptedException {
+        if (retrasoMs > 0) Thread.sleep(retrasoMs);
+
+        Map<String, Object> proyectos = new LinkedHashMap<>();
+        proyectos.put("Los Álamos", 12);
+        proyectos.put("Villa Sol", 7);
+        Map<String, Object> zonas = new LinkedHashMap<>();
+        zonas.put("Miraflores", 9);
+        zonas.put("Surco", 6);
+        Map<String, Object> tickets = new LinkedHashMap<>();
+        tickets.put("Los Álamos", 85000.0);
+        tickets.put("Villa Sol", 62000.0);
+
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        reporte.put("ventas_mes", 19);
+        reporte.put("proyectos_con_mas_ventas", proyectos);
+        reporte.put("zonas_top", zonas);
+        reporte.put("ticket_promedio_proyecto", tickets);
+        reporte.put("recomendaciones", List.of("Reforzar la publicidad de Villa Sol.", "Mantener precios en Los Álamos."));
+        return reporte;
+    }
+}
@@ -54,6 +54,9 @@ public class LoteController {
         } catch (IllegalArgumentException e) {
             // Maneja Lote no encontrado o error de unicidad al actualizar
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // Conflicto: el estado del lote cambió en paralelo (p. ej. una reserva)
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 
@@ -112,11 +115,20 @@ public class LoteController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar lotes con paginación", description = "Obtiene los lotes activos paginados.")
-    public ResponseEntity<Page<LoteResponseDTO>> listarPaginado(
+    @Operation(summary = "Listar lotes con paginación", description = "Obtiene los lotes activos paginados. Con 'cursor' o 'limit' usa paginación por cursor (sin conteo total).")
+    public ResponseEntity<?> listarPaginado(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(loteService.listarLotesPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(loteService.listarLotesPaginados(page, size, search));
     }
 }
\ No newline at end of file
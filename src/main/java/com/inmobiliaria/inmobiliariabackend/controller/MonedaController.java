@@ -10,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Monedas", description = "Gestión de monedas disponibles para transacciones")
@@ -27,7 +26,15 @@ public class MonedaController {
 
     @GetMapping
     @Operation(summary = "Listar monedas", description = "Obtiene todas las monedas activas")
-    public ResponseEntity<List<Moneda>> listar() {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(monedaService.listarPorCursor(cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(monedaService.listar());
     }
 
@@ -1,17 +1,27 @@
 package com.inmobiliaria.inmobiliariabackend.controller;
 
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionLotesDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteImportacionFilaDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.ProyectoRequestDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.ProyectoResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.service.LoteImportacionService;
 import com.inmobiliaria.inmobiliariabackend.service.ProyectoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,9 +32,11 @@ import java.util.UUID;
 public class ProyectoController {
 
     private final ProyectoService proyectoService;
+    private final LoteImportacionService loteImportacionService;
 
-    public ProyectoController(ProyectoService proyectoService) {
+    public ProyectoController(ProyectoService proyectoService, LoteImportacionService loteImportacionService) {
         this.proyectoService = proyectoService;
+        this.loteImportacionService = loteImportacionService;
     }
 
     @Operation(summary = "Crear un nuevo proyecto", description = "Registra un nuevo proyecto con su ubicación.")
@@ -68,7 +80,16 @@ public class ProyectoController {
 
     @Operation(summary = "Listar todos los proyectos activos")
     @GetMapping
-    public ResponseEntity<List<ProyectoResponseDTO>> listarActivos(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listarActivos(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(proyectoService.listarActivosPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(proyectoService.listarActivos(search));
     }
 
@@ -78,4 +99,44 @@ public class ProyectoController {
         proyectoService.eliminarProyecto(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Importar lotes de un proyecto (CSV)",
+            description = "Cabecera: nombre, descripcion, precio, area, direccion y estado (nombre, por defecto Disponible) "
+                    + "o estadoLoteId; separador ',' o ';'. Se valida todo antes de insertar: si alguna fila tiene errores "
+                    + "no se importa ninguna y se responde 422 con el detalle por fila.")
+    @PostMapping(value = "/{id}/lotes/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> importarLotesCsv(@PathVariable UUID id, HttpServletRequest request) {
+        // Sin charset en el Content-Type se asume UTF-8 (el servlet usaría ISO-8859-1)
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        try (Reader csv = new InputStreamReader(request.getInputStream(), charset)) {
+            return respuestaImportacion(loteImportacionService.importarCsv(id, csv));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("No se pudo leer el archivo CSV.");
+        }
+    }
+
+    @Operation(summary = "Importar lotes de un proyecto (JSON)",
+            description = "Arreglo de lotes con los mismos campos que la importación CSV; mismas reglas de validación.")
+    @PostMapping(value = "/{id}/lotes/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importarLotesJson(@PathVariable UUID id, @RequestBody List<LoteImportacionFilaDTO> filas) {
+        try {
+            return respuestaImportacion(loteImportacionService.importar(id, filas));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<ImportacionLotesDTO> respuestaImportacion(ImportacionLotesDTO resultado) {
+        return ResponseEntity
+                .status(resultado.getErrores().isEmpty() ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(resultado);
+    }
+}
@@ -0,0 +1,88 @@
+package com.inmobiliaria.inmobiliariabackend.controller;
+
+import com.inmobiliaria.inmobiliariabackend.dto.ReporteJobDTO;
+import com.inmobiliaria.inmobiliariabackend.service.ReporteJobService;
+import com.inmobiliaria.inmobiliariabackend.service.ReporteMensualService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.security.Principal;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+@Tag(name = "Reportes (trabajos)", description = "Generación de reportes en segundo plano: encolar, consultar estado y descargar")
+@RestController
+@RequestMapping("/api/reportes/jobs")
+public class ReporteJobController {
+
+    private final ReporteJobService reporteJobService;
+
+    public ReporteJobController(ReporteJobService reporteJobService) {
+        this.reporteJobService = reporteJobService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Encolar reporte mensual",
+            description = "Responde 202 con el id del trabajo (misma fuente/mes que /api/reportes/mensual/pdf). "
+                    + "429 si el usuario ya tiene el máximo de reportes en curso, 503 si la cola está llena.")
+    public ResponseEntity<?> encolar(@RequestParam(defaultValue = "ia") String fuente,
+                                     @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth mes,
+                                     Principal principal) {
+        try {
+            ReporteJobDTO job = reporteJobService.encolar(principal.getName(), fuente, mes);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reportes/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (ReporteJobService.JobRechazadoException e) {
+            HttpStatus estado = e.getMotivo() == ReporteJobService.JobRechazadoException.Motivo.LIMITE_USUARIO
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.SERVICE_UNAVAILABLE;
+            return ResponseEntity.status(estado).header(HttpHeaders.RETRY_AFTER, "5").body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Estado del trabajo",
+            description = "PENDIENTE, EN_PROCESO, COMPLETADO (con descargaUrl) o FALLIDO; 404 si el trabajo es de otro usuario")
+    public ResponseEntity<ReporteJobDTO> estado(@PathVariable UUID id, Principal principal) {
+        return reporteJobService.obtener(id, principal.getName())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    @Operation(summary = "Descargar resultado",
+            description = "404 si el trabajo es de otro usuario; 409 si aún no terminó o falló; 410 si el PDF ya no está en caché")
+    public ResponseEntity<?> descargar(@PathVariable UUID id, Principal principal) {
+        if (reporteJobService.obtener(id, principal.getName()).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<ReporteMensualService.ReportePdf> resultado = reporteJobService.resultado(id, principal.getName());
+        if (resultado.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        ReporteMensualService.ReportePdf pdf = resultado.get();
+        if (!Files.exists(pdf.getEntrada().getArchivo())) {
+            // Descartado de la caché de disco: hay que encolar otro trabajo
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .eTag(pdf.getEtag())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=reporte_mensual.pdf")
+                .header("X-Reporte-Fuente", pdf.getFuente())
+                .contentType(MediaType.APPLICATION_PDF)
+                .contentLength(pdf.getEntrada().getTamano());
+        if (pdf.getRespaldoDesde() != null) {
+            respuesta.header("X-Reporte-Respaldo", pdf.getRespaldoDesde().toString());
+        }
+        return respuesta.body(new FileSystemResource(pdf.getEntrada().getArchivo()));
+    }
+}
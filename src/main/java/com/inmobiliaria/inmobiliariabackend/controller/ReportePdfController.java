@@ -1,42 +1,77 @@
 package com.inmobiliaria.inmobiliariabackend.controller;
 
-import com.inmobiliaria.inmobiliariabackend.service.ReporteMensualPdfService;
+import com.inmobiliaria.inmobiliariabackend.service.ReporteMensualService;
+import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.ByteArrayInputStream;
-import java.util.Map;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/reportes")
 public class ReportePdfController {
 
+    // Métricas (IA o base local) + PDF en caché de disco direccionada por contenido
     @Autowired
-    private ReporteMensualPdfService reporteService;
-
-    private final String IA_URL = System.getenv().getOrDefault("IA_SERVICE_URL", "http://localhost:8000") + "/api/v1/reportes/api/reportes/mensual";
+    private ReporteMensualService reporteMensualService;
 
+    @Operation(summary = "Reporte mensual en PDF",
+            description = "fuente=ia (por defecto) usa el servicio de IA e incluye recomendaciones; si no está disponible "
+                    + "se calculan las métricas localmente. fuente=local calcula las métricas del mes indicado (yyyy-MM, "
+                    + "por defecto el actual; a lo más app.reportes.meses-historial meses atrás, si no 400) con una "
+                    + "consulta a la base. El PDF se sirve desde caché con ETag y "
+                    + "Last-Modified: If-None-Match / If-Modified-Since vigentes responden 304.")
     @GetMapping(value = "/mensual/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> generarReportePdf() {
+    public ResponseEntity<?> generarReportePdf(
+            @RequestParam(defaultValue = "ia") String fuente,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth mes,
+            @RequestHeader HttpHeaders solicitud) {
         try {
-            RestTemplate rt = new RestTemplate();
-            Map<String, Object> data = rt.getForObject(IA_URL, Map.class);
-
-            // logoPath puede ser una ruta absoluta o classpath resource; pasar null si no hay.
-            String logoPath = null; // "/path/to/logo.png"   o null
-            ByteArrayInputStream bis = reporteService.generarReporteProfesional(data, logoPath);
+            ReporteMensualService.ReportePdf pdf = reporteMensualService.obtenerPdf(fuente, mes);
+            long lastModified = pdf.getEntrada().getGenerado().toEpochMilli();
 
-            byte[] bytes = bis.readAllBytes();
             HttpHeaders headers = new HttpHeaders();
+            headers.setETag(pdf.getEtag());
+            headers.setLastModified(lastModified);
+            headers.setCacheControl(CacheControl.noCache());
+            headers.set("X-Reporte-Fuente", pdf.getFuente());
+            if (pdf.getRespaldoDesde() != null) {
+                // Datos de la última respuesta válida del servicio de IA
+                headers.set("X-Reporte-Respaldo", pdf.getRespaldoDesde().toString());
+            }
+
+            if (noModificado(solicitud, pdf.getEtag(), lastModified)) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+
             headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=reporte_mensual.pdf");
             headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentLength(bytes.length);
-
-            return new ResponseEntity<>(bytes, headers, HttpStatus.OK);
+            headers.setContentLength(pdf.getEntrada().getTamano());
+            return new ResponseEntity<>(new FileSystemResource(pdf.getEntrada().getArchivo()), headers, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // If-None-Match tiene prioridad; If-Modified-Since solo se usa si no vino ETag (RFC 7232)
+    private static boolean noModificado(HttpHeaders solicitud, String etag, long lastModified) {
+        String ifNoneMatch = solicitud.getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidato : ifNoneMatch.split(",")) {
+                String valor = candidato.trim();
+                if (valor.startsWith("W/")) valor = valor.substring(2);
+                if (valor.equals("*") || valor.equals(etag)) return true;
+            }
+            return false;
+        }
+        // Last-Modified viaja con precisión de segundos
+        long ifModifiedSince = solicitud.getIfModifiedSince();
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
 }
@@ -10,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Tipos de Documento", description = "Gestión de los tipos de documento para usuarios y clientes")
@@ -27,7 +26,16 @@ public class TipoDocumentoController {
 
     @GetMapping
     @Operation(summary = "Listar tipos de documento", description = "Obtiene todos los tipos de documento activos")
-    public ResponseEntity<List<TipoDocumento>> listar(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(tipoDocumentoService.listarPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(tipoDocumentoService.listar(search));
     }
 
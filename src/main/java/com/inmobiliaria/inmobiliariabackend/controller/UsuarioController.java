@@ -12,7 +12,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Usuarios", description = "Gestión de usuarios en el sistema")
@@ -30,7 +29,16 @@ public class UsuarioController {
 
     @GetMapping
     @Operation(summary = "Listar usuarios", description = "Obtiene todos los usuarios activos")
-    public ResponseEntity<List<Usuario>> listar(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(usuarioService.listarPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(usuarioService.listar(search));
     }
 
@@ -10,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Roles de Usuario", description = "Gestión de los roles de usuario en el sistema")
@@ -27,7 +26,16 @@ public class UsuarioRolController {
 
     @GetMapping
     @Operation(summary = "Listar roles de usuario", description = "Obtiene todos los roles de usuario activos")
-    public ResponseEntity<List<UsuarioRol>> listar(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(service.listarPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(service.listar(search));
     }
 
@@ -7,10 +7,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Ventas", description = "Gestión de ventas de lotes a clientes")
@@ -19,6 +19,8 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class VentaController {
 
+    private static final String VENTA_MODIFICADA = "La venta fue modificada al mismo tiempo (p. ej. por un abono); vuelva a intentarlo.";
+
     private final VentaService ventaService;
 
     public VentaController(VentaService ventaService) {
@@ -27,7 +29,16 @@ public class VentaController {
 
     @GetMapping
     @Operation(summary = "Listar ventas", description = "Obtiene todas las ventas activas")
-    public ResponseEntity<List<VentaResponseDTO>> listar(@RequestParam(required = false) String search) {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String search,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            try {
+                return ResponseEntity.ok(ventaService.listarPorCursor(search, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+        }
         return ResponseEntity.ok(ventaService.listar(search));
     }
 
@@ -40,7 +51,8 @@ public class VentaController {
     }
 
     @PostMapping
-    @Operation(summary = "Crear venta", description = "Registra una nueva venta")
+    @Operation(summary = "Crear venta", description = "Registra una nueva venta y reserva el lote. "
+            + "Si el lote ya no está disponible (reservado o con una venta activa) responde 409.")
     public ResponseEntity<?> crear(@Valid @RequestBody VentaRequestDTO dto) {
         try {
             VentaResponseDTO creada = ventaService.crear(dto);
@@ -49,24 +61,39 @@ public class VentaController {
                     .body(creada);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Actualizar venta", description = "Actualiza una venta existente")
+    @Operation(summary = "Actualizar venta", description = "Actualiza una venta existente. "
+            + "Si otra operación la modificó al mismo tiempo responde 409.")
     public ResponseEntity<?> actualizar(@PathVariable UUID id, @Valid @RequestBody VentaRequestDTO dto) {
         try {
             VentaResponseDTO actualizada = ventaService.actualizar(id, dto);
             return ResponseEntity.ok(actualizada);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // La versión cambió entre la lectura y el commit (abono concurrente)
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(VENTA_MODIFICADA);
         }
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Eliminar venta", description = "Elimina una venta (lógicamente)")
-    public ResponseEntity<Void> eliminar(@PathVariable UUID id) {
-        ventaService.eliminar(id);
-        return ResponseEntity.noContent().build();
+    @Operation(summary = "Eliminar venta", description = "Elimina una venta (lógicamente). "
+            + "Si otra operación la modificó al mismo tiempo responde 409.")
+    public ResponseEntity<?> eliminar(@PathVariable UUID id) {
+        try {
+            ventaService.eliminar(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(VENTA_MODIFICADA);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Página del feed de cambios: filas activas modificadas después de la marca recibida y tombstones
+ * de las eliminadas lógicamente. "marca" se envía como ?since= en la siguiente llamada.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CambiosDTO {
+    private List<VentaResponseDTO> ventas;
+    private List<LoteResponseDTO> lotes;
+    private List<ProyectoResponseDTO> proyectos;
+    private List<Eliminado> eliminados;
+
+    // Marca opaca para pedir los cambios siguientes
+    private String marca;
+
+    // true si algún tipo alcanzó el límite: conviene volver a llamar de inmediato con la nueva marca
+    private boolean haySiguiente;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Eliminado {
+        private String tipo;
+        private UUID id;
+        private LocalDateTime fechaEliminacion;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> contenido;
+
+    // Cursor opaco para pedir la página siguiente (null si no hay más)
+    private String siguienteCursor;
+
+    private boolean haySiguiente;
+}
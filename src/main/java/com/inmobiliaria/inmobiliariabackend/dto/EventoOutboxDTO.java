@@ -0,0 +1,35 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento tal como se entrega al servicio de IA. eventoId es único: el receptor puede usarlo para descartar
+ * duplicados (la entrega es al-menos-una-vez), pero no como marca de agua, porque un ID menor puede llegar
+ * después de uno mayor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutboxDTO {
+    private Long eventoId;
+    private String tipoAgregado;
+    private UUID agregadoId;
+    private String tipoEvento;
+    private LocalDateTime fecha;
+
+    // Ya está serializado en la tabla outbox: se escribe tal cual
+    @JsonRawValue
+    private String payload;
+
+    public EventoOutboxDTO(EventoOutbox evento) {
+        this(evento.getEventoId(), evento.getTipoAgregado().name(), evento.getAgregadoId(),
+                evento.getTipoEvento(), evento.getFechaCreacion(), evento.getPayload());
+    }
+}
@@ -0,0 +1,37 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Nodo del árbol geográfico Departamento → Provincia → Distrito (solo activos, ordenados por nombre).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeografiaArbolDTO {
+    private UUID departamentoId;
+    private String nombre;
+    private List<ProvinciaNodo> provincias;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProvinciaNodo {
+        private UUID provinciaId;
+        private String nombre;
+        private List<DistritoNodo> distritos;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DistritoNodo {
+        private UUID distritoId;
+        private String nombre;
+    }
+}
@@ -0,0 +1,34 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacionAbonosDTO {
+    private int totalLineas;
+    private int registrados;
+    private int rechazados;
+    // Una entrada por línea, en el orden del archivo
+    private List<ResultadoLinea> lineas;
+
+    public enum Estado { REGISTRADO, RECHAZADO }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResultadoLinea {
+        private int linea;              // 1 = primera línea de datos (sin contar la cabecera)
+        private UUID ventaId;
+        private Double montoAbonado;
+        private Estado estado;
+        private UUID abonoId;           // solo si se registró
+        private Double saldoPendiente;  // saldo de la venta después de esta línea
+        private String mensaje;         // motivo del rechazo
+    }
+}
@@ -0,0 +1,28 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacionLotesDTO {
+    private UUID proyectoId;
+    private int totalFilas;
+    private int importados;
+    // Con al menos un error no se importa ninguna fila
+    private List<ErrorFila> errores;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErrorFila {
+        private int fila;         // 1 = primera fila de datos (sin contar la cabecera)
+        private String nombre;
+        private String mensaje;
+    }
+}
@@ -0,0 +1,24 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Fila de una importación masiva de lotes. El proyecto viene de la URL; el estado se indica por ID o por
+ * nombre (por defecto "Disponible"). Las validaciones son las de {@link LoteRequestDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteImportacionFilaDTO {
+    private String nombre;
+    private String descripcion;
+    private Double precio;
+    private Double area;
+    private String direccion;
+    private UUID estadoLoteId;
+    private String estado;
+}
@@ -21,8 +21,12 @@ public class ProyectoResponseDTO {
     private UUID departamentoId;
     private String departamentoNombre;
 
-    // Campo de conteo de lotes
+    // Contadores persistidos en el proyecto (lotes activos y monto de las ventas vigentes)
     private Long totalLotes;
+    private Long lotesDisponibles;
+    private Long lotesReservados;
+    private Long lotesVendidos;
+    private Double montoVendido;
 
     private Boolean activo;
 }
\ No newline at end of file
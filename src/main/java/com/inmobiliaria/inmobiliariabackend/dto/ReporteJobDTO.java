@@ -0,0 +1,26 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Estado de un trabajo de generación de reporte. descargaUrl solo viene cuando estado = COMPLETADO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReporteJobDTO {
+    private UUID jobId;
+    private String estado;
+    private String fuente;
+    private String mes;
+    private Instant fechaCreacion;
+    private Instant fechaInicio;
+    private Instant fechaFin;
+    private String error;
+    private String descargaUrl;
+}
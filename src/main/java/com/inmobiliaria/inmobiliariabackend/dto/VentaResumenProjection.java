@@ -0,0 +1,30 @@
+package com.inmobiliaria.inmobiliariabackend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura para el listado de ventas.
+ * Cada fila trae los datos de cliente, lote, proyecto, estado y moneda
+ * junto con el total abonado ya agregado en SQL.
+ */
+public interface VentaResumenProjection {
+    UUID getVentaId();
+    UUID getClienteId();
+    String getClientePrimerNombre();
+    String getClienteApellidoPaterno();
+    UUID getLoteId();
+    String getLoteNombre();
+    UUID getProyectoId();
+    String getProyectoNombre();
+    UUID getEstadoVentaId();
+    String getEstadoVentaNombre();
+    UUID getMonedaId();
+    String getMonedaNombre();
+    LocalDateTime getFechaCreacion();
+    LocalDate getFechaContrato();
+    Integer getNroCuotas();
+    Double getMontoTotal();
+    Double getMontoAbonado();
+}
@@ -0,0 +1,54 @@
+package com.inmobiliaria.inmobiliariabackend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+
+/**
+ * Entidad con columna de búsqueda persistida: texto normalizado (sin acentos, en minúsculas)
+ * con los campos por los que se filtra el listado. Se recalcula en cada escritura y se consulta
+ * con LIKE sobre un índice trigram (ver db/migration/postgresql/V8__busqueda_trigram.sql).
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@MappedSuperclass
+public abstract class Buscable extends Auditable {
+
+    public static final int LONGITUD_BUSQUEDA = 1000;
+
+    @JsonIgnore
+    @Column(name = "busqueda", length = LONGITUD_BUSQUEDA)
+    protected String busqueda;
+
+    /**
+     * Campos que participan en la búsqueda, en texto libre (se normaliza al guardar).
+     */
+    protected abstract String contenidoBusqueda();
+
+    @PrePersist
+    @PreUpdate
+    public void actualizarBusqueda() {
+        String normalizado = TextUtil.limpiarAcentos(contenidoBusqueda());
+        if (normalizado != null && normalizado.length() > LONGITUD_BUSQUEDA) {
+            normalizado = normalizado.substring(0, LONGITUD_BUSQUEDA);
+        }
+        this.busqueda = normalizado;
+    }
+
+    protected static String unir(String... partes) {
+        StringBuilder sb = new StringBuilder();
+        for (String parte : partes) {
+            if (parte != null && !parte.isEmpty()) {
+                if (sb.length() > 0) sb.append(' ');
+                sb.append(parte);
+            }
+        }
+        return sb.toString();
+    }
+}
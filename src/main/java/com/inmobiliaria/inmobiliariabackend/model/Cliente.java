@@ -18,7 +18,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Cliente extends Auditable {
+public class Cliente extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -57,4 +57,9 @@ public class Cliente extends Auditable {
     private String telefono;
 
     private Double ingresosMensuales;
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(primerNombre, segundoNombre, apellidoPaterno, apellidoMaterno, numeroDocumento);
+    }
 }
@@ -14,7 +14,7 @@ import java.util.UUID;
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class EstadoVenta extends Auditable {
+public class EstadoVenta extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -29,4 +29,8 @@ public class EstadoVenta extends Auditable {
     @Size(max = 255, message = "La descripción no puede superar los 255 caracteres")
     private String descripcion;
 
-}
\ No newline at end of file
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre, descripcion);
+    }
+}
@@ -0,0 +1,66 @@
+package com.inmobiliaria.inmobiliariabackend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de dominio pendiente de enviar al servicio de IA (patrón outbox).
+ * Se inserta en la misma transacción que la escritura que lo origina; OutboxRelay lo entrega después.
+ * eventoId sigue el orden de inserción, no el de commit: una transacción que obtuvo un ID menor puede
+ * confirmar después que otra con uno mayor, así que el relay busca pendientes por estado (fechaEnvio nula)
+ * y no a partir del último ID enviado.
+ */
+@Entity
+@Table(name = "outbox_eventos", schema = "core", indexes = {
+        @Index(name = "idx_outbox_eventos_pendientes", columnList = "fechaEnvio, fechaDescarte, eventoId")
+})
+@Data
+@NoArgsConstructor
+public class EventoOutbox {
+
+    public enum TipoAgregado { VENTA, LOTE, ABONO }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "eventoId", updatable = false, nullable = false)
+    private Long eventoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private TipoAgregado tipoAgregado;
+
+    @Column(nullable = false, updatable = false)
+    private UUID agregadoId;
+
+    @Column(nullable = false, length = 40, updatable = false)
+    private String tipoEvento;
+
+    // JSON compacto del estado del agregado al momento del evento
+    @Column(nullable = false, length = 10000, updatable = false)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    private LocalDateTime fechaEnvio;
+
+    // Se marca cuando se agotan los reintentos: el evento deja de bloquear a los siguientes
+    private LocalDateTime fechaDescarte;
+
+    private int intentos;
+
+    @Column(length = 1000)
+    private String ultimoError;
+
+    public EventoOutbox(TipoAgregado tipoAgregado, UUID agregadoId, String tipoEvento, String payload) {
+        this.tipoAgregado = tipoAgregado;
+        this.agregadoId = agregadoId;
+        this.tipoEvento = tipoEvento;
+        this.payload = payload;
+        this.fechaCreacion = LocalDateTime.now();
+    }
+}
@@ -10,11 +10,15 @@ import java.util.UUID;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "lotes", schema = "ventas")
+@Table(name = "lotes", schema = "ventas", indexes = {
+        // Feed de cambios para la integración IA (/api/ia/cambios)
+        @Index(name = "idx_lotes_cambios", columnList = "fechaModificacion, loteId")
+        // Los índices parciales de las consultas del repositorio están en db/migration/*/V3__indices_consultas.sql
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Lote extends Auditable {
+public class Lote extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -52,4 +56,11 @@ public class Lote extends Auditable {
     // Dirección es opcional
     @Size(max = 200, message = "La dirección no puede superar los 200 caracteres")
     private String direccion;
-}
\ No newline at end of file
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre, descripcion, direccion,
+                proyecto != null ? proyecto.getNombre() : null,
+                estadoLote != null ? estadoLote.getNombre() : null);
+    }
+}
@@ -11,11 +11,15 @@ import java.util.UUID;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "proyectos", schema = "ventas")
+@Table(name = "proyectos", schema = "ventas", indexes = {
+        // Feed de cambios para la integración IA (/api/ia/cambios)
+        @Index(name = "idx_proyectos_cambios", columnList = "fechaModificacion, proyectoId")
+        // Los índices parciales de las consultas del repositorio están en db/migration/*/V3__indices_consultas.sql
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Proyecto extends Auditable {
+public class Proyecto extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -38,4 +42,31 @@ public class Proyecto extends Auditable {
     @OneToMany(mappedBy = "proyecto") // 'proyecto' debe ser el campo en la entidad Lote que apunta a Proyecto
     @JsonManagedReference
     private List<Lote> lotes;
-}
\ No newline at end of file
+
+    // Contadores de lotes activos y monto de las ventas vigentes (db/migration/*/V5). Solo los modifica
+    // ContadoresProyectoService con UPDATE relativos; la entidad no los inserta ni los sobrescribe al guardar.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "totalLotes", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long totalLotes;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "lotesDisponibles", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long lotesDisponibles;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "lotesReservados", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long lotesReservados;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "lotesVendidos", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long lotesVendidos;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "montoVendido", nullable = false, insertable = false, updatable = false, columnDefinition = "double precision default 0")
+    private double montoVendido;
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre, descripcion);
+    }
+}
@@ -15,7 +15,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TipoDocumento extends Auditable {
+public class TipoDocumento extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -27,4 +27,8 @@ public class TipoDocumento extends Auditable {
 
     private String descripcion;
 
-}
\ No newline at end of file
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre, descripcion);
+    }
+}
@@ -15,7 +15,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TipoLote extends Auditable {
+public class TipoLote extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -26,4 +26,9 @@ public class TipoLote extends Auditable {
     private String nombre;
 
     private String descripcion;
-}
\ No newline at end of file
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre, descripcion);
+    }
+}
@@ -19,7 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @EqualsAndHashCode(exclude = "roles")
 @ToString(exclude = "roles")
-public class Usuario extends Auditable {
+public class Usuario extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -44,4 +44,9 @@ public class Usuario extends Auditable {
 
     @Column(nullable = false)
     private Boolean activo = true;
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(username);
+    }
 }
@@ -13,7 +13,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UsuarioRol extends Auditable {
+public class UsuarioRol extends Buscable {
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -23,4 +23,9 @@ public class UsuarioRol extends Auditable {
 
     @Column(nullable = false, length = 50)
     private String nombre;
-}
\ No newline at end of file
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(nombre);
+    }
+}
@@ -1,5 +1,6 @@
 package com.inmobiliaria.inmobiliariabackend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties; // 👈 NECESARIO
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,11 +16,19 @@ import java.util.UUID;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "ventas", schema = "ventas")
+@Table(name = "ventas", schema = "ventas", indexes = {
+        // Feed de cambios para la integración IA (/api/ia/cambios)
+        @Index(name = "idx_ventas_cambios", columnList = "fechaModificacion, ventaId"),
+        // Métricas del reporte mensual por rango de fechas (ReporteMetricasService)
+        @Index(name = "idx_ventas_fecha_creacion", columnList = "fechaCreacion")
+        // Los índices parciales de las consultas del repositorio están en db/migration/*/V3__indices_consultas.sql
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Venta extends Auditable {
+public class Venta extends Buscable {
+
+    private static final String ESTADO_CANCELADA = "Cancelada";
 
     @Id
     @GeneratedValue(generator = "UUID")
@@ -60,8 +69,49 @@ public class Venta extends Auditable {
 
     private Double montoTotal;
 
+    // Saldo acumulado, mantenido por AbonoService en la misma transacción que cada abono.
+    // Null en ventas antiguas hasta que la conciliación lo calcule.
+    @Column(name = "montoAbonado")
+    private Double montoAbonado;
+
+    @Column(name = "saldoPendiente")
+    private Double saldoPendiente;
+
+    // Control optimista: dos abonos concurrentes sobre la misma venta no pueden pisarse el saldo
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // Lote que ocupa la venta mientras está vigente (ni cancelada ni eliminada); null en otro caso.
+    // Índice único uk_ventas_lote_vigente (db/migration/*/V4): un lote no puede tener dos ventas vigentes
+    @JsonIgnore
+    @Column(name = "loteVigenteId")
+    private UUID loteVigenteId;
+
     @OneToMany(mappedBy = "venta", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     // 🟢 Rompe el bucle Venta -> Abonos -> Venta
     @JsonIgnoreProperties({"venta"})
     private List<Abono> abonos;
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    public void actualizarLoteVigente() {
+        this.loteVigenteId = esVigente() && lote != null ? lote.getLoteId() : null;
+    }
+
+    // Ni cancelada ni eliminada: ocupa su lote y cuenta en el monto vendido del proyecto
+    public boolean esVigente() {
+        return fechaEliminacion == null
+                && estadoVenta != null && !ESTADO_CANCELADA.equals(estadoVenta.getNombre());
+    }
+
+    @Override
+    protected String contenidoBusqueda() {
+        return unir(
+                cliente != null ? cliente.getPrimerNombre() : null,
+                cliente != null ? cliente.getApellidoPaterno() : null,
+                lote != null ? lote.getNombre() : null,
+                lote != null && lote.getProyecto() != null ? lote.getProyecto().getNombre() : null,
+                estadoVenta != null ? estadoVenta.getNombre() : null);
+    }
+}
@@ -2,8 +2,11 @@ package com.inmobiliaria.inmobiliariabackend.repository;
 
 import com.inmobiliaria.inmobiliariabackend.model.Abono;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +19,20 @@ public interface AbonoRepository extends JpaRepository<Abono, UUID> {
      * @return Lista de Abonos
      */
     List<Abono> findByVenta_VentaId(UUID ventaId);
+
+    /**
+     * Suma de abonos de una venta calculada en la base de datos.
+     * @param ventaId ID de la Venta
+     * @return Total abonado (0 si no hay abonos)
+     */
+    @Query("SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta.ventaId = :ventaId")
+    Double sumarMontoAbonadoPorVenta(@Param("ventaId") UUID ventaId);
+
+    /**
+     * Totales abonados agrupados por venta para un bloque de ventas.
+     * @param ventaIds IDs de las ventas del bloque
+     * @return Filas [ventaId, total]; las ventas sin abonos no aparecen
+     */
+    @Query("SELECT a.venta.ventaId, SUM(a.montoAbonado) FROM Abono a WHERE a.venta.ventaId IN :ventaIds GROUP BY a.venta.ventaId")
+    List<Object[]> sumarMontoAbonadoPorVentas(@Param("ventaIds") Collection<UUID> ventaIds);
 }
\ No newline at end of file
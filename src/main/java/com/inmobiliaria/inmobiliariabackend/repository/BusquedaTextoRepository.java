@@ -0,0 +1,115 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import com.inmobiliaria.inmobiliariabackend.model.Buscable;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Búsqueda por texto en la base de datos sobre la columna normalizada "busqueda" de las entidades Buscable.
+ * Cada palabra de la búsqueda debe aparecer en el texto (LIKE '%palabra%', resuelto con índice trigram en PostgreSQL).
+ * Los resultados se ordenan por (fechaCreacion, id) para poder combinarse con la paginación por cursor.
+ */
+@Repository
+public class BusquedaTextoRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Condición adicional sobre la entidad (estado, proyecto, visibilidad, etc.).
+     */
+    @FunctionalInterface
+    public interface Filtro<T> {
+        Predicate aplicar(CriteriaBuilder cb, Root<T> root, CriteriaQuery<?> query);
+    }
+
+    /**
+     * @param desde    posición del cursor (keyset); null para paginar por offset con el Pageable
+     * @param pageable límite de filas; Pageable.unpaged() devuelve todas las coincidencias
+     */
+    public <T extends Buscable> Slice<T> buscar(Class<T> entidad, String texto, CursorUtil.Cursor desde,
+                                                Pageable pageable, Filtro<T> filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entidad);
+        Root<T> root = query.from(entidad);
+        Path<UUID> id = root.get(atributoId(entidad));
+
+        List<Predicate> condiciones = condiciones(cb, root, query, texto, filtro);
+        if (desde != null) {
+            Path<LocalDateTime> fecha = root.get("fechaCreacion");
+            condiciones.add(cb.or(
+                    cb.greaterThan(fecha, desde.getFecha()),
+                    cb.and(cb.equal(fecha, desde.getFecha()), cb.greaterThan(id, desde.getId()))
+            ));
+        }
+
+        query.select(root)
+                .where(condiciones.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("fechaCreacion")), cb.asc(id));
+
+        TypedQuery<T> typed = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typed.getResultList(), pageable, false);
+        }
+
+        // Se pide una fila extra para saber si hay página siguiente sin ejecutar COUNT(*)
+        if (desde == null) {
+            typed.setFirstResult((int) pageable.getOffset());
+        }
+        typed.setMaxResults(pageable.getPageSize() + 1);
+        List<T> filas = typed.getResultList();
+        boolean haySiguiente = filas.size() > pageable.getPageSize();
+        if (haySiguiente) {
+            filas = filas.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(filas, pageable, haySiguiente);
+    }
+
+    public <T extends Buscable> long contar(Class<T> entidad, String texto, Filtro<T> filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entidad);
+        query.select(cb.count(root)).where(condiciones(cb, root, query, texto, filtro).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <T extends Buscable> List<Predicate> condiciones(CriteriaBuilder cb, Root<T> root, CriteriaQuery<?> query,
+                                                             String texto, Filtro<T> filtro) {
+        List<Predicate> condiciones = new ArrayList<>();
+        condiciones.add(cb.isNull(root.get("fechaEliminacion")));
+
+        String limpio = TextUtil.limpiarAcentos(texto);
+        if (limpio != null && !limpio.isEmpty()) {
+            Path<String> busqueda = root.get("busqueda");
+            for (String palabra : limpio.split("\\s+")) {
+                condiciones.add(cb.like(busqueda, "%" + escaparLike(palabra) + "%", '\\'));
+            }
+        }
+
+        if (filtro != null) {
+            condiciones.add(filtro.aplicar(cb, root, query));
+        }
+        return condiciones;
+    }
+
+    private String atributoId(Class<?> entidad) {
+        return entityManager.getMetamodel().entity(entidad).getId(UUID.class).getName();
+    }
+
+    private static String escaparLike(String palabra) {
+        return palabra.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,32 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Feed de cambios por (fechaModificacion, id) para entidades Auditable: filas creadas, editadas o
+ * eliminadas lógicamente. Las escrituras por save fijan fechaModificacion con la auditoría; las sentencias
+ * UPDATE directas (LoteRepository.cambiarEstadoSi, VentaRepository.sumarAbono e inicializarMontoAbonado,
+ * el batch de AbonoImportacionService) reciben la fecha como parámetro, tomada del mismo reloj de la
+ * aplicación, nunca CURRENT_TIMESTAMP de la base. Los contadores de Proyecto no la mueven: se derivan de
+ * lotes y ventas, que ya aparecen en el feed.
+ * Incluye las eliminadas; el llamador las separa como "tombstones".
+ * Se apoya en el índice (fechaModificacion, id) declarado en cada entidad.
+ */
+@NoRepositoryBean
+public interface CambiosRepository<T> extends Repository<T, UUID> {
+
+    @Query("SELECT e FROM #{#entityName} e " +
+            "WHERE e.fechaModificacion <= :hasta " +
+            "AND (e.fechaModificacion > :fecha OR (e.fechaModificacion = :fecha AND e.id > :id)) " +
+            "ORDER BY e.fechaModificacion, e.id")
+    Slice<T> buscarCambiosDespuesDe(@Param("fecha") LocalDateTime fecha, @Param("id") UUID id,
+                                    @Param("hasta") LocalDateTime hasta, Pageable pageable);
+}
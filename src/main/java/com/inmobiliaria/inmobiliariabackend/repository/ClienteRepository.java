@@ -12,7 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, UUID> {
+public interface ClienteRepository extends JpaRepository<Cliente, UUID>, CursorRepository<Cliente> {
     Optional<Cliente> findByNumeroDocumento(String numeroDocumento);
     Optional<Cliente> findByNumeroDocumentoAndTipoDocumento(String numeroDocumento, TipoDocumento tipoDocumento);
     List<Cliente> findByFechaEliminacionIsNull();
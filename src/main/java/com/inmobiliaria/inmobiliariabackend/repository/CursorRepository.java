@@ -0,0 +1,26 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Paginación por cursor (keyset) sobre (fechaCreacion, id) para entidades Auditable.
+ * Devuelve un Slice: no ejecuta COUNT(*) y el costo de una página profunda es el mismo que el de la primera.
+ * "id" es el alias de Hibernate para el identificador de la entidad, sea cual sea su nombre.
+ */
+@NoRepositoryBean
+public interface CursorRepository<T> extends Repository<T, UUID> {
+
+    @Query("SELECT e FROM #{#entityName} e " +
+            "WHERE e.fechaEliminacion IS NULL " +
+            "AND (e.fechaCreacion > :fecha OR (e.fechaCreacion = :fecha AND e.id > :id)) " +
+            "ORDER BY e.fechaCreacion, e.id")
+    Slice<T> buscarActivosDespuesDe(@Param("fecha") LocalDateTime fecha, @Param("id") UUID id, Pageable pageable);
+}
@@ -12,4 +12,6 @@ public interface DepartamentoRepository extends JpaRepository<Departamento, UUID
     Optional<Departamento> findByNombre(String nombre);
     // ✨ Nuevo: Buscar por nombre, insensible a mayúsculas
     List<Departamento> findByNombreContainingIgnoreCase(String nombre);
+    List<Departamento> findByActivoTrue();
+    List<Departamento> findByActivoTrueOrderByNombre();
 }
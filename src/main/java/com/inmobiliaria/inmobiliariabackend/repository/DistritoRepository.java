@@ -2,6 +2,7 @@ package com.inmobiliaria.inmobiliariabackend.repository;
 
 import com.inmobiliaria.inmobiliariabackend.model.Distrito;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +13,10 @@ public interface DistritoRepository extends JpaRepository<Distrito, UUID> {
     // ✨ Nuevo: Buscar distritos activos por nombre, insensible a mayúsculas
     List<Distrito> findByNombreContainingIgnoreCaseAndActivoTrue(String nombre);
     List<Distrito> findByProvincia_ProvinciaIdAndActivoTrue(UUID provinciaId);
+    List<Distrito> findByActivoTrue();
+
+    // Para el árbol geográfico: solo id, nombre e id de la provincia (sin cargar la entidad padre)
+    @Query("SELECT d.distritoId, d.nombre, d.provincia.provinciaId FROM Distrito d " +
+            "WHERE d.activo = true ORDER BY d.nombre")
+    List<Object[]> listarActivosParaArbol();
 }
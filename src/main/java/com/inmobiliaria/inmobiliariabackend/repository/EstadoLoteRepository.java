@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface EstadoLoteRepository extends JpaRepository<EstadoLote, UUID> {
+public interface EstadoLoteRepository extends JpaRepository<EstadoLote, UUID>, CursorRepository<EstadoLote> {
     Optional<EstadoLote> findByNombre(String nombre);
 }
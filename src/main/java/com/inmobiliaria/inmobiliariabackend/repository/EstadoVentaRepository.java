@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface EstadoVentaRepository extends JpaRepository<EstadoVenta, UUID> {
+public interface EstadoVentaRepository extends JpaRepository<EstadoVenta, UUID>, CursorRepository<EstadoVenta> {
     Optional<EstadoVenta> findByNombre(String nombre);
 }
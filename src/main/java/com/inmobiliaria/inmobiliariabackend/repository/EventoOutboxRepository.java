@@ -0,0 +1,45 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    /**
+     * Eventos aún no entregados ni descartados, del más antiguo al más nuevo.
+     */
+    @Query("SELECT e FROM EventoOutbox e WHERE e.fechaEnvio IS NULL AND e.fechaDescarte IS NULL ORDER BY e.eventoId")
+    List<EventoOutbox> buscarPendientes(Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM EventoOutbox e WHERE e.fechaEnvio IS NULL AND e.fechaDescarte IS NULL")
+    long contarPendientes();
+
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.fechaEnvio = :fecha WHERE e.eventoId IN :ids")
+    int marcarEnviados(@Param("ids") Collection<Long> ids, @Param("fecha") LocalDateTime fecha);
+
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.intentos = e.intentos + 1, e.ultimoError = :error WHERE e.eventoId IN :ids")
+    int registrarFallo(@Param("ids") Collection<Long> ids, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EventoOutbox e SET e.fechaDescarte = :fecha WHERE e.eventoId IN :ids")
+    int marcarDescartados(@Param("ids") Collection<Long> ids, @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Purga de eventos ya entregados o descartados más antiguos que la retención configurada.
+     */
+    @Modifying
+    @Query("DELETE FROM EventoOutbox e WHERE e.fechaEnvio < :limite OR e.fechaDescarte < :limite")
+    int eliminarProcesadosAntesDe(@Param("limite") LocalDateTime limite);
+}
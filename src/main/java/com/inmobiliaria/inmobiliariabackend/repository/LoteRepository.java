@@ -1,16 +1,31 @@
 package com.inmobiliaria.inmobiliariabackend.repository;
 
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
 import com.inmobiliaria.inmobiliariabackend.model.Lote;
 import com.inmobiliaria.inmobiliariabackend.model.Proyecto; // 🟢 NUEVO: Necesitamos importar Proyecto
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface LoteRepository extends JpaRepository<Lote, UUID> {
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
+public interface LoteRepository extends JpaRepository<Lote, UUID>, CursorRepository<Lote>, CambiosRepository<Lote> {
 
     // CRUD Base y Borrado Lógico
     List<Lote> findByFechaEliminacionIsNull();
@@ -21,6 +36,10 @@ public interface LoteRepository extends JpaRepository<Lote, UUID> {
     // 🟢 NUEVO: Validación de unicidad por nombre DENTRO de un Proyecto
     Optional<Lote> findByNombreAndProyecto(String nombre, Proyecto proyecto);
 
+    // Importación masiva: unicidad de todas las filas contra el proyecto con una sola consulta
+    @Query("SELECT l.nombre FROM Lote l WHERE l.proyecto.proyectoId = :proyectoId AND l.fechaEliminacion IS NULL")
+    Set<String> nombresActivosPorProyecto(@Param("proyectoId") UUID proyectoId);
+
     // Búsqueda por estado
     List<Lote> findByEstadoLoteNombreIgnoreCaseAndFechaEliminacionIsNull(String estado);
     List<Lote> findByFechaEliminacionIsNullAndEstadoLote_Nombre(String nombreEstado);
@@ -29,4 +48,46 @@ public interface LoteRepository extends JpaRepository<Lote, UUID> {
     List<Lote> findByProyectoProyectoIdAndFechaEliminacionIsNull(UUID proyectoId);
 
     List<Lote> findByFechaEliminacionIsNullAndEstadoLote_NombreAndProyecto_ProyectoId(String estadoNombre, UUID proyectoId);
-}
\ No newline at end of file
+
+    // Exportación por streaming: lee por bloques (fetch size) con la jerarquía ya unida para el DTO.
+    // Debe consumirse dentro de una transacción y cerrarse al terminar.
+    @QueryHints({@QueryHint(name = FETCH_SIZE, value = "500"), @QueryHint(name = READ_ONLY, value = "true")})
+    @Query("SELECT l FROM Lote l " +
+            "JOIN FETCH l.estadoLote " +
+            "JOIN FETCH l.proyecto p " +
+            "JOIN FETCH p.distrito d " +
+            "JOIN FETCH d.provincia pr " +
+            "JOIN FETCH pr.departamento " +
+            "WHERE l.fechaEliminacion IS NULL " +
+            "ORDER BY l.fechaCreacion, l.loteId")
+    Stream<Lote> streamActivos();
+
+    /**
+     * Lectura con bloqueo de fila (SELECT ... FOR UPDATE) para editar o dar de baja el lote: una reserva
+     * concurrente (cambiarEstadoSi) espera a este commit, y si llegó antes esta lectura espera al suyo.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lote l WHERE l.loteId = :loteId")
+    Optional<Lote> buscarParaActualizar(@Param("loteId") UUID loteId);
+
+    /**
+     * Reserva atómica: cambia el estado solo si el lote sigue activo y en el estado esperado.
+     * Devuelve 0 si otra transacción lo tomó antes (la fila queda bloqueada hasta su commit y luego
+     * se vuelve a evaluar la condición), sin bloquear el resto de la tabla.
+     * @param ahora fecha de modificación a registrar; la pone el llamador con el mismo reloj de la auditoría
+     */
+    @Modifying
+    @Query("UPDATE Lote l SET l.estadoLote = :nuevo, l.fechaModificacion = :ahora " +
+            "WHERE l.loteId = :loteId AND l.estadoLote = :esperado AND l.fechaEliminacion IS NULL")
+    int cambiarEstadoSi(@Param("loteId") UUID loteId, @Param("esperado") EstadoLote esperado,
+                        @Param("nuevo") EstadoLote nuevo, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Lotes activos por proyecto y estado para un bloque de proyectos (conciliación de contadores).
+     * @return Filas [proyectoId, estadoLoteId, cantidad]
+     */
+    @Query("SELECT l.proyecto.proyectoId, l.estadoLote.estadoLoteId, COUNT(l) FROM Lote l " +
+            "WHERE l.proyecto.proyectoId IN :proyectoIds AND l.fechaEliminacion IS NULL " +
+            "GROUP BY l.proyecto.proyectoId, l.estadoLote.estadoLoteId")
+    List<Object[]> contarActivosPorProyectoYEstado(@Param("proyectoIds") Collection<UUID> proyectoIds);
+}
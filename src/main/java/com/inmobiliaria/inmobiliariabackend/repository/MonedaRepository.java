@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface MonedaRepository extends JpaRepository<Moneda, UUID> {
+public interface MonedaRepository extends JpaRepository<Moneda, UUID>, CursorRepository<Moneda> {
     Optional<Moneda> findByNombre(String nombre);
 }
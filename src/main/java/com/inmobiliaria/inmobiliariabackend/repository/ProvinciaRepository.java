@@ -3,6 +3,7 @@ package com.inmobiliaria.inmobiliariabackend.repository;
 import com.inmobiliaria.inmobiliariabackend.model.Departamento;
 import com.inmobiliaria.inmobiliariabackend.model.Provincia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +14,10 @@ public interface ProvinciaRepository extends JpaRepository<Provincia, UUID> {
     // ✨ Nuevo: Buscar provincias activas por nombre, insensible a mayúsculas
     List<Provincia> findByNombreContainingIgnoreCaseAndActivoTrue(String nombre);
     List<Provincia> findByDepartamento_DepartamentoIdAndActivoTrue(UUID departamentoId);
+    List<Provincia> findByActivoTrue();
+
+    // Para el árbol geográfico: solo id, nombre e id del departamento (sin cargar la entidad padre)
+    @Query("SELECT p.provinciaId, p.nombre, p.departamento.departamentoId FROM Provincia p " +
+            "WHERE p.activo = true ORDER BY p.nombre")
+    List<Object[]> listarActivasParaArbol();
 }
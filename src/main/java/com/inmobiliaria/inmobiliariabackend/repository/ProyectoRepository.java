@@ -2,7 +2,9 @@ package com.inmobiliaria.inmobiliariabackend.repository;
 
 import com.inmobiliaria.inmobiliariabackend.model.Distrito;
 import com.inmobiliaria.inmobiliariabackend.model.Proyecto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,7 +14,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProyectoRepository extends JpaRepository<Proyecto, UUID> {
+public interface ProyectoRepository extends JpaRepository<Proyecto, UUID>, CursorRepository<Proyecto>, CambiosRepository<Proyecto> {
 
     Optional<Proyecto> findByNombre(String nombre);
 
@@ -29,14 +31,48 @@ public interface ProyectoRepository extends JpaRepository<Proyecto, UUID> {
     @Query("SELECT p FROM Proyecto p WHERE LOWER(TRIM(p.nombre)) = LOWER(TRIM(:nombre)) AND p.fechaEliminacion IS NULL")
     Optional<Proyecto> findByNombreNormalizadoAndFechaEliminacionIsNull(@Param("nombre") String nombre);
 
-    // 1. Consulta para listar proyectos activos con conteo de lotes (para listarActivos)
-    @Query("SELECT p, COUNT(l) " +
-            "FROM Proyecto p LEFT JOIN p.lotes l " +
-            "WHERE p.fechaEliminacion IS NULL AND (l.fechaEliminacion IS NULL) " +
-            "GROUP BY p.proyectoId")
-    List<Object[]> findProyectosActivosWithLoteCount();
-
-    // 2. Consulta simple para obtener el conteo de lotes por ID (para obtenerPorId y actualizarProyecto)
-    @Query("SELECT COUNT(l) FROM Lote l WHERE l.proyecto.proyectoId = :proyectoId AND l.fechaEliminacion IS NULL")
-    Optional<Long> countLotesByProyectoId(@Param("proyectoId") UUID proyectoId);
-}
\ No newline at end of file
+    /**
+     * Aplica una diferencia a los contadores del proyecto (ContadoresProyectoService). Relativo a lo que haya en
+     * la fila, que queda bloqueada hasta el commit: cambios concurrentes en lotes del mismo proyecto se suman.
+     * @return 1 si el proyecto existe
+     */
+    @Modifying
+    @Query("UPDATE Proyecto p SET p.totalLotes = p.totalLotes + :total, " +
+            "p.lotesDisponibles = p.lotesDisponibles + :disponibles, " +
+            "p.lotesReservados = p.lotesReservados + :reservados, " +
+            "p.lotesVendidos = p.lotesVendidos + :vendidos, " +
+            "p.montoVendido = p.montoVendido + :montoVendido " +
+            "WHERE p.proyectoId = :proyectoId")
+    int ajustarContadores(@Param("proyectoId") UUID proyectoId, @Param("total") long total,
+                          @Param("disponibles") long disponibles, @Param("reservados") long reservados,
+                          @Param("vendidos") long vendidos, @Param("montoVendido") double montoVendido);
+
+    // Contadores persistidos en orden de ID (keyset para la conciliación por bloques):
+    // filas [proyectoId, totalLotes, lotesDisponibles, lotesReservados, lotesVendidos, montoVendido]
+    @Query("SELECT p.proyectoId, p.totalLotes, p.lotesDisponibles, p.lotesReservados, p.lotesVendidos, p.montoVendido " +
+            "FROM Proyecto p ORDER BY p.proyectoId")
+    List<Object[]> contadoresOrdenados(Pageable pageable);
+
+    @Query("SELECT p.proyectoId, p.totalLotes, p.lotesDisponibles, p.lotesReservados, p.lotesVendidos, p.montoVendido " +
+            "FROM Proyecto p WHERE p.proyectoId > :proyectoId ORDER BY p.proyectoId")
+    List<Object[]> contadoresOrdenadosDespuesDe(@Param("proyectoId") UUID proyectoId, Pageable pageable);
+
+    /**
+     * Reemplaza los contadores por los recalculados solo si siguen siendo los leídos: si otra transacción los
+     * ajustó entretanto no se pisa su cambio (la próxima conciliación vuelve a revisar el proyecto).
+     * @return 1 si se corrigió
+     */
+    @Modifying
+    @Query("UPDATE Proyecto p SET p.totalLotes = :total, p.lotesDisponibles = :disponibles, " +
+            "p.lotesReservados = :reservados, p.lotesVendidos = :vendidos, p.montoVendido = :montoVendido " +
+            "WHERE p.proyectoId = :proyectoId AND p.totalLotes = :totalLeido " +
+            "AND p.lotesDisponibles = :disponiblesLeido AND p.lotesReservados = :reservadosLeido " +
+            "AND p.lotesVendidos = :vendidosLeido AND p.montoVendido = :montoVendidoLeido")
+    int corregirContadores(@Param("proyectoId") UUID proyectoId,
+                           @Param("total") long total, @Param("disponibles") long disponibles,
+                           @Param("reservados") long reservados, @Param("vendidos") long vendidos,
+                           @Param("montoVendido") double montoVendido,
+                           @Param("totalLeido") long totalLeido, @Param("disponiblesLeido") long disponiblesLeido,
+                           @Param("reservadosLeido") long reservadosLeido, @Param("vendidosLeido") long vendidosLeido,
+                           @Param("montoVendidoLeido") double montoVendidoLeido);
+}
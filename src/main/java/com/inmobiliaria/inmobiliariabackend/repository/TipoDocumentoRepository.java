@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TipoDocumentoRepository extends JpaRepository<TipoDocumento, UUID> {
+public interface TipoDocumentoRepository extends JpaRepository<TipoDocumento, UUID>, CursorRepository<TipoDocumento> {
     Optional<TipoDocumento> findByNombre(String nombre);
 }
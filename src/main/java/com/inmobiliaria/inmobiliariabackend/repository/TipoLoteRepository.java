@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TipoLoteRepository extends JpaRepository<TipoLote, UUID> {
+public interface TipoLoteRepository extends JpaRepository<TipoLote, UUID>, CursorRepository<TipoLote> {
     Optional<TipoLote> findByNombre(String nombre);
 }
@@ -2,12 +2,29 @@ package com.inmobiliaria.inmobiliariabackend.repository;
 
 import com.inmobiliaria.inmobiliariabackend.model.Usuario;
 import com.inmobiliaria.inmobiliariabackend.model.UsuarioRol;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
     Optional<Usuario> findByUsername(String username);
     long countByRolesContains(UsuarioRol rol);
+
+    // Paginación por cursor (fechaCreacion, usuarioId); si no se incluyen propietarios se ocultan los usuarios con ese rol
+    @Query("SELECT u FROM Usuario u " +
+            "WHERE u.fechaEliminacion IS NULL " +
+            "AND (u.fechaCreacion > :fecha OR (u.fechaCreacion = :fecha AND u.usuarioId > :id)) " +
+            "AND (:incluirPropietario = true OR NOT EXISTS (SELECT r FROM u.roles r WHERE r.nombre = :rolPropietario)) " +
+            "ORDER BY u.fechaCreacion, u.usuarioId")
+    Slice<Usuario> buscarActivosDespuesDe(@Param("fecha") LocalDateTime fecha,
+                                          @Param("id") UUID id,
+                                          @Param("incluirPropietario") boolean incluirPropietario,
+                                          @Param("rolPropietario") String rolPropietario,
+                                          Pageable pageable);
 }
@@ -6,6 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UsuarioRolRepository extends JpaRepository<UsuarioRol, UUID> {
+public interface UsuarioRolRepository extends JpaRepository<UsuarioRol, UUID>, CursorRepository<UsuarioRol> {
     Optional<UsuarioRol> findByNombre(String nombre);
 }
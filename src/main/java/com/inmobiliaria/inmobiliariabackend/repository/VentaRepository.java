@@ -1,13 +1,27 @@
 package com.inmobiliaria.inmobiliariabackend.repository;
 
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResumenProjection;
 import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
 
-public interface VentaRepository extends JpaRepository<Venta, UUID> {
+public interface VentaRepository extends JpaRepository<Venta, UUID>, CambiosRepository<Venta> {
     List<Venta> findByFechaEliminacionIsNull();
 
     Optional<Venta> findByLoteLoteIdAndFechaEliminacionIsNull(UUID loteId);
@@ -15,4 +29,174 @@ public interface VentaRepository extends JpaRepository<Venta, UUID> {
             UUID loteId,
             UUID estadoVentaId
     );
+
+    /**
+     * Listado de ventas activas en una sola consulta: une cliente, lote, proyecto,
+     * estado y moneda, y lee el saldo persistido en la venta. Solo las ventas que
+     * aún no fueron conciliadas (montoAbonado nulo) suman sus abonos.
+     */
+    @Query("SELECT v.ventaId AS ventaId, " +
+            "c.clienteId AS clienteId, c.primerNombre AS clientePrimerNombre, c.apellidoPaterno AS clienteApellidoPaterno, " +
+            "l.loteId AS loteId, l.nombre AS loteNombre, " +
+            "p.proyectoId AS proyectoId, p.nombre AS proyectoNombre, " +
+            "ev.estadoVentaId AS estadoVentaId, ev.nombre AS estadoVentaNombre, " +
+            "m.monedaId AS monedaId, m.nombre AS monedaNombre, " +
+            "v.fechaCreacion AS fechaCreacion, v.fechaContrato AS fechaContrato, v.nroCuotas AS nroCuotas, v.montoTotal AS montoTotal, " +
+            "COALESCE(v.montoAbonado, (SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta = v)) AS montoAbonado " +
+            "FROM Venta v " +
+            "JOIN v.cliente c " +
+            "JOIN v.lote l " +
+            "LEFT JOIN l.proyecto p " +
+            "JOIN v.estadoVenta ev " +
+            "JOIN v.moneda m " +
+            "WHERE v.fechaEliminacion IS NULL")
+    List<VentaResumenProjection> listarResumenActivas();
+
+    // Misma proyección paginada por cursor (fechaCreacion, ventaId), sin COUNT(*)
+    @Query("SELECT v.ventaId AS ventaId, " +
+            "c.clienteId AS clienteId, c.primerNombre AS clientePrimerNombre, c.apellidoPaterno AS clienteApellidoPaterno, " +
+            "l.loteId AS loteId, l.nombre AS loteNombre, " +
+            "p.proyectoId AS proyectoId, p.nombre AS proyectoNombre, " +
+            "ev.estadoVentaId AS estadoVentaId, ev.nombre AS estadoVentaNombre, " +
+            "m.monedaId AS monedaId, m.nombre AS monedaNombre, " +
+            "v.fechaCreacion AS fechaCreacion, v.fechaContrato AS fechaContrato, v.nroCuotas AS nroCuotas, v.montoTotal AS montoTotal, " +
+            "COALESCE(v.montoAbonado, (SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta = v)) AS montoAbonado " +
+            "FROM Venta v " +
+            "JOIN v.cliente c " +
+            "JOIN v.lote l " +
+            "LEFT JOIN l.proyecto p " +
+            "JOIN v.estadoVenta ev " +
+            "JOIN v.moneda m " +
+            "WHERE v.fechaEliminacion IS NULL " +
+            "AND (v.fechaCreacion > :fecha OR (v.fechaCreacion = :fecha AND v.ventaId > :id)) " +
+            "ORDER BY v.fechaCreacion, v.ventaId")
+    Slice<VentaResumenProjection> listarResumenActivasDespuesDe(@Param("fecha") LocalDateTime fecha,
+                                                                @Param("id") UUID id,
+                                                                Pageable pageable);
+
+    // Misma proyección como stream para la exportación: filas por bloques (fetch size), sin lista en memoria.
+    // Debe consumirse dentro de una transacción y cerrarse al terminar.
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "500"))
+    @Query("SELECT v.ventaId AS ventaId, " +
+            "c.clienteId AS clienteId, c.primerNombre AS clientePrimerNombre, c.apellidoPaterno AS clienteApellidoPaterno, " +
+            "l.loteId AS loteId, l.nombre AS loteNombre, " +
+            "p.proyectoId AS proyectoId, p.nombre AS proyectoNombre, " +
+            "ev.estadoVentaId AS estadoVentaId, ev.nombre AS estadoVentaNombre, " +
+            "m.monedaId AS monedaId, m.nombre AS monedaNombre, " +
+            "v.fechaCreacion AS fechaCreacion, v.fechaContrato AS fechaContrato, v.nroCuotas AS nroCuotas, v.montoTotal AS montoTotal, " +
+            "COALESCE(v.montoAbonado, (SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta = v)) AS montoAbonado " +
+            "FROM Venta v " +
+            "JOIN v.cliente c " +
+            "JOIN v.lote l " +
+            "LEFT JOIN l.proyecto p " +
+            "JOIN v.estadoVenta ev " +
+            "JOIN v.moneda m " +
+            "WHERE v.fechaEliminacion IS NULL " +
+            "ORDER BY v.fechaCreacion, v.ventaId")
+    Stream<VentaResumenProjection> streamResumenActivas();
+
+    // Misma proyección para las ventas encontradas por la búsqueda de texto
+    @Query("SELECT v.ventaId AS ventaId, " +
+            "c.clienteId AS clienteId, c.primerNombre AS clientePrimerNombre, c.apellidoPaterno AS clienteApellidoPaterno, " +
+            "l.loteId AS loteId, l.nombre AS loteNombre, " +
+            "p.proyectoId AS proyectoId, p.nombre AS proyectoNombre, " +
+            "ev.estadoVentaId AS estadoVentaId, ev.nombre AS estadoVentaNombre, " +
+            "m.monedaId AS monedaId, m.nombre AS monedaNombre, " +
+            "v.fechaCreacion AS fechaCreacion, v.fechaContrato AS fechaContrato, v.nroCuotas AS nroCuotas, v.montoTotal AS montoTotal, " +
+            "COALESCE(v.montoAbonado, (SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta = v)) AS montoAbonado " +
+            "FROM Venta v " +
+            "JOIN v.cliente c " +
+            "JOIN v.lote l " +
+            "LEFT JOIN l.proyecto p " +
+            "JOIN v.estadoVenta ev " +
+            "JOIN v.moneda m " +
+            "WHERE v.ventaId IN :ids " +
+            "ORDER BY v.fechaCreacion, v.ventaId")
+    List<VentaResumenProjection> listarResumenPorIds(@Param("ids") Collection<UUID> ids);
+
+    // Ventas de un cliente o lote, para recalcular su texto de búsqueda cuando cambian los nombres
+    List<Venta> findByClienteClienteIdAndFechaEliminacionIsNull(UUID clienteId);
+    List<Venta> findByLoteLoteIdInAndFechaEliminacionIsNull(Collection<UUID> loteIds);
+
+    // Saldos persistidos en orden de ID (keyset para la conciliación por bloques):
+    // filas [ventaId, montoTotal, montoAbonado, saldoPendiente, version]
+    @Query("SELECT v.ventaId, v.montoTotal, v.montoAbonado, v.saldoPendiente, v.version FROM Venta v ORDER BY v.ventaId")
+    List<Object[]> saldosOrdenados(Pageable pageable);
+
+    @Query("SELECT v.ventaId, v.montoTotal, v.montoAbonado, v.saldoPendiente, v.version FROM Venta v " +
+            "WHERE v.ventaId > :ventaId ORDER BY v.ventaId")
+    List<Object[]> saldosOrdenadosDespuesDe(@Param("ventaId") UUID ventaId, Pageable pageable);
+
+    /**
+     * Reemplaza el saldo por el recalculado solo si la venta sigue en la versión leída: si un abono u otra
+     * escritura la modificó entretanto no se pisa su cambio (la próxima conciliación vuelve a revisarla).
+     * @return 1 si se corrigió
+     */
+    @Modifying
+    @Query("UPDATE Venta v SET v.montoAbonado = :montoAbonado, v.saldoPendiente = :saldoPendiente, " +
+            "v.version = v.version + 1, v.fechaModificacion = :ahora " +
+            "WHERE v.ventaId = :ventaId AND v.version = :version")
+    int corregirSaldo(@Param("ventaId") UUID ventaId, @Param("montoAbonado") double montoAbonado,
+                      @Param("saldoPendiente") double saldoPendiente, @Param("version") long version,
+                      @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Última modificación de cualquier venta (incluye las eliminadas lógicamente).
+     * Usa el índice idx_ventas_cambios; sirve para saber si un reporte generado quedó desactualizado.
+     */
+    @Query("SELECT MAX(v.fechaModificacion) FROM Venta v")
+    LocalDateTime ultimaModificacion();
+
+    /**
+     * Suma un abono al saldo persistido en una sola sentencia: la condición valida el saldo y la fila queda
+     * bloqueada hasta el commit, así dos abonos de la misma venta se aplican uno tras otro (el segundo
+     * reevalúa la condición con el saldo ya actualizado) sin bloquear otras ventas. Incrementa la versión
+     * para que las escrituras optimistas de la venta (conciliación, edición) detecten el cambio.
+     * @param ahora fecha de modificación a registrar; la pone el llamador con el mismo reloj de la auditoría
+     * @return 1 si se aplicó; 0 si la venta no existe, aún no tiene saldo persistido o el abono excede el saldo
+     */
+    @Modifying
+    @Query("UPDATE Venta v SET v.montoAbonado = v.montoAbonado + :monto, " +
+            "v.saldoPendiente = COALESCE(v.montoTotal, 0.0) - (v.montoAbonado + :monto), " +
+            "v.version = v.version + 1, v.fechaModificacion = :ahora " +
+            "WHERE v.ventaId = :ventaId AND v.montoAbonado IS NOT NULL " +
+            "AND v.montoAbonado + :monto <= COALESCE(v.montoTotal, 0.0) + :tolerancia")
+    int sumarAbono(@Param("ventaId") UUID ventaId, @Param("monto") double monto, @Param("tolerancia") double tolerancia,
+                   @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Ventas anteriores al saldo persistido (montoAbonado nulo): lo inicializa con la suma de sus abonos.
+     * Cambia saldoPendiente, así que también avanza fechaModificacion para que el feed de cambios lo entregue.
+     * @return 1 si se inicializó; 0 si la venta no existe o ya tenía saldo
+     */
+    @Modifying
+    @Query("UPDATE Venta v SET v.montoAbonado = " +
+            "(SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta.ventaId = :ventaId), " +
+            "v.saldoPendiente = COALESCE(v.montoTotal, 0.0) - " +
+            "(SELECT COALESCE(SUM(a.montoAbonado), 0.0) FROM Abono a WHERE a.venta.ventaId = :ventaId), " +
+            "v.version = v.version + 1, v.fechaModificacion = :ahora " +
+            "WHERE v.ventaId = :ventaId AND v.montoAbonado IS NULL")
+    int inicializarMontoAbonado(@Param("ventaId") UUID ventaId, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Saldo de un bloque de ventas en una sola consulta agrupada (importación de abonos): el persistido y la
+     * suma real de abonos (índice idx_abonos_venta), que vale como saldo de las ventas aún no conciliadas.
+     * La versión permite aplicar después los nuevos saldos solo si nadie tocó la venta entretanto.
+     * @param ids IDs de las ventas del bloque
+     * @return Filas [ventaId, montoTotal, montoAbonado, sumaAbonos, version]; las ventas inexistentes no aparecen
+     */
+    @Query("SELECT v.ventaId, v.montoTotal, v.montoAbonado, COALESCE(SUM(a.montoAbonado), 0.0), v.version " +
+            "FROM Venta v LEFT JOIN Abono a ON a.venta = v " +
+            "WHERE v.ventaId IN :ids " +
+            "GROUP BY v.ventaId, v.montoTotal, v.montoAbonado, v.version")
+    List<Object[]> saldosPorIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Monto de las ventas vigentes por proyecto para un bloque de proyectos (conciliación de contadores).
+     * @return Filas [proyectoId, montoTotal]; los proyectos sin ventas vigentes no aparecen
+     */
+    @Query("SELECT l.proyecto.proyectoId, COALESCE(SUM(v.montoTotal), 0.0) FROM Venta v JOIN v.lote l " +
+            "WHERE l.proyecto.proyectoId IN :proyectoIds AND v.loteVigenteId IS NOT NULL " +
+            "GROUP BY l.proyecto.proyectoId")
+    List<Object[]> sumarMontoVigentePorProyectos(@Param("proyectoIds") Collection<UUID> proyectoIds);
 }
@@ -1,11 +1,16 @@
 package com.inmobiliaria.inmobiliariabackend.security;
 
+import com.inmobiliaria.inmobiliariabackend.util.CacheTtl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -13,6 +18,13 @@ public class JwtUtil {
 
     private final String SECRET_KEY = "inmobiliaria_secret_key";
 
+    // Claims ya verificados (firma + expiración), por hash del token. Cada entrada vence a los 5 minutos
+    // o al expirar el token, lo que ocurra primero; así un token se verifica con HMAC una vez y no en cada petición.
+    private static final long TTL_CLAIMS_MS = 5 * 60 * 1000L;
+    private static final int MAXIMO_CLAIMS = 10_000;
+
+    private final CacheTtl<String, Claims> claimsVerificados = new CacheTtl<>(MAXIMO_CLAIMS);
+
     public String generateToken(UserDetails userDetails) {
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
@@ -27,15 +39,43 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(getClaims(token), userDetails);
+    }
+
+    /**
+     * Valida claims ya obtenidos con {@link #getClaims(String)}, sin volver a parsear el token.
+     */
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims));
     }
 
-    private boolean isTokenExpired(String token) {
-        return getClaims(token).getExpiration().before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Parsea y verifica el token (una sola vez mientras esté en caché).
+     * Lanza JwtException si la firma no coincide, está mal formado o expiró.
+     */
+    public Claims getClaims(String token) {
+        String clave = hash(token);
+        Claims claims = claimsVerificados.obtener(clave);
+        if (claims != null) return claims;
+
+        claims = Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+        long venceEn = System.currentTimeMillis() + TTL_CLAIMS_MS;
+        if (claims.getExpiration() != null) venceEn = Math.min(venceEn, claims.getExpiration().getTime());
+        claimsVerificados.guardar(clave, claims, venceEn);
+        return claims;
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+    // Se guarda el hash y no el token: la caché no retiene credenciales utilizables
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -3,6 +3,8 @@ package com.inmobiliaria.inmobiliariabackend.security;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -54,10 +56,25 @@ public class SecurityConfig {
                             "/api-docs/**",
                             "/swagger-resources/**",
                             "/webjars/**",
-                            "/api/ia/**",
-                            "/api/reportes/**"
+                            "/actuator/health"
                     ).permitAll()
 
+                    // ✅ Consultas públicas para el servicio de IA y el PDF mensual. Las exportaciones por
+                    // streaming, el feed de cambios (/api/ia/cambios) y los jobs de reportes requieren token
+                    .antMatchers(HttpMethod.GET,
+                            "/api/ia/ventas",
+                            "/api/ia/lotes",
+                            "/api/ia/proyectos",
+                            "/api/reportes/mensual/pdf"
+                    ).permitAll()
+
+                    // 🔒 Métricas (latencia del cliente de IA, etc.)
+                    .antMatchers("/actuator/**").hasAnyAuthority("PROPIETARIO", "ADMIN")
+
+                    // 🔒 Administración del índice de búsqueda y del árbol geográfico
+                    .antMatchers("/api/busqueda/indice/**").hasAnyAuthority("PROPIETARIO", "ADMIN")
+                    .antMatchers(HttpMethod.POST, "/api/geografia/arbol/recargar").hasAnyAuthority("PROPIETARIO", "ADMIN")
+
                     // 🔒 Todo lo demás requiere autenticación
                     .anyRequest().authenticated()
             )
@@ -69,6 +86,25 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Imitación del servicio de IA (IaStubController): solo existe con el perfil ia-stub y el propio
+     * backend la consume sin token. Cadena aparte, evaluada antes que la principal.
+     */
+    @Bean
+    @Profile("ia-stub")
+    @Order(1)
+    public SecurityFilterChain iaStubFilterChain(HttpSecurity http) throws Exception {
+        http
+            .antMatcher("/api/v1/reportes/**")
+            .csrf(csrf -> csrf.disable())
+            .authorizeRequests(auth -> auth.anyRequest().permitAll())
+            .sessionManagement(session ->
+                    session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            );
+
+        return http.build();
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
 
@@ -0,0 +1,278 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.AbonoDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO.Estado;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO.ResultadoLinea;
+import com.inmobiliaria.inmobiliariabackend.model.Abono;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CsvUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Registro masivo de abonos (archivos de conciliación bancaria, CSV o JSON).
+ *
+ * Las líneas se validan y se agrupan por venta; las ventas se procesan en orden de ID y en bloques de
+ * app.abonos.importacion.ventas-por-transaccion, cada bloque en su propia transacción. Por bloque: una sola
+ * consulta agrupada trae el saldo de todas sus ventas, cada línea se valida en memoria contra el saldo que van
+ * dejando las anteriores de la misma venta (en el orden del archivo), los saldos nuevos se aplican en un batch
+ * JDBC condicionado a la versión leída y los abonos se insertan en un batch de Hibernate.
+ *
+ * Si otro abono modificó una venta entre la lectura y la escritura, sus líneas se rechazan y basta con
+ * reenviarlas; las de las demás ventas no se ven afectadas. Un error inesperado rechaza solo su bloque.
+ */
+@Service
+public class AbonoImportacionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AbonoImportacionService.class);
+    private static final double TOLERANCIA = 0.001;
+    private static final DateTimeFormatter FECHA_LOCAL = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    // Mismas columnas que actualiza VentaRepository.sumarAbono; sin efecto si la venta cambió desde la lectura.
+    // La fecha sale del reloj de la aplicación, como la de la auditoría, no del de la base
+    private static final String SQL_APLICAR_SALDO =
+            "UPDATE ventas.ventas SET monto_abonado = :montoAbonado, saldo_pendiente = :saldoPendiente,"
+            + " version = version + 1, fecha_modificacion = :ahora"
+            + " WHERE venta_id = :ventaId AND version = :version";
+
+    private final VentaRepository ventaRepository;
+    private final OutboxService outbox;
+    private final Validator validator;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final int ventasPorTransaccion;
+    private final int maxLineas;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AbonoImportacionService(VentaRepository ventaRepository, OutboxService outbox, Validator validator,
+                                   NamedParameterJdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+                                   @Value("${app.abonos.importacion.ventas-por-transaccion:200}") int ventasPorTransaccion,
+                                   @Value("${app.abonos.importacion.max-lineas:50000}") int maxLineas,
+                                   @Value("${app.transacciones.timeout-segundos:30}") int timeoutSegundos) {
+        this.ventaRepository = ventaRepository;
+        this.outbox = outbox;
+        this.validator = validator;
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Cada bloque debe confirmarse dentro del margen del feed de cambios (ver CambiosService)
+        this.transactionTemplate.setTimeout(timeoutSegundos);
+        this.ventasPorTransaccion = Math.max(1, ventasPorTransaccion);
+        this.maxLineas = maxLineas;
+    }
+
+    /**
+     * Columnas: ventaId, montoAbonado (o monto) y fechaAbono (o fecha: yyyy-MM-ddTHH:mm[:ss], yyyy-MM-dd o dd/MM/yyyy).
+     */
+    public ImportacionAbonosDTO importarCsv(Reader csv) throws IOException {
+        List<Map<String, String>> registros = CsvUtil.leer(csv);
+        List<AbonoDTO> abonos = new ArrayList<>(registros.size());
+        ResultadoLinea[] resultados = new ResultadoLinea[registros.size()];
+
+        for (int i = 0; i < registros.size(); i++) {
+            Map<String, String> registro = registros.get(i);
+            AbonoDTO abono = new AbonoDTO();
+            try {
+                abono.setVentaId(CsvUtil.uuid(registro.get("ventaid"), "ventaId"));
+                abono.setMontoAbonado(CsvUtil.numero(columna(registro, "montoabonado", "monto"), "montoAbonado"));
+                abono.setFechaAbono(fecha(columna(registro, "fechaabono", "fecha")));
+            } catch (IllegalArgumentException e) {
+                resultados[i] = rechazo(i, abono, e.getMessage());
+            }
+            abonos.add(abono);
+        }
+        return procesar(abonos, resultados);
+    }
+
+    public ImportacionAbonosDTO importar(List<AbonoDTO> abonos) {
+        return procesar(abonos, new ResultadoLinea[abonos.size()]);
+    }
+
+    // Las líneas con resultado ya asignado no se pudieron leer
+    private ImportacionAbonosDTO procesar(List<AbonoDTO> abonos, ResultadoLinea[] resultados) {
+        if (abonos.isEmpty()) {
+            throw new IllegalArgumentException("El archivo no contiene abonos.");
+        }
+        if (abonos.size() > maxLineas) {
+            throw new IllegalArgumentException("Se admiten como máximo " + maxLineas + " abonos por importación.");
+        }
+
+        // Orden fijo de ventas: dos importaciones simultáneas bloquean sus filas en el mismo orden
+        SortedMap<UUID, List<Integer>> porVenta = new TreeMap<>();
+        for (int i = 0; i < abonos.size(); i++) {
+            if (resultados[i] != null) continue;
+            AbonoDTO abono = abonos.get(i);
+            String error = abono == null ? "Línea vacía." : validar(abono);
+            if (error != null) {
+                resultados[i] = rechazo(i, abono, error);
+                continue;
+            }
+            porVenta.computeIfAbsent(abono.getVentaId(), id -> new ArrayList<>()).add(i);
+        }
+
+        List<UUID> ventas = new ArrayList<>(porVenta.keySet());
+        for (int desde = 0; desde < ventas.size(); desde += ventasPorTransaccion) {
+            List<UUID> bloque = ventas.subList(desde, Math.min(desde + ventasPorTransaccion, ventas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> aplicarBloque(bloque, porVenta, abonos, resultados));
+            } catch (RuntimeException e) {
+                log.warn("Importación de abonos: bloque de {} venta(s) rechazado.", bloque.size(), e);
+                for (UUID ventaId : bloque) {
+                    for (int i : porVenta.get(ventaId)) {
+                        resultados[i] = rechazo(i, abonos.get(i), "No se pudo registrar el abono; vuelva a enviar esta línea.");
+                    }
+                }
+            }
+        }
+
+        List<ResultadoLinea> lineas = Arrays.asList(resultados);
+        int registrados = (int) lineas.stream().filter(r -> r.getEstado() == Estado.REGISTRADO).count();
+        return new ImportacionAbonosDTO(lineas.size(), registrados, lineas.size() - registrados, lineas);
+    }
+
+    private void aplicarBloque(List<UUID> bloque, Map<UUID, List<Integer>> porVenta, List<AbonoDTO> abonos,
+                               ResultadoLinea[] resultados) {
+        Map<UUID, Object[]> saldos = new HashMap<>();
+        for (Object[] fila : ventaRepository.saldosPorIds(bloque)) {
+            saldos.put((UUID) fila[0], fila);
+        }
+
+        // 1. Líneas contra el saldo en memoria; las aceptadas quedan REGISTRADO a la espera de escribir el saldo
+        Map<UUID, Double> montosTotales = new HashMap<>();
+        List<UUID> modificadas = new ArrayList<>();
+        List<MapSqlParameterSource> nuevosSaldos = new ArrayList<>();
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+        for (UUID ventaId : bloque) {
+            List<Integer> lineas = porVenta.get(ventaId);
+            Object[] fila = saldos.get(ventaId);
+            if (fila == null) {
+                lineas.forEach(i -> resultados[i] = rechazo(i, abonos.get(i), "Venta no encontrada con ID: " + ventaId));
+                continue;
+            }
+            double montoTotal = fila[1] != null ? ((Number) fila[1]).doubleValue() : 0.0;
+            montosTotales.put(ventaId, montoTotal);
+            // Venta aún no conciliada: su saldo sale de la suma de abonos, como en AbonoService.crearAbono
+            double montoAbonado = ((Number) (fila[2] != null ? fila[2] : fila[3])).doubleValue();
+            boolean aceptada = false;
+
+            for (int i : lineas) {
+                AbonoDTO abono = abonos.get(i);
+                double saldoPendiente = montoTotal - montoAbonado;
+                if (abono.getMontoAbonado() > saldoPendiente + TOLERANCIA) {
+                    resultados[i] = rechazo(i, abono, "El monto del abono (" + abono.getMontoAbonado()
+                            + ") excede el saldo pendiente de la venta (" + saldoPendiente + ").");
+                    resultados[i].setSaldoPendiente(saldoPendiente);
+                    continue;
+                }
+                montoAbonado += abono.getMontoAbonado();
+                resultados[i] = new ResultadoLinea(i + 1, ventaId, abono.getMontoAbonado(), Estado.REGISTRADO,
+                        null, montoTotal - montoAbonado, null);
+                aceptada = true;
+            }
+            if (aceptada) {
+                modificadas.add(ventaId);
+                nuevosSaldos.add(new MapSqlParameterSource()
+                        .addValue("ventaId", ventaId)
+                        .addValue("montoAbonado", montoAbonado)
+                        .addValue("saldoPendiente", montoTotal - montoAbonado)
+                        .addValue("version", ((Number) fila[4]).longValue())
+                        .addValue("ahora", ahora));
+            }
+        }
+        if (modificadas.isEmpty()) return;
+
+        // 2. Saldos en un solo batch; cada fila queda bloqueada hasta el commit
+        int[] actualizadas = jdbc.batchUpdate(SQL_APLICAR_SALDO, nuevosSaldos.toArray(new MapSqlParameterSource[0]));
+
+        // 3. Abonos de las ventas actualizadas: un INSERT por abono agrupados en el batch JDBC de Hibernate
+        List<Abono> registrados = new ArrayList<>();
+        List<ResultadoLinea> registradosResultado = new ArrayList<>();
+        for (int v = 0; v < modificadas.size(); v++) {
+            UUID ventaId = modificadas.get(v);
+            boolean cambioConcurrente = actualizadas[v] == 0;
+            for (int i : porVenta.get(ventaId)) {
+                if (resultados[i].getEstado() != Estado.REGISTRADO) continue;
+                AbonoDTO dto = abonos.get(i);
+                if (cambioConcurrente) {
+                    resultados[i] = rechazo(i, dto, "La venta fue modificada por otro abono durante la importación; "
+                            + "vuelva a enviar esta línea.");
+                    continue;
+                }
+                Abono abono = new Abono();
+                abono.setVenta(entityManager.getReference(Venta.class, ventaId));
+                abono.setMontoAbonado(dto.getMontoAbonado());
+                abono.setFechaAbono(dto.getFechaAbono());
+                entityManager.persist(abono);
+                resultados[i].setAbonoId(abono.getAbonoId());
+                registrados.add(abono);
+                registradosResultado.add(resultados[i]);
+            }
+        }
+        // Los eventos van después: el outbox usa IDENTITY y cortaría el batch de inserciones
+        entityManager.flush();
+
+        for (int k = 0; k < registrados.size(); k++) {
+            Abono abono = registrados.get(k);
+            ResultadoLinea resultado = registradosResultado.get(k);
+            double montoTotal = montosTotales.get(resultado.getVentaId());
+            outbox.registrar(EventoOutbox.TipoAgregado.ABONO, abono.getAbonoId(), "REGISTRADO",
+                    AbonoService.eventoRegistrado(abono, resultado.getVentaId(),
+                            montoTotal - resultado.getSaldoPendiente(), resultado.getSaldoPendiente()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String validar(AbonoDTO abono) {
+        Set<ConstraintViolation<AbonoDTO>> violaciones = validator.validate(abono);
+        if (violaciones.isEmpty()) return null;
+        return violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static ResultadoLinea rechazo(int indice, AbonoDTO abono, String mensaje) {
+        return new ResultadoLinea(indice + 1, abono != null ? abono.getVentaId() : null,
+                abono != null ? abono.getMontoAbonado() : null, Estado.RECHAZADO, null, null, mensaje);
+    }
+
+    private static String columna(Map<String, String> registro, String nombre, String alternativa) {
+        String valor = registro.get(nombre);
+        return valor != null ? valor : registro.get(alternativa);
+    }
+
+    private static LocalDateTime fecha(String valor) {
+        if (valor == null) return null;
+        try {
+            if (valor.indexOf('/') >= 0) return LocalDate.parse(valor, FECHA_LOCAL).atStartOfDay();
+            return valor.indexOf('T') >= 0 ? LocalDateTime.parse(valor) : LocalDate.parse(valor).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha no válida en la columna 'fechaAbono': " + valor);
+        }
+    }
+}
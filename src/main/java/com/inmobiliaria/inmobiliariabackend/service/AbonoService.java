@@ -3,76 +3,82 @@ package com.inmobiliaria.inmobiliariabackend.service;
 import com.inmobiliaria.inmobiliariabackend.dto.AbonoDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Abono;
 import com.inmobiliaria.inmobiliariabackend.model.EstadoVenta;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
 import com.inmobiliaria.inmobiliariabackend.model.EstadoLote; // 🟢 Importación para el estado del Lote
 import com.inmobiliaria.inmobiliariabackend.model.Lote; // 🟢 Importación para manipular el Lote
 import com.inmobiliaria.inmobiliariabackend.model.Venta;
 import com.inmobiliaria.inmobiliariabackend.repository.AbonoRepository;
-import com.inmobiliaria.inmobiliariabackend.repository.EstadoVentaRepository;
-import com.inmobiliaria.inmobiliariabackend.repository.EstadoLoteRepository; // 🟢 NUEVO: Repositorio de EstadoLote
 import com.inmobiliaria.inmobiliariabackend.repository.LoteRepository; // 🟢 NUEVO: Repositorio de Lote (para guardar el estado)
 import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class AbonoService {
 
+    private static final double TOLERANCIA = 0.001;
+
     private final AbonoRepository abonoRepository;
     private final VentaRepository ventaRepository;
-    private final EstadoVentaRepository estadoVentaRepository;
-    private final EstadoLoteRepository estadoLoteRepository; // 🟢 Inyección del nuevo repositorio
+    private final CatalogoRegistry catalogos; // Estados resueltos en memoria
     private final LoteRepository loteRepository; // 🟢 Inyección del repositorio de Lote
+    private final OutboxService outbox; // Eventos para el servicio de IA
 
-    // 🟢 Constructor actualizado para inyectar EstadoLoteRepository y LoteRepository
+    // 🟢 Constructor actualizado para inyectar CatalogoRegistry y LoteRepository
     public AbonoService(AbonoRepository abonoRepository, VentaRepository ventaRepository,
-                        EstadoVentaRepository estadoVentaRepository, EstadoLoteRepository estadoLoteRepository,
-                        LoteRepository loteRepository) {
+                        CatalogoRegistry catalogos, LoteRepository loteRepository, OutboxService outbox) {
         this.abonoRepository = abonoRepository;
         this.ventaRepository = ventaRepository;
-        this.estadoVentaRepository = estadoVentaRepository;
-        this.estadoLoteRepository = estadoLoteRepository;
+        this.catalogos = catalogos;
         this.loteRepository = loteRepository;
+        this.outbox = outbox;
     }
 
     // Método auxiliar para buscar el estado "Confirmada" de la Venta
     private EstadoVenta obtenerEstadoConfirmada() {
-        return estadoVentaRepository.findByNombre("Confirmada")
+        return catalogos.estadoVentaPorNombre("Confirmada")
                 .orElseThrow(() -> new EntityNotFoundException("El estado 'Confirmada' no existe en la base de datos."));
     }
 
     // Método auxiliar para buscar el estado "Vendido" del Lote
     private EstadoLote obtenerEstadoVendido() {
-        return estadoLoteRepository.findByNombre("Vendido")
+        return catalogos.estadoLotePorNombre("Vendido")
                 .orElseThrow(() -> new EntityNotFoundException("El estado de lote 'Vendido' no existe en la base de datos."));
     }
 
-    // Método para calcular el total abonado hasta el momento
-    private Double calcularTotalAbonado(UUID ventaId) {
-        return abonoRepository.findByVenta_VentaId(ventaId).stream()
-                .mapToDouble(Abono::getMontoAbonado)
-                .sum();
-    }
-
     /**
      * Registra un nuevo abono a una venta. Incluye validación de saldo y cambio de estado.
+     *
+     * La validación y la actualización del saldo son una sola sentencia (VentaRepository.sumarAbono):
+     * los abonos concurrentes de una misma venta se serializan sobre su fila y ninguno puede dejarla
+     * sobrepagada; los de otras ventas no esperan.
      */
     @Transactional
     public Abono crearAbono(AbonoDTO abonoDto) {
-        Venta venta = ventaRepository.findById(abonoDto.getVentaId())
-                .orElseThrow(() -> new EntityNotFoundException("Venta no encontrada con ID: " + abonoDto.getVentaId()));
-
-        Double totalAbonadoActual = calcularTotalAbonado(venta.getVentaId());
+        UUID ventaId = abonoDto.getVentaId();
         Double nuevoMontoAbonado = abonoDto.getMontoAbonado();
-        Double montoTotal = venta.getMontoTotal();
-        Double saldoPendiente = montoTotal - totalAbonadoActual;
 
         // 🟢 VALIDACIÓN CRUCIAL: Asegurar que el abono no exceda el saldo pendiente
         // Se usa un pequeño delta (0.001) para manejar la precisión de los flotantes.
-        if (nuevoMontoAbonado > saldoPendiente + 0.001) {
+        LocalDateTime ahora = LocalDateTime.now();
+        boolean aplicado = ventaRepository.sumarAbono(ventaId, nuevoMontoAbonado, TOLERANCIA, ahora) == 1
+                // Venta aún no conciliada: se inicializa su saldo con la suma de abonos y se reintenta una vez
+                || (ventaRepository.inicializarMontoAbonado(ventaId, ahora) == 1
+                    && ventaRepository.sumarAbono(ventaId, nuevoMontoAbonado, TOLERANCIA, ahora) == 1);
+
+        // Saldo ya actualizado por la sentencia anterior (la venta no estaba en el contexto de persistencia)
+        Venta venta = ventaRepository.findById(ventaId)
+                .orElseThrow(() -> new EntityNotFoundException("Venta no encontrada con ID: " + ventaId));
+        if (!aplicado) {
+            double saldoPendiente = (venta.getMontoTotal() != null ? venta.getMontoTotal() : 0.0)
+                    - (venta.getMontoAbonado() != null ? venta.getMontoAbonado() : 0.0);
             throw new IllegalArgumentException(
                     "El monto del abono (" + nuevoMontoAbonado + ") excede el saldo pendiente de la venta (" + saldoPendiente + ")."
             );
@@ -83,9 +89,6 @@ public class AbonoService {
         abono.setMontoAbonado(nuevoMontoAbonado);
         abono.setFechaAbono(abonoDto.getFechaAbono());
 
-        // 🟢 LÓGICA DE CAMBIO DE ESTADO
-        Double nuevoTotalPagado = totalAbonadoActual + nuevoMontoAbonado;
-
         // Compara si el nuevo total pagado iguala el monto total (venta completada)
 //        if (Double.compare(nuevoTotalPagado, montoTotal) >= 0) {
 //
@@ -101,7 +104,25 @@ public class AbonoService {
 //            loteRepository.save(lote); // Guardar el cambio de estado del Lote
 //        }
 
-        return abonoRepository.save(abono);
+        Abono guardado = abonoRepository.save(abono);
+
+        // Evento en la misma transacción: incluye el saldo de la venta ya actualizado
+        outbox.registrar(EventoOutbox.TipoAgregado.ABONO, guardado.getAbonoId(), "REGISTRADO",
+                eventoRegistrado(guardado, venta.getVentaId(), venta.getMontoAbonado(), venta.getSaldoPendiente()));
+
+        return guardado;
+    }
+
+    // Payload del evento REGISTRADO (también lo usa la importación masiva de abonos)
+    static Map<String, Object> eventoRegistrado(Abono abono, UUID ventaId, Double montoAbonadoVenta, Double saldoPendienteVenta) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("abonoId", abono.getAbonoId());
+        payload.put("ventaId", ventaId);
+        payload.put("montoAbonado", abono.getMontoAbonado());
+        payload.put("fechaAbono", abono.getFechaAbono());
+        payload.put("montoAbonadoVenta", montoAbonadoVenta);
+        payload.put("saldoPendienteVenta", saldoPendienteVenta);
+        return payload;
     }
 
     /**
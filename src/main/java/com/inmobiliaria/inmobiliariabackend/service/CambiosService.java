@@ -0,0 +1,166 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.CambiosDTO;
+import com.inmobiliaria.inmobiliariabackend.model.Auditable;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Proyecto;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.CambiosRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.LoteRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.ProyectoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Feed de cambios para la integración IA: en lugar de descargar todas las ventas, lotes y proyectos,
+ * el consumidor pide lo modificado después de su última marca.
+ *
+ * La marca guarda una posición (fechaModificacion, id) por tipo, así cada tipo se pagina por separado y
+ * el desempate por id no salta filas con la misma fecha. fechaModificacion la pone la aplicación al escribir,
+ * no la base al confirmar: solo se entregan filas con fechaModificacion anterior a "ahora - margen", para que
+ * una transacción confirmada después de auditar sus filas no quede detrás de una marca ya entregada.
+ *
+ * Eso vale mientras ninguna transacción tarde más que el margen entre auditar y confirmar. Las largas
+ * (importaciones de lotes y abonos) tienen como tope app.transacciones.timeout-segundos y se revierten si
+ * lo superan, así que el margen es ese tope más una holgura para el commit. Una transacción más larga sin
+ * ese tope podría confirmar filas detrás de la marca, y el feed no las entregaría.
+ *
+ * La entrega es "al menos una vez": una fila puede repetirse en la llamada siguiente (misma fecha que el
+ * corte), así que el consumidor debe aplicar los cambios como upsert.
+ */
+@Service
+public class CambiosService {
+
+    private static final String SEPARADOR_TIPOS = ";";
+    private static final String SEPARADOR_VALOR = "=";
+    private static final UUID ID_INICIAL = new UUID(0L, 0L);
+
+    enum Tipo { VENTA, LOTE, PROYECTO }
+
+    private final VentaRepository ventaRepository;
+    private final LoteRepository loteRepository;
+    private final ProyectoRepository proyectoRepository;
+    private final VentaService ventaService;
+    private final LoteService loteService;
+    private final ProyectoService proyectoService;
+    private final long margenSegundos;
+
+    public CambiosService(VentaRepository ventaRepository, LoteRepository loteRepository, ProyectoRepository proyectoRepository,
+                          VentaService ventaService, LoteService loteService, ProyectoService proyectoService,
+                          @Value("${app.transacciones.timeout-segundos:30}") long timeoutTransaccionSegundos,
+                          @Value("${app.ia.cambios.holgura-segundos:5}") long holguraSegundos) {
+        this.ventaRepository = ventaRepository;
+        this.loteRepository = loteRepository;
+        this.proyectoRepository = proyectoRepository;
+        this.ventaService = ventaService;
+        this.loteService = loteService;
+        this.proyectoService = proyectoService;
+        this.margenSegundos = timeoutTransaccionSegundos + holguraSegundos;
+    }
+
+    /**
+     * @param desde marca devuelta por la llamada anterior, una fecha ISO (yyyy-MM-ddTHH:mm:ss) o null para todo
+     */
+    @Transactional(readOnly = true)
+    public CambiosDTO cambiosDesde(String desde, Integer limite) {
+        Map<Tipo, CursorUtil.Cursor> posiciones = decodificar(desde);
+        LocalDateTime hasta = LocalDateTime.now().minusSeconds(margenSegundos);
+        List<CambiosDTO.Eliminado> eliminados = new ArrayList<>();
+        Map<Tipo, CursorUtil.Cursor> siguientes = new EnumMap<>(Tipo.class);
+        boolean haySiguiente = false;
+
+        Slice<Venta> ventas = leer(ventaRepository, posiciones.get(Tipo.VENTA), hasta, limite);
+        List<Venta> ventasActivas = separar(ventas, Tipo.VENTA, Venta::getVentaId, eliminados, hasta, siguientes);
+        haySiguiente |= ventas.hasNext();
+
+        Slice<Lote> lotes = leer(loteRepository, posiciones.get(Tipo.LOTE), hasta, limite);
+        List<Lote> lotesActivos = separar(lotes, Tipo.LOTE, Lote::getLoteId, eliminados, hasta, siguientes);
+        haySiguiente |= lotes.hasNext();
+
+        Slice<Proyecto> proyectos = leer(proyectoRepository, posiciones.get(Tipo.PROYECTO), hasta, limite);
+        List<Proyecto> proyectosActivos = separar(proyectos, Tipo.PROYECTO, Proyecto::getProyectoId, eliminados, hasta, siguientes);
+        haySiguiente |= proyectos.hasNext();
+
+        return new CambiosDTO(
+                ventaService.mapearADto(ventasActivas),
+                loteService.mapearADto(lotesActivos),
+                proyectoService.mapearADto(proyectosActivos),
+                eliminados,
+                codificar(siguientes),
+                haySiguiente
+        );
+    }
+
+    private static <T> Slice<T> leer(CambiosRepository<T> repositorio, CursorUtil.Cursor desde, LocalDateTime hasta, Integer limite) {
+        return repositorio.buscarCambiosDespuesDe(desde.getFecha(), desde.getId(), hasta, CursorUtil.limite(limite));
+    }
+
+    // Separa activas de eliminadas y calcula la nueva posición del tipo
+    private static <T extends Auditable> List<T> separar(Slice<T> slice, Tipo tipo, Function<T, UUID> id,
+                                                          List<CambiosDTO.Eliminado> eliminados, LocalDateTime hasta,
+                                                          Map<Tipo, CursorUtil.Cursor> siguientes) {
+        List<T> activas = new ArrayList<>();
+        for (T fila : slice.getContent()) {
+            if (fila.getFechaEliminacion() != null) {
+                eliminados.add(new CambiosDTO.Eliminado(tipo.name(), id.apply(fila), fila.getFechaEliminacion()));
+            } else {
+                activas.add(fila);
+            }
+        }
+
+        if (slice.hasNext()) {
+            T ultima = slice.getContent().get(slice.getNumberOfElements() - 1);
+            siguientes.put(tipo, new CursorUtil.Cursor(ultima.getFechaModificacion(), id.apply(ultima)));
+        } else {
+            // Tipo al día: la próxima llamada parte de "hasta", no de la última fila
+            siguientes.put(tipo, new CursorUtil.Cursor(hasta, ID_INICIAL));
+        }
+        return activas;
+    }
+
+    static Map<Tipo, CursorUtil.Cursor> decodificar(String desde) {
+        Map<Tipo, CursorUtil.Cursor> posiciones = new EnumMap<>(Tipo.class);
+        CursorUtil.Cursor inicio = CursorUtil.decodificar(null);
+        if (desde != null && !desde.trim().isEmpty()) {
+            try {
+                inicio = new CursorUtil.Cursor(LocalDateTime.parse(desde.trim()), ID_INICIAL);
+            } catch (DateTimeParseException noEsFecha) {
+                inicio = null;
+            }
+        }
+        if (inicio != null) {
+            for (Tipo tipo : Tipo.values()) posiciones.put(tipo, inicio);
+            return posiciones;
+        }
+
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(desde.trim()), StandardCharsets.UTF_8);
+            for (String parte : valor.split(SEPARADOR_TIPOS)) {
+                String[] tipoYCursor = parte.split(SEPARADOR_VALOR, 2);
+                posiciones.put(Tipo.valueOf(tipoYCursor[0]), CursorUtil.decodificar(tipoYCursor[1]));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Marca de cambios inválida.");
+        }
+        // Un tipo ausente en la marca (p. ej. agregado después) empieza desde el principio
+        for (Tipo tipo : Tipo.values()) posiciones.putIfAbsent(tipo, CursorUtil.decodificar(null));
+        return posiciones;
+    }
+
+    static String codificar(Map<Tipo, CursorUtil.Cursor> posiciones) {
+        StringJoiner valor = new StringJoiner(SEPARADOR_TIPOS);
+        posiciones.forEach((tipo, cursor) ->
+                valor.add(tipo.name() + SEPARADOR_VALOR + CursorUtil.codificar(cursor.getFecha(), cursor.getId())));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
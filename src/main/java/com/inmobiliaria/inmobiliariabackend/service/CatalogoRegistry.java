@@ -0,0 +1,154 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.Auditable;
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.model.EstadoVenta;
+import com.inmobiliaria.inmobiliariabackend.model.Moneda;
+import com.inmobiliaria.inmobiliariabackend.repository.EstadoLoteRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.EstadoVentaRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.MonedaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Catálogos de estados de venta, estados de lote y monedas en memoria.
+ * Se cargan al iniciar y se reemplazan completos (instantánea inmutable) cuando EstadoLoteService,
+ * EstadoVentaService o MonedaService modifican una fila, así las búsquedas por nombre o id
+ * de la lógica de ventas/abonos no consultan la base.
+ *
+ * Un id o nombre que no está en la instantánea provoca una recarga, pero como mucho una por
+ * intervalo mínimo (app.catalogos.recarga-minima-ms): los ids llegan desde los DTO y un cliente
+ * con ids inválidos no debe traducirse en consultas a los tres catálogos por cada petición.
+ *
+ * Las entidades devueltas son instancias desacopladas de la sesión: se usan solo como referencia
+ * (asociaciones, nombres) y no deben modificarse.
+ */
+@Component
+public class CatalogoRegistry {
+
+    private final EstadoVentaRepository estadoVentaRepository;
+    private final EstadoLoteRepository estadoLoteRepository;
+    private final MonedaRepository monedaRepository;
+
+    private final long recargaMinimaNanos;
+
+    private volatile Instantanea instantanea;
+    private volatile long ultimaRecarga;
+
+    public CatalogoRegistry(EstadoVentaRepository estadoVentaRepository, EstadoLoteRepository estadoLoteRepository,
+                            MonedaRepository monedaRepository) {
+        this(estadoVentaRepository, estadoLoteRepository, monedaRepository, Duration.ofSeconds(30).toMillis());
+    }
+
+    @Autowired
+    public CatalogoRegistry(EstadoVentaRepository estadoVentaRepository, EstadoLoteRepository estadoLoteRepository,
+                            MonedaRepository monedaRepository,
+                            @Value("${app.catalogos.recarga-minima-ms:30000}") long recargaMinimaMs) {
+        this.estadoVentaRepository = estadoVentaRepository;
+        this.estadoLoteRepository = estadoLoteRepository;
+        this.monedaRepository = monedaRepository;
+        this.recargaMinimaNanos = Duration.ofMillis(recargaMinimaMs).toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recargar() {
+        instantanea = new Instantanea(
+                new Catalogo<>(estadoVentaRepository.findAll(), EstadoVenta::getEstadoVentaId, EstadoVenta::getNombre),
+                new Catalogo<>(estadoLoteRepository.findAll(), EstadoLote::getEstadoLoteId, EstadoLote::getNombre),
+                new Catalogo<>(monedaRepository.findAll(), Moneda::getMonedaId, Moneda::getNombre)
+        );
+        ultimaRecarga = System.nanoTime();
+    }
+
+    public Optional<EstadoVenta> estadoVentaPorNombre(String nombre) {
+        return buscar(i -> i.estadosVenta.porNombre(nombre));
+    }
+
+    public Optional<EstadoVenta> estadoVentaPorId(UUID id) {
+        return buscar(i -> i.estadosVenta.porId(id));
+    }
+
+    public Optional<EstadoLote> estadoLotePorNombre(String nombre) {
+        return buscar(i -> i.estadosLote.porNombre(nombre));
+    }
+
+    public Optional<EstadoLote> estadoLotePorId(UUID id) {
+        return buscar(i -> i.estadosLote.porId(id));
+    }
+
+    public Optional<Moneda> monedaPorId(UUID id) {
+        return buscar(i -> i.monedas.porId(id));
+    }
+
+    // Si no está en la instantánea (fila creada por otra instancia o directo en BD) se recarga,
+    // salvo que otra búsqueda fallida ya lo haya hecho dentro del intervalo mínimo
+    private <T> Optional<T> buscar(Function<Instantanea, T> consulta) {
+        Instantanea actual = instantanea;
+        if (actual == null) {
+            synchronized (this) {
+                if (instantanea == null) recargar();
+                actual = instantanea;
+            }
+        }
+        T encontrado = consulta.apply(actual);
+        if (encontrado == null && recargarSiCorresponde(actual)) {
+            encontrado = consulta.apply(instantanea);
+        }
+        return Optional.ofNullable(encontrado);
+    }
+
+    // Una sola recarga a la vez; quien esperaba el monitor y ve una instantánea nueva no vuelve a consultar
+    private synchronized boolean recargarSiCorresponde(Instantanea vista) {
+        if (instantanea != vista) return true;
+        if (System.nanoTime() - ultimaRecarga < recargaMinimaNanos) return false;
+        recargar();
+        return true;
+    }
+
+    private static final class Instantanea {
+        private final Catalogo<EstadoVenta> estadosVenta;
+        private final Catalogo<EstadoLote> estadosLote;
+        private final Catalogo<Moneda> monedas;
+
+        private Instantanea(Catalogo<EstadoVenta> estadosVenta, Catalogo<EstadoLote> estadosLote, Catalogo<Moneda> monedas) {
+            this.estadosVenta = estadosVenta;
+            this.estadosLote = estadosLote;
+            this.monedas = monedas;
+        }
+    }
+
+    private static final class Catalogo<T extends Auditable> {
+        private final Map<UUID, T> porId;
+        private final Map<String, T> porNombre;
+
+        private Catalogo(List<T> filas, Function<T, UUID> id, Function<T, String> nombre) {
+            Map<UUID, T> ids = new HashMap<>();
+            Map<String, T> nombres = new HashMap<>();
+            for (T fila : filas) {
+                ids.put(id.apply(fila), fila);
+                // Ante nombres repetidos prevalece la fila activa sobre la eliminada lógicamente
+                T previa = nombres.get(nombre.apply(fila));
+                if (previa == null || previa.getFechaEliminacion() != null) {
+                    nombres.put(nombre.apply(fila), fila);
+                }
+            }
+            this.porId = Collections.unmodifiableMap(ids);
+            this.porNombre = Collections.unmodifiableMap(nombres);
+        }
+
+        T porId(UUID id) {
+            return id == null ? null : porId.get(id);
+        }
+
+        T porNombre(String nombre) {
+            return nombre == null ? null : porNombre.get(nombre);
+        }
+    }
+}
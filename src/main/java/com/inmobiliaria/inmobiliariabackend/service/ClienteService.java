@@ -1,17 +1,24 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
 import com.inmobiliaria.inmobiliariabackend.dto.ClienteDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Cliente;
 import com.inmobiliaria.inmobiliariabackend.model.TipoDocumento;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.ClienteRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.TipoDocumentoRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,42 +26,35 @@ public class ClienteService {
 
     private final ClienteRepository clienteRepository;
     private final TipoDocumentoRepository tipoDocumentoRepository;
+    private final VentaRepository ventaRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final IndiceBusquedaService indiceBusqueda;
 
-    public ClienteService(ClienteRepository clienteRepository, TipoDocumentoRepository tipoDocumentoRepository) {
+    public ClienteService(ClienteRepository clienteRepository, TipoDocumentoRepository tipoDocumentoRepository,
+                          VentaRepository ventaRepository, BusquedaTextoRepository busquedaTextoRepository,
+                          IndiceBusquedaService indiceBusqueda) {
         this.clienteRepository = clienteRepository;
         this.tipoDocumentoRepository = tipoDocumentoRepository;
+        this.ventaRepository = ventaRepository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.indiceBusqueda = indiceBusqueda;
     }
 
     public List<Cliente> listarClientes(String busqueda) {
-        // 1. Obtenemos todos los activos (ya tienes este método)
-        List<Cliente> todos = clienteRepository.findByFechaEliminacionIsNull();
-
         if (busqueda == null || busqueda.trim().isEmpty()) {
-            return todos;
+            return clienteRepository.findByFechaEliminacionIsNull();
         }
 
-        // 2. Normalizamos la búsqueda
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        // 3. Filtramos TODO en memoria con TextUtil
-        return todos.stream()
-                .filter(c -> {
-                    String contenidoSocio = TextUtil.limpiarAcentos(
-                            (c.getPrimerNombre() != null ? c.getPrimerNombre() : "") + " " +
-                                    (c.getSegundoNombre() != null ? c.getSegundoNombre() : "") + " " +
-                                    (c.getApellidoPaterno() != null ? c.getApellidoPaterno() : "") + " " +
-                                    (c.getApellidoMaterno() != null ? c.getApellidoMaterno() : "") + " " +
-                                    (c.getNumeroDocumento() != null ? c.getNumeroDocumento() : "")
-                    );
-
-                    // Verificamos que todas las palabras de la búsqueda estén en el contenido
-                    for (String p : palabras) {
-                        if (!contenidoSocio.contains(p)) return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        // Nombres y documento se buscan en la columna normalizada "busqueda" (índice trigram en PostgreSQL)
+        return busquedaTextoRepository.buscar(Cliente.class, busqueda, null, Pageable.unpaged(), null).getContent();
+    }
+
+    public CursorPageDTO<Cliente> listarClientesPorCursor(String busqueda, String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        Slice<Cliente> clientes = busqueda == null || busqueda.trim().isEmpty()
+                ? clienteRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite))
+                : busquedaTextoRepository.buscar(Cliente.class, busqueda, posicion, CursorUtil.limite(limite), null);
+        return CursorUtil.pagina(clientes, Function.identity(), Cliente::getFechaCreacion, Cliente::getClienteId);
     }
 
     public Optional<Cliente> obtenerClientePorId(UUID id) {
@@ -83,7 +83,9 @@ public class ClienteService {
         nuevoCliente.setTelefono(dto.getTelefono());
         nuevoCliente.setIngresosMensuales(dto.getIngresosMensuales());
 
-        return clienteRepository.save(nuevoCliente);
+        Cliente guardado = clienteRepository.save(nuevoCliente);
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.CLIENTE, guardado.getClienteId(), guardado);
+        return guardado;
     }
 
     public Cliente actualizarCliente(UUID id, ClienteDTO dto) {
@@ -111,7 +113,15 @@ public class ClienteService {
                     existente.setTelefono(dto.getTelefono());
                     existente.setIngresosMensuales(dto.getIngresosMensuales());
 
-                    return clienteRepository.save(existente);
+                    Cliente guardado = clienteRepository.save(existente);
+                    // El nombre del cliente forma parte del texto de búsqueda de sus ventas
+                    List<Venta> ventas = ventaRepository.findByClienteClienteIdAndFechaEliminacionIsNull(id);
+                    ventas.forEach(Venta::actualizarBusqueda);
+                    ventaRepository.saveAll(ventas);
+
+                    indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.CLIENTE, id, guardado);
+                    ventas.forEach(v -> indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.VENTA, v.getVentaId(), v));
+                    return guardado;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Cliente no encontrado."));
     }
@@ -121,6 +131,7 @@ public class ClienteService {
         clienteRepository.findById(id).ifPresent(cliente -> {
             cliente.setFechaEliminacion(LocalDateTime.now()); // borrado lógico
             clienteRepository.save(cliente);
+            indiceBusqueda.eliminar(IndiceBusquedaService.Tipo.CLIENTE, id);
         });
     }
 }
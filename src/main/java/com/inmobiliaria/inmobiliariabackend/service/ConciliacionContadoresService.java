@@ -0,0 +1,139 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.repository.LoteRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.ProyectoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Verifica en segundo plano que los contadores persistidos en Proyecto coincidan con sus lotes y ventas.
+ * Recorre los proyectos por bloques (keyset sobre proyectoId), cada bloque en su propia transacción con una
+ * consulta agrupada para los lotes y otra para las ventas, y corrige las diferencias.
+ */
+@Service
+public class ConciliacionContadoresService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConciliacionContadoresService.class);
+    private static final double TOLERANCIA = 0.001;
+
+    private final ProyectoRepository proyectoRepository;
+    private final LoteRepository loteRepository;
+    private final VentaRepository ventaRepository;
+    private final CatalogoRegistry catalogos;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.contadores-proyecto.tamano-bloque:200}")
+    private int tamanoBloque;
+
+    public ConciliacionContadoresService(ProyectoRepository proyectoRepository, LoteRepository loteRepository,
+                                         VentaRepository ventaRepository, CatalogoRegistry catalogos,
+                                         PlatformTransactionManager transactionManager) {
+        this.proyectoRepository = proyectoRepository;
+        this.loteRepository = loteRepository;
+        this.ventaRepository = ventaRepository;
+        this.catalogos = catalogos;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.contadores-proyecto.retraso-inicial-ms:90000}",
+            fixedDelayString = "${app.contadores-proyecto.intervalo-ms:3600000}")
+    public void conciliarProgramado() {
+        int corregidos = conciliar();
+        if (corregidos > 0) {
+            log.warn("Conciliación de contadores: {} proyecto(s) corregido(s).", corregidos);
+        }
+    }
+
+    /**
+     * @return cantidad de proyectos cuyos contadores fueron corregidos
+     */
+    public int conciliar() {
+        int corregidos = 0;
+        UUID ultimoId = null;
+
+        while (true) {
+            final UUID desde = ultimoId;
+            Bloque bloque = transactionTemplate.execute(status -> {
+                List<Object[]> filas = desde == null
+                        ? proyectoRepository.contadoresOrdenados(PageRequest.of(0, tamanoBloque))
+                        : proyectoRepository.contadoresOrdenadosDespuesDe(desde, PageRequest.of(0, tamanoBloque));
+                return new Bloque(filas, conciliarBloque(filas));
+            });
+
+            if (bloque == null || bloque.procesados == 0) break;
+            corregidos += bloque.corregidos;
+            ultimoId = bloque.ultimoId;
+            if (bloque.procesados < tamanoBloque) break;
+        }
+        return corregidos;
+    }
+
+    // filas: [proyectoId, totalLotes, lotesDisponibles, lotesReservados, lotesVendidos, montoVendido]
+    private int conciliarBloque(List<Object[]> filas) {
+        if (filas.isEmpty()) return 0;
+        List<UUID> ids = filas.stream().map(fila -> (UUID) fila[0]).collect(Collectors.toList());
+
+        // [total, disponibles, reservados, vendidos] por proyecto
+        Map<UUID, long[]> lotes = new HashMap<>();
+        for (Object[] fila : loteRepository.contarActivosPorProyectoYEstado(ids)) {
+            long[] conteo = lotes.computeIfAbsent((UUID) fila[0], id -> new long[4]);
+            long cantidad = ((Number) fila[2]).longValue();
+            String estado = catalogos.estadoLotePorId((UUID) fila[1]).map(EstadoLote::getNombre).orElse(null);
+            conteo[0] += cantidad;
+            if (ContadoresProyectoService.DISPONIBLE.equals(estado)) conteo[1] += cantidad;
+            if (ContadoresProyectoService.RESERVADO.equals(estado)) conteo[2] += cantidad;
+            if (ContadoresProyectoService.VENDIDO.equals(estado)) conteo[3] += cantidad;
+        }
+        Map<UUID, Double> montos = new HashMap<>();
+        for (Object[] fila : ventaRepository.sumarMontoVigentePorProyectos(ids)) {
+            montos.put((UUID) fila[0], ((Number) fila[1]).doubleValue());
+        }
+
+        int corregidos = 0;
+        for (Object[] fila : filas) {
+            UUID proyectoId = (UUID) fila[0];
+            long[] real = lotes.getOrDefault(proyectoId, new long[4]);
+            double montoReal = montos.getOrDefault(proyectoId, 0.0);
+            long total = ((Number) fila[1]).longValue();
+            long disponibles = ((Number) fila[2]).longValue();
+            long reservados = ((Number) fila[3]).longValue();
+            long vendidos = ((Number) fila[4]).longValue();
+            double montoVendido = ((Number) fila[5]).doubleValue();
+
+            boolean difiere = real[0] != total || real[1] != disponibles || real[2] != reservados
+                    || real[3] != vendidos || Math.abs(montoReal - montoVendido) > TOLERANCIA;
+            // Solo si nadie los ajustó después de leerlos; si no, se revisa en la próxima ejecución
+            if (difiere && proyectoRepository.corregirContadores(proyectoId, real[0], real[1], real[2], real[3], montoReal,
+                    total, disponibles, reservados, vendidos, montoVendido) == 1) {
+                corregidos++;
+            }
+        }
+        return corregidos;
+    }
+
+    private static final class Bloque {
+        private final int procesados;
+        private final int corregidos;
+        private final UUID ultimoId;
+
+        private Bloque(List<Object[]> filas, int corregidos) {
+            this.procesados = filas.size();
+            this.corregidos = corregidos;
+            this.ultimoId = filas.isEmpty() ? null : (UUID) filas.get(filas.size() - 1)[0];
+        }
+    }
+}
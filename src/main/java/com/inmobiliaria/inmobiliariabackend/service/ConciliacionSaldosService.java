@@ -0,0 +1,126 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.repository.AbonoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Verifica en segundo plano que los saldos persistidos en Venta (montoAbonado / saldoPendiente)
+ * coincidan con la suma real de abonos. Recorre las ventas por bloques y corrige las diferencias.
+ */
+@Service
+public class ConciliacionSaldosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConciliacionSaldosService.class);
+    private static final double TOLERANCIA = 0.001;
+
+    private final VentaRepository ventaRepository;
+    private final AbonoRepository abonoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.conciliacion.tamano-bloque:500}")
+    private int tamanoBloque;
+
+    public ConciliacionSaldosService(VentaRepository ventaRepository, AbonoRepository abonoRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.ventaRepository = ventaRepository;
+        this.abonoRepository = abonoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.conciliacion.retraso-inicial-ms:60000}",
+            fixedDelayString = "${app.conciliacion.intervalo-ms:3600000}")
+    public void conciliarProgramado() {
+        int corregidas = conciliar();
+        if (corregidas > 0) {
+            log.warn("Conciliación de saldos: {} venta(s) corregida(s).", corregidas);
+        }
+    }
+
+    /**
+     * Recorre todas las ventas en bloques (keyset sobre ventaId), cada bloque en su propia transacción.
+     * Solo escribe las ventas cuyo saldo difiere, con un UPDATE condicionado a la versión leída: las que
+     * ya cuadran no cambian de versión ni de fechaModificacion (no generan conflictos ni entradas en el
+     * feed de cambios), y las que un abono modificó entretanto se dejan para la próxima ejecución.
+     * @return cantidad de ventas cuyo saldo fue corregido
+     */
+    public int conciliar() {
+        int corregidas = 0;
+        UUID ultimoId = null;
+
+        while (true) {
+            final UUID desde = ultimoId;
+            Bloque bloque = transactionTemplate.execute(status -> {
+                List<Object[]> filas = desde == null
+                        ? ventaRepository.saldosOrdenados(PageRequest.of(0, tamanoBloque))
+                        : ventaRepository.saldosOrdenadosDespuesDe(desde, PageRequest.of(0, tamanoBloque));
+                return new Bloque(filas, conciliarBloque(filas));
+            });
+
+            if (bloque == null || bloque.procesadas == 0) break;
+            corregidas += bloque.corregidas;
+            ultimoId = bloque.ultimoId;
+            if (bloque.procesadas < tamanoBloque) break;
+        }
+        return corregidas;
+    }
+
+    // filas: [ventaId, montoTotal, montoAbonado, saldoPendiente, version]
+    private int conciliarBloque(List<Object[]> filas) {
+        if (filas.isEmpty()) return 0;
+
+        Map<UUID, Double> totales = new HashMap<>();
+        List<UUID> ids = filas.stream().map(f -> (UUID) f[0]).collect(Collectors.toList());
+        for (Object[] fila : abonoRepository.sumarMontoAbonadoPorVentas(ids)) {
+            totales.put((UUID) fila[0], ((Number) fila[1]).doubleValue());
+        }
+
+        LocalDateTime ahora = LocalDateTime.now();
+        int corregidas = 0;
+        for (Object[] fila : filas) {
+            UUID ventaId = (UUID) fila[0];
+            double montoTotal = fila[1] != null ? ((Number) fila[1]).doubleValue() : 0.0;
+            Double montoAbonado = (Double) fila[2];
+            Double saldoPendiente = (Double) fila[3];
+            long version = ((Number) fila[4]).longValue();
+
+            double totalReal = totales.getOrDefault(ventaId, 0.0);
+            double saldoReal = montoTotal - totalReal;
+
+            boolean difiere = montoAbonado == null || saldoPendiente == null
+                    || Math.abs(montoAbonado - totalReal) > TOLERANCIA
+                    || Math.abs(saldoPendiente - saldoReal) > TOLERANCIA;
+
+            if (difiere) {
+                corregidas += ventaRepository.corregirSaldo(ventaId, totalReal, saldoReal, version, ahora);
+            }
+        }
+        return corregidas;
+    }
+
+    private static final class Bloque {
+        private final int procesadas;
+        private final int corregidas;
+        private final UUID ultimoId;
+
+        private Bloque(List<Object[]> filas, int corregidas) {
+            this.procesadas = filas.size();
+            this.corregidas = corregidas;
+            this.ultimoId = filas.isEmpty() ? null : (UUID) filas.get(filas.size() - 1)[0];
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.ProyectoRepository;
+import lombok.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Mantiene los contadores persistidos en Proyecto (lotes activos por estado y monto de las ventas vigentes).
+ *
+ * Quien cambia un lote o una venta toma su aporte antes y después del cambio y llama a registrar en la misma
+ * transacción: la diferencia se aplica con un UPDATE relativo por proyecto, así las transacciones que tocan
+ * lotes del mismo proyecto se serializan sobre su fila sin perder incrementos. ConciliacionContadoresService
+ * corrige en segundo plano los desvíos que no pasen por aquí (cargas directas en la base, seed con reset).
+ */
+@Service
+public class ContadoresProyectoService {
+
+    static final String DISPONIBLE = "Disponible";
+    static final String RESERVADO = "Reservado";
+    static final String VENDIDO = "Vendido";
+
+    private final ProyectoRepository proyectoRepository;
+
+    public ContadoresProyectoService(ProyectoRepository proyectoRepository) {
+        this.proyectoRepository = proyectoRepository;
+    }
+
+    /**
+     * Lo que un lote suma a los contadores de su proyecto: nada si está eliminado.
+     */
+    public static Aporte aporte(Lote lote) {
+        return aporte(lote, lote.getEstadoLote());
+    }
+
+    /**
+     * Aporte del lote con otro estado: el que tenía en la base cuando la entidad cargada no lo refleja
+     * (p. ej. después de un UPDATE condicional).
+     */
+    public static Aporte aporte(Lote lote, EstadoLote estadoLote) {
+        UUID proyectoId = lote.getProyecto().getProyectoId();
+        if (lote.getFechaEliminacion() != null) return Aporte.vacio(proyectoId);
+        String estado = estadoLote != null ? estadoLote.getNombre() : null;
+        return new Aporte(proyectoId, 1,
+                DISPONIBLE.equals(estado) ? 1 : 0,
+                RESERVADO.equals(estado) ? 1 : 0,
+                VENDIDO.equals(estado) ? 1 : 0,
+                0.0);
+    }
+
+    /**
+     * Lo que una venta suma al monto vendido del proyecto de su lote: su monto total mientras está vigente.
+     */
+    public static Aporte aporte(Venta venta) {
+        UUID proyectoId = venta.getLote().getProyecto().getProyectoId();
+        double monto = venta.esVigente() && venta.getMontoTotal() != null ? venta.getMontoTotal() : 0.0;
+        return new Aporte(proyectoId, 0, 0, 0, 0, monto);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Aporte antes, Aporte despues) {
+        registrar(antes != null ? List.of(antes) : List.of(), despues != null ? List.of(despues) : List.of());
+    }
+
+    /**
+     * Resta los aportes previos y suma los nuevos: un UPDATE por proyecto con diferencia distinta de cero.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Collection<Aporte> antes, Collection<Aporte> despues) {
+        // Proyectos en orden de ID: dos transacciones que tocan los mismos proyectos (un lote que cambia de
+        // proyecto) bloquean sus filas en el mismo orden
+        Map<UUID, Aporte> diferencias = new TreeMap<>();
+        antes.forEach(a -> diferencias.merge(a.getProyectoId(), a.negado(), Aporte::mas));
+        despues.forEach(a -> diferencias.merge(a.getProyectoId(), a, Aporte::mas));
+
+        diferencias.forEach((proyectoId, d) -> {
+            if (d.esVacio()) return;
+            proyectoRepository.ajustarContadores(proyectoId, d.getTotal(), d.getDisponibles(),
+                    d.getReservados(), d.getVendidos(), d.getMontoVendido());
+        });
+    }
+
+    @Value
+    public static class Aporte {
+        UUID proyectoId;
+        long total;
+        long disponibles;
+        long reservados;
+        long vendidos;
+        double montoVendido;
+
+        static Aporte vacio(UUID proyectoId) {
+            return new Aporte(proyectoId, 0, 0, 0, 0, 0.0);
+        }
+
+        Aporte mas(Aporte otro) {
+            return new Aporte(proyectoId, total + otro.total, disponibles + otro.disponibles,
+                    reservados + otro.reservados, vendidos + otro.vendidos, montoVendido + otro.montoVendido);
+        }
+
+        Aporte negado() {
+            return new Aporte(proyectoId, -total, -disponibles, -reservados, -vendidos, -montoVendido);
+        }
+
+        boolean esVacio() {
+            return total == 0 && disponibles == 0 && reservados == 0 && vendidos == 0 && montoVendido == 0.0;
+        }
+    }
+}
@@ -3,6 +3,7 @@ import com.inmobiliaria.inmobiliariabackend.model.Usuario;
 import com.inmobiliaria.inmobiliariabackend.model.UsuarioRol;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRolRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CacheTtl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,6 +19,12 @@ import java.util.stream.Collectors;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    // Usuarios ya cargados: cada petición autenticada pasa por aquí (JwtFilter), así que se evita ir a la base.
+    // UsuarioService y UsuarioRolService invalidan al cambiar contraseña, roles o estado; el TTL corto cubre
+    // cambios hechos por otra instancia.
+    private static final long TTL_USUARIOS_MS = 60 * 1000L;
+    private static final int MAXIMO_USUARIOS = 1_000;
+
     @Autowired
     private UsuarioRepository usuarioRepository;
 
@@ -26,8 +34,28 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    private final CacheTtl<String, UsuarioCargado> usuarios = new CacheTtl<>(MAXIMO_USUARIOS);
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UsuarioCargado cargado = usuarios.obtener(username);
+        if (cargado == null) {
+            cargado = cargar(username);
+            usuarios.guardar(username, cargado, System.currentTimeMillis() + TTL_USUARIOS_MS);
+        }
+        // Siempre una instancia nueva: Spring Security borra la contraseña del User tras autenticar
+        return new User(cargado.username, cargado.password, cargado.authorities);
+    }
+
+    public void invalidar(String username) {
+        if (username != null) usuarios.invalidar(username);
+    }
+
+    public void invalidarTodo() {
+        usuarios.invalidarTodo();
+    }
+
+    private UsuarioCargado cargar(String username) {
         Usuario user = usuarioRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Credenciales no válidas"));
 
@@ -40,6 +68,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toSet());
 
-        return new User(user.getUsername(), user.getPassword(), authorities);
+        return new UsuarioCargado(user.getUsername(), user.getPassword(), Collections.unmodifiableSet(authorities));
+    }
+
+    private static final class UsuarioCargado {
+        private final String username;
+        private final String password;
+        private final Set<GrantedAuthority> authorities;
+
+        private UsuarioCargado(String username, String password, Set<GrantedAuthority> authorities) {
+            this.username = username;
+            this.password = password;
+            this.authorities = authorities;
+        }
     }
-}
\ No newline at end of file
+}
@@ -19,10 +19,7 @@ public class DepartamentoService {
     }
 
     public List<Departamento> listarActivos() {
-        return departamentoRepository.findAll()
-                .stream()
-                .filter(Departamento::getActivo)
-                .collect(Collectors.toList());
+        return departamentoRepository.findByActivoTrue();
     }
 
     public Optional<Departamento> obtenerPorId(UUID id) {
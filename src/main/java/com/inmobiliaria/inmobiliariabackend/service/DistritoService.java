@@ -7,7 +7,6 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class DistritoService {
@@ -19,10 +18,7 @@ public class DistritoService {
     }
 
     public List<Distrito> listarActivos() {
-        return distritoRepository.findAll()
-                .stream()
-                .filter(Distrito::getActivo)
-                .collect(Collectors.toList());
+        return distritoRepository.findByActivoTrue();
     }
 
     public Optional<Distrito> obtenerPorId(UUID id) {
@@ -1,50 +1,53 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.EstadoLoteDTO;
 import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.EstadoLoteRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class EstadoLoteService {
 
     private final EstadoLoteRepository estadoLoteRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final CatalogoRegistry catalogos;
 
-    public EstadoLoteService(EstadoLoteRepository estadoLoteRepository) {
+    public EstadoLoteService(EstadoLoteRepository estadoLoteRepository, BusquedaTextoRepository busquedaTextoRepository, CatalogoRegistry catalogos) {
         this.estadoLoteRepository = estadoLoteRepository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.catalogos = catalogos;
     }
 
     public List<EstadoLote> listar(String busqueda) {
-        // Obtenemos todos los activos
-        List<EstadoLote> todos = estadoLoteRepository.findAll()
-                .stream()
-                .filter(estado -> estado.getFechaEliminacion() == null)
-                .collect(Collectors.toList());
-
-        if (busqueda == null || busqueda.trim().isEmpty()) {
-            return todos;
-        }
+        // Filtro de activos y búsqueda sin acentos resueltos en la base (columna "busqueda")
+        return busquedaTextoRepository.buscar(EstadoLote.class, busqueda, null, Pageable.unpaged(), null).getContent();
+    }
+
+    public CursorPageDTO<EstadoLote> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(EstadoLote.class, busqueda, posicion, CursorUtil.limite(limite), null),
+                Function.identity(), EstadoLote::getFechaCreacion, EstadoLote::getEstadoLoteId);
+    }
 
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(e -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (e.getNombre() != null ? e.getNombre() : "") + " " +
-                                    (e.getDescripcion() != null ? e.getDescripcion() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+    public CursorPageDTO<EstadoLote> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                estadoLoteRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), EstadoLote::getFechaCreacion, EstadoLote::getEstadoLoteId);
     }
 
     public Optional<EstadoLote> obtenerPorId(UUID id) {
@@ -64,7 +67,9 @@ public class EstadoLoteService {
         nuevoEstado.setNombre(dto.getNombre());
         nuevoEstado.setDescripcion(dto.getDescripcion());
 
-        return estadoLoteRepository.save(nuevoEstado);
+        EstadoLote guardado = estadoLoteRepository.save(nuevoEstado);
+        catalogos.recargar();
+        return guardado;
     }
 
     public EstadoLote actualizar(UUID id, EstadoLoteDTO dto) {
@@ -80,7 +85,9 @@ public class EstadoLoteService {
 
                     existente.setNombre(dto.getNombre());
                     existente.setDescripcion(dto.getDescripcion());
-                    return estadoLoteRepository.save(existente);
+                    EstadoLote guardado = estadoLoteRepository.save(existente);
+                    catalogos.recargar();
+                    return guardado;
                 }).orElseThrow(() -> new IllegalArgumentException("Estado de Lote no encontrado con ID: " + id)); // ✨ Usar IllegalArgumentException para consistencia
     }
 
@@ -89,6 +96,7 @@ public class EstadoLoteService {
             // ✨ Borrado lógico
             estado.setFechaEliminacion(LocalDateTime.now());
             estadoLoteRepository.save(estado);
+            catalogos.recargar();
         });
     }
 }
\ No newline at end of file
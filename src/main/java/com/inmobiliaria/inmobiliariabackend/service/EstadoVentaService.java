@@ -1,47 +1,53 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.EstadoVentaDTO;
 import com.inmobiliaria.inmobiliariabackend.model.EstadoVenta;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.EstadoVentaRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class EstadoVentaService {
 
     private final EstadoVentaRepository estadoVentaRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final CatalogoRegistry catalogos;
 
-    public EstadoVentaService(EstadoVentaRepository estadoVentaRepository) {
+    public EstadoVentaService(EstadoVentaRepository estadoVentaRepository, BusquedaTextoRepository busquedaTextoRepository, CatalogoRegistry catalogos) {
         this.estadoVentaRepository = estadoVentaRepository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.catalogos = catalogos;
     }
 
     public List<EstadoVenta> listar(String busqueda) {
-        List<EstadoVenta> todos = estadoVentaRepository.findAll()
-                .stream()
-                .filter(estado -> estado.getFechaEliminacion() == null)
-                .collect(Collectors.toList());
-
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(e -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (e.getNombre() != null ? e.getNombre() : "") + " " +
-                                    (e.getDescripcion() != null ? e.getDescripcion() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+        // Filtro de activos y búsqueda sin acentos resueltos en la base (columna "busqueda")
+        return busquedaTextoRepository.buscar(EstadoVenta.class, busqueda, null, Pageable.unpaged(), null).getContent();
+    }
+
+    public CursorPageDTO<EstadoVenta> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(EstadoVenta.class, busqueda, posicion, CursorUtil.limite(limite), null),
+                Function.identity(), EstadoVenta::getFechaCreacion, EstadoVenta::getEstadoVentaId);
+    }
+
+    public CursorPageDTO<EstadoVenta> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                estadoVentaRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), EstadoVenta::getFechaCreacion, EstadoVenta::getEstadoVentaId);
     }
 
     public Optional<EstadoVenta> obtenerPorId(UUID id) {
@@ -61,7 +67,9 @@ public class EstadoVentaService {
         nuevoEstado.setNombre(dto.getNombre());
         nuevoEstado.setDescripcion(dto.getDescripcion());
 
-        return estadoVentaRepository.save(nuevoEstado);
+        EstadoVenta guardado = estadoVentaRepository.save(nuevoEstado);
+        catalogos.recargar();
+        return guardado;
     }
 
     public EstadoVenta actualizar(UUID id, EstadoVentaDTO dto) {
@@ -77,7 +85,9 @@ public class EstadoVentaService {
 
                     existente.setNombre(dto.getNombre());
                     existente.setDescripcion(dto.getDescripcion());
-                    return estadoVentaRepository.save(existente);
+                    EstadoVenta guardado = estadoVentaRepository.save(existente);
+                    catalogos.recargar();
+                    return guardado;
                 }).orElseThrow(() -> new IllegalArgumentException("Estado de Venta no encontrado con ID: " + id)); // ✨ Usar IllegalArgumentException para consistencia
     }
 
@@ -86,6 +96,7 @@ public class EstadoVentaService {
             // ✨ Borrado lógico
             estado.setFechaEliminacion(LocalDateTime.now());
             estadoVentaRepository.save(estado);
+            catalogos.recargar();
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inmobiliaria.inmobiliariabackend.dto.GeografiaArbolDTO;
+import com.inmobiliaria.inmobiliariabackend.model.Departamento;
+import com.inmobiliaria.inmobiliariabackend.repository.DepartamentoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.DistritoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.ProvinciaRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Árbol Departamento → Provincia → Distrito en memoria.
+ * Se arma una sola vez (tres consultas de proyección), se serializa a JSON y se guarda también comprimido
+ * en gzip junto con su ETag; las peticiones solo copian bytes. Los catálogos geográficos son de solo lectura
+ * (los carga DataSeeder antes de ApplicationReadyEvent), por eso basta con recargar al iniciar o a pedido.
+ */
+@Service
+public class GeografiaService {
+
+    private final DepartamentoRepository departamentoRepository;
+    private final ProvinciaRepository provinciaRepository;
+    private final DistritoRepository distritoRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Arbol arbol;
+
+    public GeografiaService(DepartamentoRepository departamentoRepository, ProvinciaRepository provinciaRepository,
+                            DistritoRepository distritoRepository, ObjectMapper objectMapper) {
+        this.departamentoRepository = departamentoRepository;
+        this.provinciaRepository = provinciaRepository;
+        this.distritoRepository = distritoRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recargar() {
+        arbol = Arbol.de(serializar(construirArbol()));
+    }
+
+    public Arbol obtenerArbol() {
+        Arbol actual = arbol;
+        if (actual == null) {
+            synchronized (this) {
+                if (arbol == null) recargar();
+                actual = arbol;
+            }
+        }
+        return actual;
+    }
+
+    private List<GeografiaArbolDTO> construirArbol() {
+        Map<UUID, List<GeografiaArbolDTO.DistritoNodo>> distritosPorProvincia = new HashMap<>();
+        for (Object[] fila : distritoRepository.listarActivosParaArbol()) {
+            distritosPorProvincia.computeIfAbsent((UUID) fila[2], k -> new ArrayList<>())
+                    .add(new GeografiaArbolDTO.DistritoNodo((UUID) fila[0], (String) fila[1]));
+        }
+
+        Map<UUID, List<GeografiaArbolDTO.ProvinciaNodo>> provinciasPorDepartamento = new HashMap<>();
+        for (Object[] fila : provinciaRepository.listarActivasParaArbol()) {
+            UUID provinciaId = (UUID) fila[0];
+            provinciasPorDepartamento.computeIfAbsent((UUID) fila[2], k -> new ArrayList<>())
+                    .add(new GeografiaArbolDTO.ProvinciaNodo(provinciaId, (String) fila[1],
+                            distritosPorProvincia.getOrDefault(provinciaId, Collections.emptyList())));
+        }
+
+        List<GeografiaArbolDTO> departamentos = new ArrayList<>();
+        for (Departamento departamento : departamentoRepository.findByActivoTrueOrderByNombre()) {
+            departamentos.add(new GeografiaArbolDTO(departamento.getDepartamentoId(), departamento.getNombre(),
+                    provinciasPorDepartamento.getOrDefault(departamento.getDepartamentoId(), Collections.emptyList())));
+        }
+        return departamentos;
+    }
+
+    // Compacto aunque la aplicación tenga indent_output activo: el árbol completo se descarga en cada carga inicial
+    private byte[] serializar(List<GeografiaArbolDTO> departamentos) {
+        try {
+            return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(departamentos);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el árbol geográfico", e);
+        }
+    }
+
+    /**
+     * Instantánea inmutable: JSON plano, JSON gzip y sus ETag fuertes (uno por representación).
+     * Los arreglos se entregan sin copiar para no duplicar el árbol en cada petición; no deben modificarse.
+     */
+    public static final class Arbol {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String etagGzip;
+
+        private Arbol(byte[] json, byte[] gzip, String etag, String etagGzip) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.etagGzip = etagGzip;
+        }
+
+        static Arbol de(byte[] json) {
+            String hash = sha256(json);
+            return new Arbol(json, comprimir(json), "\"" + hash + "\"", "\"" + hash + "-gz\"");
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getEtagGzip() {
+            return etagGzip;
+        }
+
+        private static byte[] comprimir(byte[] datos) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+                gzip.write(datos);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return salida.toByteArray();
+        }
+
+        private static String sha256(byte[] datos) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(datos);
+                StringBuilder sb = new StringBuilder(digest.length * 2);
+                for (byte b : digest) sb.append(String.format("%02x", b));
+                return sb.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inmobiliaria.inmobiliariabackend.dto.EventoOutboxDTO;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Envía cada lote como un único POST con un arreglo JSON comprimido (Content-Encoding: gzip).
+ * Los encabezados X-Outbox-Desde / X-Outbox-Hasta llevan el rango de eventoId del lote.
+ */
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final ObjectWriter writer;
+
+    public HttpOutboxSink(RestTemplate restTemplate, String url, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.url = url;
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public void enviar(List<EventoOutboxDTO> eventos) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        headers.set("X-Outbox-Desde", String.valueOf(eventos.get(0).getEventoId()));
+        headers.set("X-Outbox-Hasta", String.valueOf(eventos.get(eventos.size() - 1).getEventoId()));
+
+        try {
+            restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(comprimir(eventos), headers), Void.class);
+        } catch (HttpClientErrorException e) {
+            // 408 y 429 son transitorios; el resto de 4xx indica que el lote no será aceptado tal cual
+            if (e.getStatusCode() == HttpStatus.REQUEST_TIMEOUT || e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                throw e;
+            }
+            throw new EnvioRechazadoException("El destino rechazó el lote: " + e.getStatusCode(), e);
+        }
+    }
+
+    private byte[] comprimir(List<EventoOutboxDTO> eventos) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, eventos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Llamada al servicio de IA para el reporte mensual.
+ * Usa el RestTemplate con pool y timeouts (IaClientConfig), corta las llamadas con un circuit breaker
+ * cuando el servicio falla seguido y, mientras tanto, responde con la última respuesta válida
+ * si no es más antigua que app.ia.cliente.respaldo-max-horas.
+ *
+ * Métricas: ia.cliente.latencia (resultado=ok|error), ia.cliente.rechazadas, ia.cliente.respaldo
+ * e ia.cliente.circuito.abierto.
+ */
+@Service
+public class IaReporteClient {
+
+    private static final Logger log = LoggerFactory.getLogger(IaReporteClient.class);
+    private static final String RUTA_REPORTE_MENSUAL = "/api/v1/reportes/api/reportes/mensual";
+
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final Duration respaldoMax;
+    private final CircuitBreaker circuito;
+
+    private final Timer latenciaOk;
+    private final Timer latenciaError;
+    private final Counter rechazadas;
+    private final Counter respaldos;
+
+    private volatile ReporteIa ultimoValido;
+
+    public IaReporteClient(@Qualifier("iaRestTemplate") RestTemplate restTemplate, MeterRegistry registry,
+                           @Value("${app.ia.cliente.url:http://localhost:8000}") String baseUrl,
+                           @Value("${app.ia.cliente.fallos-para-abrir:5}") int fallosParaAbrir,
+                           @Value("${app.ia.cliente.abierto-ms:30000}") long abiertoMs,
+                           @Value("${app.ia.cliente.respaldo-max-horas:24}") long respaldoMaxHoras) {
+        this.restTemplate = restTemplate;
+        this.url = baseUrl + RUTA_REPORTE_MENSUAL;
+        this.respaldoMax = Duration.ofHours(respaldoMaxHoras);
+        this.circuito = new CircuitBreaker(fallosParaAbrir, abiertoMs);
+
+        this.latenciaOk = Timer.builder("ia.cliente.latencia").tag("resultado", "ok").register(registry);
+        this.latenciaError = Timer.builder("ia.cliente.latencia").tag("resultado", "error").register(registry);
+        this.rechazadas = Counter.builder("ia.cliente.rechazadas")
+                .description("Llamadas no realizadas por circuito abierto").register(registry);
+        this.respaldos = Counter.builder("ia.cliente.respaldo")
+                .description("Respuestas servidas desde la última respuesta válida").register(registry);
+        Gauge.builder("ia.cliente.circuito.abierto", circuito, c -> c.getEstado() == CircuitBreaker.Estado.CERRADO ? 0 : 1)
+                .register(registry);
+    }
+
+    /**
+     * @throws IaNoDisponibleException si el servicio falla (o el circuito está abierto) y no hay respaldo vigente
+     */
+    @SuppressWarnings("unchecked")
+    public ReporteIa obtenerReporteMensual() {
+        if (circuito.permitir()) {
+            long inicio = System.nanoTime();
+            try {
+                Map<String, Object> datos = restTemplate.getForObject(url, Map.class);
+                if (datos == null) throw new RestClientException("Respuesta vacía del servicio de IA");
+
+                latenciaOk.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                circuito.exito();
+                ReporteIa reporte = new ReporteIa(Collections.unmodifiableMap(datos), Instant.now(), false);
+                ultimoValido = reporte;
+                return reporte;
+            } catch (RuntimeException e) {
+                // Cualquier error (también de conversión de la respuesta) cuenta como falla: si no se informa,
+                // la llamada de prueba del estado SEMIABIERTO queda en curso y el circuito no vuelve a probar
+                latenciaError.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                circuito.fallo();
+                log.warn("Servicio de IA: falló la llamada al reporte mensual (circuito {}): {}", circuito.getEstado(), e.getMessage());
+            }
+        } else {
+            rechazadas.increment();
+        }
+
+        ReporteIa respaldo = ultimoValido;
+        if (respaldo != null && respaldo.getObtenidoEn().plus(respaldoMax).isAfter(Instant.now())) {
+            respaldos.increment();
+            return new ReporteIa(respaldo.getDatos(), respaldo.getObtenidoEn(), true);
+        }
+        throw new IaNoDisponibleException("El servicio de IA no está disponible y no hay un reporte previo vigente.");
+    }
+
+    public CircuitBreaker.Estado estadoCircuito() {
+        return circuito.getEstado();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReporteIa {
+        private final Map<String, Object> datos;
+        private final Instant obtenidoEn;
+        // true si se sirvió la última respuesta válida en lugar de una nueva
+        private final boolean respaldo;
+    }
+
+    public static class IaNoDisponibleException extends RuntimeException {
+        public IaNoDisponibleException(String mensaje) {
+            super(mensaje);
+        }
+    }
+}
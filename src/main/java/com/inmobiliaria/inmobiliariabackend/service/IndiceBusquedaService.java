@@ -0,0 +1,351 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.Buscable;
+import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido en memoria sobre lotes, ventas, clientes y proyectos (complemento de la búsqueda en BD).
+ * Cada fila recibe un ordinal entero; cada término (texto de "busqueda" ya sin acentos) apunta a una lista
+ * ordenada de ordinales (int[]). Una búsqueda de varias palabras es la intersección de esas listas;
+ * cada palabra se trata como prefijo de término.
+ *
+ * Se construye al iniciar la aplicación y se actualiza desde los servicios al crear, editar o eliminar.
+ * Si hay una transacción activa, el cambio se aplica recién tras el commit.
+ * Los cambios que llegan mientras se reconstruye se aplican también al índice nuevo antes del reemplazo.
+ */
+@Service
+public class IndiceBusquedaService {
+
+    public enum Tipo { LOTE, VENTA, CLIENTE, PROYECTO }
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceBusquedaService.class);
+    private static final Pattern SEPARADOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int LIMITE_POR_DEFECTO = 50;
+
+    private static final Map<Tipo, String> ENTIDADES = new EnumMap<>(Tipo.class);
+    static {
+        ENTIDADES.put(Tipo.LOTE, "Lote");
+        ENTIDADES.put(Tipo.VENTA, "Venta");
+        ENTIDADES.put(Tipo.CLIENTE, "Cliente");
+        ENTIDADES.put(Tipo.PROYECTO, "Proyecto");
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Tipo, Indice> indices = indicesVacios();
+    // Cambios recibidos durante una reconstrucción; null si no hay ninguna en curso
+    private List<Consumer<Map<Tipo, Indice>>> pendientes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirAlIniciar() {
+        reconstruir();
+    }
+
+    /**
+     * Vuelve a cargar todas las filas activas desde la base. El índice nuevo se arma fuera del bloqueo
+     * y se reemplaza de una vez, así las búsquedas no se detienen mientras tanto. Las altas, ediciones
+     * y bajas confirmadas durante la carga se guardan y se repiten sobre el índice nuevo al reemplazarlo
+     * (reemplazar y quitar dejan el último estado aunque la consulta ya lo hubiera visto).
+     */
+    public synchronized Map<Tipo, Map<String, Long>> reconstruir() {
+        long inicio = System.nanoTime();
+        cambiarPendientes(new ArrayList<>());
+        Map<Tipo, Indice> nuevos = indicesVacios();
+        try {
+            for (Map.Entry<Tipo, String> entidad : ENTIDADES.entrySet()) {
+                Indice indice = nuevos.get(entidad.getKey());
+                for (Object[] fila : cargarFilas(entidad.getValue())) {
+                    indice.agregar((UUID) fila[0], tokenizar((String) fila[1]));
+                }
+            }
+        } catch (RuntimeException e) {
+            cambiarPendientes(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendientes.forEach(cambio -> cambio.accept(nuevos));
+            pendientes = null;
+            indices = nuevos;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de búsqueda reconstruido en {} ms.", (System.nanoTime() - inicio) / 1_000_000);
+        return estadisticas();
+    }
+
+    /**
+     * Registra el estado actual de la entidad (alta o edición). Si está eliminada lógicamente, la quita.
+     */
+    public void actualizar(Tipo tipo, UUID id, Buscable entidad) {
+        if (id == null) return;
+        if (entidad.getFechaEliminacion() != null) {
+            eliminar(tipo, id);
+            return;
+        }
+        entidad.actualizarBusqueda();
+        String[] terminos = tokenizar(entidad.getBusqueda());
+        alConfirmar(() -> escribir(indice -> indice.get(tipo).reemplazar(id, terminos)));
+    }
+
+    List<Object[]> cargarFilas(String entidad) {
+        return entityManager
+                .createQuery("SELECT e.id, e.busqueda FROM " + entidad + " e WHERE e.fechaEliminacion IS NULL", Object[].class)
+                .getResultList();
+    }
+
+    public void eliminar(Tipo tipo, UUID id) {
+        if (id == null) return;
+        alConfirmar(() -> escribir(indice -> indice.get(tipo).quitar(id)));
+    }
+
+    public Map<Tipo, List<UUID>> buscar(String texto, Integer limite) {
+        int maximo = limite == null || limite <= 0 ? LIMITE_POR_DEFECTO : limite;
+        String[] palabras = tokenizar(texto);
+        Map<Tipo, List<UUID>> resultado = new EnumMap<>(Tipo.class);
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Tipo, Indice> entrada : indices.entrySet()) {
+                resultado.put(entrada.getKey(), palabras.length == 0
+                        ? Collections.emptyList()
+                        : entrada.getValue().buscar(palabras, maximo));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return resultado;
+    }
+
+    public Map<Tipo, Map<String, Long>> estadisticas() {
+        Map<Tipo, Map<String, Long>> resultado = new EnumMap<>(Tipo.class);
+        lock.readLock().lock();
+        try {
+            indices.forEach((tipo, indice) -> resultado.put(tipo, indice.estadisticas()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return resultado;
+    }
+
+    private void escribir(Consumer<Map<Tipo, Indice>> cambio) {
+        lock.writeLock().lock();
+        try {
+            cambio.accept(indices);
+            if (pendientes != null) pendientes.add(cambio);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void cambiarPendientes(List<Consumer<Map<Tipo, Indice>>> lista) {
+        lock.writeLock().lock();
+        try {
+            pendientes = lista;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Si hay transacción, se espera al commit para no indexar cambios que luego se revierten
+    private static void alConfirmar(Runnable cambio) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cambio.run();
+                }
+            });
+        } else {
+            cambio.run();
+        }
+    }
+
+    static String[] tokenizar(String texto) {
+        String limpio = TextUtil.limpiarAcentos(texto);
+        if (limpio == null || limpio.isEmpty()) return new String[0];
+        return Arrays.stream(SEPARADOR.split(limpio))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static Map<Tipo, Indice> indicesVacios() {
+        Map<Tipo, Indice> mapa = new EnumMap<>(Tipo.class);
+        for (Tipo tipo : Tipo.values()) {
+            mapa.put(tipo, new Indice());
+        }
+        return mapa;
+    }
+
+    /**
+     * Índice de un tipo de entidad. Los ordinales eliminados no se reutilizan hasta la próxima reconstrucción.
+     */
+    private static final class Indice {
+        private final Map<UUID, Integer> ordinales = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String[]> terminosPorOrdinal = new ArrayList<>();
+        private final TreeMap<String, Posiciones> terminos = new TreeMap<>();
+
+        void agregar(UUID id, String[] tokens) {
+            int ordinal = ids.size();
+            ids.add(id);
+            terminosPorOrdinal.add(tokens);
+            ordinales.put(id, ordinal);
+            for (String token : tokens) {
+                terminos.computeIfAbsent(token, t -> new Posiciones()).agregar(ordinal);
+            }
+        }
+
+        void reemplazar(UUID id, String[] tokens) {
+            Integer ordinal = ordinales.get(id);
+            if (ordinal == null) {
+                agregar(id, tokens);
+                return;
+            }
+            quitarTerminos(ordinal);
+            terminosPorOrdinal.set(ordinal, tokens);
+            for (String token : tokens) {
+                terminos.computeIfAbsent(token, t -> new Posiciones()).agregar(ordinal);
+            }
+        }
+
+        void quitar(UUID id) {
+            Integer ordinal = ordinales.remove(id);
+            if (ordinal == null) return;
+            quitarTerminos(ordinal);
+            ids.set(ordinal, null);
+            terminosPorOrdinal.set(ordinal, null);
+        }
+
+        private void quitarTerminos(int ordinal) {
+            String[] anteriores = terminosPorOrdinal.get(ordinal);
+            if (anteriores == null) return;
+            for (String token : anteriores) {
+                Posiciones posiciones = terminos.get(token);
+                if (posiciones != null && posiciones.quitar(ordinal) && posiciones.tamano == 0) {
+                    terminos.remove(token);
+                }
+            }
+        }
+
+        // Solo la primera palabra recorre el rango de términos; las demás filtran a los candidatos
+        // mirando sus propios términos, así el costo no crece con cada palabra de la consulta
+        List<UUID> buscar(String[] palabras, int limite) {
+            int[] candidatos = porPrefijo(palabras[0]);
+            int quedan = candidatos.length;
+            for (int p = 1; p < palabras.length && quedan > 0; p++) {
+                int k = 0;
+                for (int i = 0; i < quedan; i++) {
+                    if (tienePrefijo(terminosPorOrdinal.get(candidatos[i]), palabras[p])) {
+                        candidatos[k++] = candidatos[i];
+                    }
+                }
+                quedan = k;
+            }
+
+            List<UUID> encontrados = new ArrayList<>(Math.min(limite, quedan));
+            for (int i = 0; i < quedan && encontrados.size() < limite; i++) {
+                encontrados.add(ids.get(candidatos[i]));
+            }
+            return encontrados;
+        }
+
+        // Unión de las listas de todos los términos que empiezan con la palabra (rango del TreeMap),
+        // marcada en un BitSet para no volver a copiar la unión parcial con cada término
+        private int[] porPrefijo(String prefijo) {
+            SortedMap<String, Posiciones> rango = terminos.subMap(prefijo, prefijo + Character.MAX_VALUE);
+            if (rango.isEmpty()) return new int[0];
+            if (rango.size() == 1) return rango.values().iterator().next().copia();
+
+            BitSet union = new BitSet(ids.size());
+            for (Posiciones posiciones : rango.values()) {
+                for (int i = 0; i < posiciones.tamano; i++) {
+                    union.set(posiciones.valores[i]);
+                }
+            }
+            return union.stream().toArray();
+        }
+
+        private static boolean tienePrefijo(String[] tokens, String prefijo) {
+            if (tokens == null) return false;
+            for (String token : tokens) {
+                if (token.startsWith(prefijo)) return true;
+            }
+            return false;
+        }
+
+        Map<String, Long> estadisticas() {
+            long posiciones = 0;
+            for (Posiciones p : terminos.values()) {
+                posiciones += p.tamano;
+            }
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("documentos", (long) ordinales.size());
+            stats.put("terminos", (long) terminos.size());
+            stats.put("posiciones", posiciones);
+            stats.put("bytesPosiciones", posiciones * Integer.BYTES);
+            return stats;
+        }
+    }
+
+    /**
+     * Lista de ordinales ordenada ascendentemente sobre un int[] que crece por duplicación.
+     */
+    private static final class Posiciones {
+        private int[] valores = new int[4];
+        private int tamano;
+
+        void agregar(int ordinal) {
+            // Caso común: los ordinales nuevos son siempre los mayores
+            if (tamano == 0 || valores[tamano - 1] < ordinal) {
+                asegurarCapacidad();
+                valores[tamano++] = ordinal;
+                return;
+            }
+            int pos = Arrays.binarySearch(valores, 0, tamano, ordinal);
+            if (pos >= 0) return;
+            pos = -pos - 1;
+            asegurarCapacidad();
+            System.arraycopy(valores, pos, valores, pos + 1, tamano - pos);
+            valores[pos] = ordinal;
+            tamano++;
+        }
+
+        boolean quitar(int ordinal) {
+            int pos = Arrays.binarySearch(valores, 0, tamano, ordinal);
+            if (pos < 0) return false;
+            System.arraycopy(valores, pos + 1, valores, pos, tamano - pos - 1);
+            tamano--;
+            return true;
+        }
+
+        int[] copia() {
+            return Arrays.copyOf(valores, tamano);
+        }
+
+        private void asegurarCapacidad() {
+            if (tamano == valores.length) {
+                valores = Arrays.copyOf(valores, valores.length * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.EventoOutboxDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Destino en memoria para desarrollo y pruebas (perfil ia-stub sin app.outbox.sink.url).
+ * Conserva solo los últimos eventos recibidos para no crecer sin límite.
+ */
+public class LocalOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalOutboxSink.class);
+
+    private final int capacidad;
+    private final Deque<EventoOutboxDTO> recibidos = new ArrayDeque<>();
+
+    public LocalOutboxSink(int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    @Override
+    public synchronized void enviar(List<EventoOutboxDTO> eventos) {
+        for (EventoOutboxDTO evento : eventos) {
+            if (recibidos.size() == capacidad) recibidos.removeFirst();
+            recibidos.addLast(evento);
+        }
+        log.debug("Outbox local: {} evento(s) recibidos.", eventos.size());
+    }
+
+    public synchronized List<EventoOutboxDTO> recibidos() {
+        return new ArrayList<>(recibidos);
+    }
+}
@@ -0,0 +1,258 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionLotesDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteImportacionFilaDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteRequestDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Proyecto;
+import com.inmobiliaria.inmobiliariabackend.repository.LoteRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.ProyectoRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CsvUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Alta masiva de lotes de un proyecto (CSV o JSON).
+ *
+ * Todas las filas se validan antes de escribir: el proyecto se busca una vez, los estados salen del
+ * catálogo en memoria y la unicidad de nombres se comprueba contra una sola consulta. Si alguna fila
+ * falla no se inserta ninguna. Las inserciones se vuelcan en bloques del tamaño del batch JDBC de
+ * Hibernate (los UUID se generan en la aplicación, así que no hay ida y vuelta por fila) y el contexto
+ * de persistencia se limpia después de cada bloque.
+ *
+ * Validación e inserción van en una misma transacción. Si entretanto otra importación o un alta individual
+ * confirma uno de los nombres, el índice único uk_lotes_proyecto_nombre_activo rechaza la inserción: no queda
+ * ningún lote y la fila afectada se informa con el mismo error que la validación.
+ */
+@Service
+public class LoteImportacionService {
+
+    private static final String ESTADO_POR_DEFECTO = "Disponible";
+    private static final String NOMBRE_EXISTENTE = "Ya existe un lote con este nombre en el proyecto especificado.";
+
+    private final LoteRepository loteRepository;
+    private final ProyectoRepository proyectoRepository;
+    private final LoteService loteService;
+    private final CatalogoRegistry catalogos;
+    private final IndiceBusquedaService indiceBusqueda;
+    private final OutboxService outbox;
+    private final ContadoresProyectoService contadores;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoBloque;
+    private final int maxFilas;
+    private final int timeoutSegundos;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public LoteImportacionService(LoteRepository loteRepository, ProyectoRepository proyectoRepository,
+                                  LoteService loteService, CatalogoRegistry catalogos,
+                                  IndiceBusquedaService indiceBusqueda, OutboxService outbox,
+                                  ContadoresProyectoService contadores, Validator validator,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int tamanoBloque,
+                                  @Value("${app.lotes.importacion.max-filas:20000}") int maxFilas,
+                                  @Value("${app.transacciones.timeout-segundos:30}") int timeoutSegundos) {
+        this.loteRepository = loteRepository;
+        this.proyectoRepository = proyectoRepository;
+        this.loteService = loteService;
+        this.catalogos = catalogos;
+        this.indiceBusqueda = indiceBusqueda;
+        this.outbox = outbox;
+        this.contadores = contadores;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Acota cuánto puede tardar en confirmarse un lote ya auditado (ver CambiosService)
+        this.transactionTemplate.setTimeout(timeoutSegundos);
+        this.tamanoBloque = Math.max(1, tamanoBloque);
+        this.maxFilas = maxFilas;
+        this.timeoutSegundos = timeoutSegundos;
+    }
+
+    /**
+     * Columnas: nombre, descripcion, precio, area, direccion y estado (nombre) o estadoLoteId.
+     */
+    public ImportacionLotesDTO importarCsv(UUID proyectoId, Reader csv) throws IOException {
+        List<Map<String, String>> registros = CsvUtil.leer(csv);
+        List<LoteImportacionFilaDTO> filas = new ArrayList<>(registros.size());
+        List<ImportacionLotesDTO.ErrorFila> errores = new ArrayList<>();
+
+        for (int i = 0; i < registros.size(); i++) {
+            Map<String, String> registro = registros.get(i);
+            try {
+                filas.add(new LoteImportacionFilaDTO(
+                        registro.get("nombre"),
+                        registro.get("descripcion"),
+                        CsvUtil.numero(registro.get("precio"), "precio"),
+                        CsvUtil.numero(registro.get("area"), "area"),
+                        registro.get("direccion"),
+                        CsvUtil.uuid(registro.get("estadoloteid"), "estadoLoteId"),
+                        registro.get("estado")));
+            } catch (IllegalArgumentException e) {
+                filas.add(null);
+                errores.add(new ImportacionLotesDTO.ErrorFila(i + 1, registro.get("nombre"), e.getMessage()));
+            }
+        }
+        return procesar(proyectoId, filas, errores);
+    }
+
+    public ImportacionLotesDTO importar(UUID proyectoId, List<LoteImportacionFilaDTO> filas) {
+        return procesar(proyectoId, filas, new ArrayList<>());
+    }
+
+    // Las filas null ya traen su error (no se pudieron leer)
+    private ImportacionLotesDTO procesar(UUID proyectoId, List<LoteImportacionFilaDTO> filas,
+                                         List<ImportacionLotesDTO.ErrorFila> errores) {
+        if (filas.isEmpty()) {
+            throw new IllegalArgumentException("El archivo no contiene lotes.");
+        }
+        if (filas.size() > maxFilas) {
+            throw new IllegalArgumentException("Se admiten como máximo " + maxFilas + " lotes por importación.");
+        }
+
+        Map<String, Integer> nombresArchivo = new HashMap<>();
+        try {
+            return transactionTemplate.execute(status -> validarEInsertar(proyectoId, filas, errores, nombresArchivo));
+        } catch (DataIntegrityViolationException e) {
+            // La transacción se revirtió entera; con lo ya confirmado se señalan las filas cuyo nombre se tomó
+            Set<String> existentes = loteRepository.nombresActivosPorProyecto(proyectoId);
+            List<ImportacionLotesDTO.ErrorFila> conflictos = nombresArchivo.entrySet().stream()
+                    .filter(nombre -> existentes.contains(nombre.getKey()))
+                    .map(nombre -> new ImportacionLotesDTO.ErrorFila(nombre.getValue(), nombre.getKey(), NOMBRE_EXISTENTE))
+                    .sorted(Comparator.comparingInt(ImportacionLotesDTO.ErrorFila::getFila))
+                    .collect(Collectors.toList());
+            if (conflictos.isEmpty()) throw e;
+            return new ImportacionLotesDTO(proyectoId, filas.size(), 0, conflictos);
+        } catch (RuntimeException e) {
+            if (!superoElTimeout(e)) throw e;
+            throw new IllegalArgumentException("La importación superó el tiempo máximo de " + timeoutSegundos
+                    + " s y no se registró ningún lote; divida el archivo en partes más pequeñas.");
+        }
+    }
+
+    // El vencimiento lo detecta Spring al crear una consulta, Hibernate al preparar una sentencia o el driver durante ella
+    private static boolean superoElTimeout(RuntimeException e) {
+        return e instanceof TransactionTimedOutException || e instanceof QueryTimeoutException
+                || (e instanceof JpaSystemException && e.getCause() instanceof org.hibernate.TransactionException);
+    }
+
+    private ImportacionLotesDTO validarEInsertar(UUID proyectoId, List<LoteImportacionFilaDTO> filas,
+                                                 List<ImportacionLotesDTO.ErrorFila> errores,
+                                                 Map<String, Integer> nombresArchivo) {
+        Proyecto proyecto = proyectoRepository.findById(proyectoId)
+                .filter(p -> p.getFechaEliminacion() == null)
+                .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado"));
+
+        Set<String> existentes = loteRepository.nombresActivosPorProyecto(proyectoId);
+        List<Lote> lotes = new ArrayList<>(filas.size());
+
+        for (int i = 0; i < filas.size(); i++) {
+            LoteImportacionFilaDTO fila = filas.get(i);
+            if (fila == null) continue;
+            int numero = i + 1;
+            String nombre = fila.getNombre() != null ? fila.getNombre().trim() : null;
+
+            String error = validar(fila, nombre, proyectoId);
+            if (error == null && existentes.contains(nombre)) {
+                error = NOMBRE_EXISTENTE;
+            }
+            if (error == null) {
+                Integer previa = nombresArchivo.putIfAbsent(nombre, numero);
+                if (previa != null) error = "Nombre repetido en la fila " + previa + ".";
+            }
+            if (error != null) {
+                errores.add(new ImportacionLotesDTO.ErrorFila(numero, nombre, error));
+                continue;
+            }
+            lotes.add(crearLote(fila, nombre, proyecto));
+        }
+
+        if (!errores.isEmpty()) {
+            errores.sort(Comparator.comparingInt(ImportacionLotesDTO.ErrorFila::getFila));
+            return new ImportacionLotesDTO(proyectoId, filas.size(), 0, errores);
+        }
+
+        for (int desde = 0; desde < lotes.size(); desde += tamanoBloque) {
+            insertarBloque(lotes.subList(desde, Math.min(desde + tamanoBloque, lotes.size())));
+        }
+        // Todos los lotes son del mismo proyecto: un solo UPDATE de sus contadores
+        contadores.registrar(Collections.emptyList(),
+                lotes.stream().map(ContadoresProyectoService::aporte).collect(Collectors.toList()));
+        return new ImportacionLotesDTO(proyectoId, filas.size(), lotes.size(), Collections.emptyList());
+    }
+
+    private String validar(LoteImportacionFilaDTO fila, String nombre, UUID proyectoId) {
+        Optional<EstadoLote> estado = fila.getEstadoLoteId() != null
+                ? catalogos.estadoLotePorId(fila.getEstadoLoteId())
+                : catalogos.estadoLotePorNombre(fila.getEstado() != null ? fila.getEstado().trim() : ESTADO_POR_DEFECTO);
+        if (estado.isEmpty()) return "EstadoLote no encontrado";
+
+        LoteRequestDTO dto = new LoteRequestDTO();
+        dto.setNombre(nombre);
+        dto.setDescripcion(fila.getDescripcion());
+        dto.setPrecio(fila.getPrecio());
+        dto.setArea(fila.getArea());
+        dto.setDireccion(fila.getDireccion());
+        dto.setEstadoLoteId(estado.get().getEstadoLoteId());
+        dto.setProyectoId(proyectoId);
+
+        Set<ConstraintViolation<LoteRequestDTO>> violaciones = validator.validate(dto);
+        if (violaciones.isEmpty()) {
+            fila.setEstadoLoteId(dto.getEstadoLoteId());
+            return null;
+        }
+        return violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Lote crearLote(LoteImportacionFilaDTO fila, String nombre, Proyecto proyecto) {
+        Lote lote = new Lote();
+        lote.setNombre(nombre);
+        lote.setDescripcion(fila.getDescripcion());
+        lote.setPrecio(fila.getPrecio());
+        lote.setArea(fila.getArea());
+        lote.setDireccion(fila.getDireccion());
+        lote.setEstadoLote(catalogos.estadoLotePorId(fila.getEstadoLoteId()).orElseThrow());
+        lote.setProyecto(proyecto);
+        return lote;
+    }
+
+    private void insertarBloque(List<Lote> bloque) {
+        bloque.forEach(entityManager::persist);
+        // Un INSERT por lote agrupados en un solo batch JDBC; los eventos van después porque el outbox
+        // usa IDENTITY y obligaría a Hibernate a ejecutar cada inserción pendiente por separado.
+        // flush del repositorio: traduce la violación del índice único a DataIntegrityViolationException
+        loteRepository.flush();
+
+        List<LoteResponseDTO> respuestas = loteService.mapearADto(bloque);
+        for (int i = 0; i < bloque.size(); i++) {
+            Lote lote = bloque.get(i);
+            indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, lote.getLoteId(), lote);
+            outbox.registrar(EventoOutbox.TipoAgregado.LOTE, lote.getLoteId(), "CREADO", respuestas.get(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,43 +1,67 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.LoteRequestDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.LoteResponseDTO;
 import com.inmobiliaria.inmobiliariabackend.model.*;
 import com.inmobiliaria.inmobiliariabackend.repository.*;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class LoteService {
 
+    private static final String ESTADO_CAMBIADO = "El estado del lote cambió mientras se editaba; vuelva a intentarlo.";
+
     private final LoteRepository loteRepository;
-    private final EstadoLoteRepository estadoLoteRepository;
     private final ProyectoRepository proyectoRepository;
     private final VentaRepository ventaRepository;
-    private final EstadoVentaRepository estadoVentaRepository;
+    private final CatalogoRegistry catalogos;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final IndiceBusquedaService indiceBusqueda;
+    private final OutboxService outbox;
+    private final ContadoresProyectoService contadores;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public LoteService(LoteRepository loteRepository, EstadoLoteRepository estadoLoteRepository, ProyectoRepository proyectoRepository, VentaRepository ventaRepository, EstadoVentaRepository estadoVentaRepository) {
+    public LoteService(LoteRepository loteRepository, ProyectoRepository proyectoRepository, VentaRepository ventaRepository, CatalogoRegistry catalogos, BusquedaTextoRepository busquedaTextoRepository, IndiceBusquedaService indiceBusqueda, OutboxService outbox, ContadoresProyectoService contadores) {
         this.loteRepository = loteRepository;
-        this.estadoLoteRepository = estadoLoteRepository;
         this.proyectoRepository = proyectoRepository;
         this.ventaRepository = ventaRepository;
-        this.estadoVentaRepository = estadoVentaRepository;
+        this.catalogos = catalogos;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.indiceBusqueda = indiceBusqueda;
+        this.outbox = outbox;
+        this.contadores = contadores;
     }
 
     // ----------------------------------------------------------------------
     // CRUD
     // ----------------------------------------------------------------------
 
+    @Transactional
     public LoteResponseDTO guardarLote(LoteRequestDTO dto) {
         // Buscamos el Proyecto (usando el proyectoId del DTO)
         Proyecto proyecto = proyectoRepository.findById(dto.getProyectoId())
@@ -51,19 +75,39 @@ public class LoteService {
 
         Lote lote = new Lote();
         mapearDtoALote(dto, lote);
-        return mapearLoteADto(loteRepository.save(lote));
+        Lote guardado = guardarConNombreUnico(lote);
+        contadores.registrar(null, ContadoresProyectoService.aporte(guardado));
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, guardado.getLoteId(), guardado);
+
+        LoteResponseDTO respuesta = mapearLoteADto(guardado);
+        outbox.registrar(EventoOutbox.TipoAgregado.LOTE, guardado.getLoteId(), "CREADO", respuesta);
+        return respuesta;
+    }
+
+    // La consulta previa no ve altas concurrentes; el índice único uk_lotes_proyecto_nombre_activo sí
+    private Lote guardarConNombreUnico(Lote lote) {
+        try {
+            return loteRepository.saveAndFlush(lote);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Ya existe un lote con este nombre en el proyecto especificado.");
+        }
     }
 
     private UUID obtenerIdEstadoVenta(String nombre) {
-        return estadoVentaRepository.findByNombre(nombre)
+        return catalogos.estadoVentaPorNombre(nombre)
                 .orElseThrow(() -> new IllegalStateException("Estado de venta '" + nombre + "' no encontrado."))
                 .getEstadoVentaId();
     }
 
+    @Transactional
     public LoteResponseDTO actualizarLote(UUID id, LoteRequestDTO dto) {
 
         final UUID ESTADO_VENTA_CANCELADA_ID = obtenerIdEstadoVenta("Cancelada");
 
+        // Primero se bloquea la fila: así la revisión de ventas ve cualquier reserva ya confirmada
+        Lote lote = loteRepository.buscarParaActualizar(id)
+                .orElseThrow(() -> new IllegalArgumentException("Lote no encontrado"));
+
         Optional<Venta> ventaAsociada = ventaRepository.findByLoteLoteIdAndFechaEliminacionIsNullAndEstadoVenta_EstadoVentaIdIsNot(
                 id,
                 ESTADO_VENTA_CANCELADA_ID
@@ -72,9 +116,6 @@ public class LoteService {
             throw new IllegalArgumentException("No se puede actualizar el lote porque está asociado a una venta.");
         }
 
-        Lote lote = loteRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Lote no encontrado"));
-
         // Buscamos el nuevo Proyecto
         Proyecto nuevoProyecto = proyectoRepository.findById(dto.getProyectoId())
                 .orElseThrow(() -> new IllegalArgumentException("Proyecto no encontrado"));
@@ -88,8 +129,34 @@ public class LoteService {
             }
         }
 
+        // Estado y proyecto pueden cambiar: se descuenta el aporte anterior y se suma el nuevo
+        ContadoresProyectoService.Aporte antes = ContadoresProyectoService.aporte(lote);
+        EstadoLote estadoActual = lote.getEstadoLote();
         mapearDtoALote(dto, lote);
-        return mapearLoteADto(loteRepository.save(lote));
+
+        // El estado se cambia con el UPDATE condicional, igual que en las ventas; la entidad guarda el resto
+        EstadoLote estadoNuevo = lote.getEstadoLote();
+        lote.setEstadoLote(estadoActual);
+        Lote guardado = guardarConNombreUnico(lote);
+        if (!estadoNuevo.getEstadoLoteId().equals(estadoActual.getEstadoLoteId())) {
+            if (loteRepository.cambiarEstadoSi(id, estadoActual, estadoNuevo, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException(ESTADO_CAMBIADO);
+            }
+            guardado.setEstadoLote(estadoNuevo);
+        }
+        contadores.registrar(antes, ContadoresProyectoService.aporte(guardado));
+
+        // Las ventas canceladas del lote siguen listándose: su texto de búsqueda incluye el nombre del lote
+        List<Venta> ventas = ventaRepository.findByLoteLoteIdInAndFechaEliminacionIsNull(Collections.singletonList(id));
+        ventas.forEach(Venta::actualizarBusqueda);
+        ventaRepository.saveAll(ventas);
+
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, id, guardado);
+        ventas.forEach(v -> indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.VENTA, v.getVentaId(), v));
+
+        LoteResponseDTO respuesta = mapearLoteADto(guardado);
+        outbox.registrar(EventoOutbox.TipoAgregado.LOTE, id, "ACTUALIZADO", respuesta);
+        return respuesta;
     }
 
     public LoteResponseDTO obtenerPorId(UUID id) {
@@ -109,23 +176,30 @@ public class LoteService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Recorre los lotes activos fila por fila sin materializar la lista. Cada lote se desacopla de la
+     * sesión después de mapearlo para que el contexto de persistencia no crezca con el total exportado.
+     */
+    @Transactional(readOnly = true)
+    public void exportarActivos(Consumer<LoteResponseDTO> destino) {
+        try (Stream<Lote> lotes = loteRepository.streamActivos()) {
+            lotes.forEach(lote -> {
+                destino.accept(mapearLoteADto(lote));
+                entityManager.detach(lote);
+            });
+        }
+    }
+
+    public List<LoteResponseDTO> mapearADto(List<Lote> lotes) {
+        return lotes.stream().map(this::mapearLoteADto).collect(Collectors.toList());
+    }
+
     public List<LoteResponseDTO> listarActivos(String busqueda) {
-        List<LoteResponseDTO> todos = listarActivos();
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream().filter(dto -> {
-            String contenido = TextUtil.limpiarAcentos(
-                    (dto.getNombre() != null ? dto.getNombre() : "") + " " +
-                            (dto.getDescripcion() != null ? dto.getDescripcion() : "") + " " +
-                            (dto.getDireccion() != null ? dto.getDireccion() : "") + " " +
-                            (dto.getProyectoNombre() != null ? dto.getProyectoNombre() : "")  + " " +
-                            (dto.getEstadoLoteNombre() != null ? dto.getEstadoLoteNombre() : "")
-            );
-            return java.util.Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-        }).collect(Collectors.toList());
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarActivos();
+
+        return busquedaTextoRepository.buscar(Lote.class, busqueda, null, Pageable.unpaged(), null).stream()
+                .map(this::mapearLoteADto)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -152,21 +226,18 @@ public class LoteService {
     }
 
     public List<LoteResponseDTO> listarDisponibles(Optional<UUID> proyectoId, String busqueda) {
-        List<LoteResponseDTO> todos = listarDisponibles(proyectoId);
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream().filter(dto -> {
-            String contenido = TextUtil.limpiarAcentos(
-                    (dto.getNombre() != null ? dto.getNombre() : "") + " " +
-                            (dto.getDescripcion() != null ? dto.getDescripcion() : "") + " " +
-                            (dto.getDireccion() != null ? dto.getDireccion() : "") + " " +
-                            (dto.getProyectoNombre() != null ? dto.getProyectoNombre() : "")
-            );
-            return java.util.Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-        }).collect(Collectors.toList());
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarDisponibles(proyectoId);
+
+        BusquedaTextoRepository.Filtro<Lote> disponibles = (cb, root, query) -> {
+            Predicate estado = cb.equal(root.get("estadoLote").get("nombre"), "Disponible");
+            return proyectoId
+                    .map(id -> cb.and(estado, cb.equal(root.get("proyecto").get("proyectoId"), id)))
+                    .orElse(estado);
+        };
+
+        return busquedaTextoRepository.buscar(Lote.class, busqueda, null, Pageable.unpaged(), disponibles).stream()
+                .map(this::mapearLoteADto)
+                .collect(Collectors.toList());
     }
 
     // 🟢 NOTA: El método 'buscarPorProyectoId' que solo busca por Activos (no necesariamente Disponibles)
@@ -197,19 +268,35 @@ public class LoteService {
     public Page<LoteResponseDTO> listarLotesPaginados(int page, int size, String busqueda) {
         if (busqueda == null || busqueda.trim().isEmpty()) return listarLotesPaginados(page, size);
 
-        // Para un filtrado sencillo, obtenemos todos los activos, filtramos y luego paginamos en memoria
-        List<LoteResponseDTO> filtrados = listarActivos(busqueda);
-        int fromIndex = Math.min(page * size, filtrados.size());
-        int toIndex = Math.min(fromIndex + size, filtrados.size());
-        List<LoteResponseDTO> pageList = filtrados.subList(fromIndex, toIndex);
-        return new PageImpl<>(pageList, PageRequest.of(page, size), filtrados.size());
+        Pageable pageable = PageRequest.of(page, size);
+        List<LoteResponseDTO> loteDTOs = busquedaTextoRepository.buscar(Lote.class, busqueda, null, pageable, null).stream()
+                .map(this::mapearLoteADto)
+                .collect(Collectors.toList());
+        return new PageImpl<>(loteDTOs, pageable, busquedaTextoRepository.contar(Lote.class, busqueda, null));
+    }
+
+    public CursorPageDTO<LoteResponseDTO> listarLotesPorCursor(String busqueda, String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        Slice<Lote> lotes = busqueda == null || busqueda.trim().isEmpty()
+                ? loteRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite))
+                : busquedaTextoRepository.buscar(Lote.class, busqueda, posicion, CursorUtil.limite(limite), null);
+        return CursorUtil.pagina(lotes, this::mapearLoteADto, Lote::getFechaCreacion, Lote::getLoteId);
     }
 
+    @Transactional
     public void eliminarLote(UUID id) {
-        loteRepository.findById(id).ifPresent(lote -> {
-            // Borrado lógico
+        loteRepository.buscarParaActualizar(id).ifPresent(lote -> {
+            // Borrado lógico (con la fila bloqueada, el aporte descontado es el del estado vigente)
+            ContadoresProyectoService.Aporte antes = ContadoresProyectoService.aporte(lote);
             lote.setFechaEliminacion(LocalDateTime.now());
             loteRepository.save(lote);
+            contadores.registrar(antes, ContadoresProyectoService.aporte(lote));
+            indiceBusqueda.eliminar(IndiceBusquedaService.Tipo.LOTE, id);
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("loteId", id);
+            payload.put("fechaEliminacion", lote.getFechaEliminacion());
+            outbox.registrar(EventoOutbox.TipoAgregado.LOTE, id, "ELIMINADO", payload);
         });
     }
 
@@ -224,7 +311,7 @@ public class LoteService {
         lote.setArea(dto.getArea());
         lote.setDireccion(dto.getDireccion());
 
-        EstadoLote estado = estadoLoteRepository.findById(dto.getEstadoLoteId())
+        EstadoLote estado = catalogos.estadoLotePorId(dto.getEstadoLoteId())
                 .orElseThrow(() -> new IllegalArgumentException("EstadoLote no encontrado"));
         lote.setEstadoLote(estado);
 
@@ -1,23 +1,28 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.MonedaDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Moneda;
 import com.inmobiliaria.inmobiliariabackend.repository.MonedaRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class MonedaService {
 
     private final MonedaRepository monedaRepository;
+    private final CatalogoRegistry catalogos;
 
-    public MonedaService(MonedaRepository monedaRepository) {
+    public MonedaService(MonedaRepository monedaRepository, CatalogoRegistry catalogos) {
         this.monedaRepository = monedaRepository;
+        this.catalogos = catalogos;
     }
 
     public List<Moneda> listar() {
@@ -28,6 +33,13 @@ public class MonedaService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<Moneda> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                monedaRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), Moneda::getFechaCreacion, Moneda::getMonedaId);
+    }
+
     public Optional<Moneda> obtenerPorId(UUID id) {
         // ✨ Filtrar por fechaEliminacion
         return monedaRepository.findById(id)
@@ -46,7 +58,9 @@ public class MonedaService {
         nuevaMoneda.setSimbolo(dto.getSimbolo());
         nuevaMoneda.setDescripcion(dto.getDescripcion());
 
-        return monedaRepository.save(nuevaMoneda);
+        Moneda guardado = monedaRepository.save(nuevaMoneda);
+        catalogos.recargar();
+        return guardado;
     }
 
     public Moneda actualizar(UUID id, MonedaDTO dto) {
@@ -63,7 +77,9 @@ public class MonedaService {
                     existente.setNombre(dto.getNombre());
                     existente.setSimbolo(dto.getSimbolo());
                     existente.setDescripcion(dto.getDescripcion());
-                    return monedaRepository.save(existente);
+                    Moneda guardado = monedaRepository.save(existente);
+                    catalogos.recargar();
+                    return guardado;
                 }).orElse(null);
     }
 
@@ -72,6 +88,7 @@ public class MonedaService {
             // ✨ Borrado lógico
             moneda.setFechaEliminacion(LocalDateTime.now());
             monedaRepository.save(moneda);
+            catalogos.recargar();
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.EventoOutboxDTO;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import com.inmobiliaria.inmobiliariabackend.repository.EventoOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entrega en segundo plano los eventos del outbox al OutboxSink configurado.
+ *
+ * En cada vuelta se leen los eventos pendientes (sin fechaEnvio ni fechaDescarte) en orden de eventoId y un lote
+ * fallido bloquea a los siguientes hasta entregarse. Como se lee por estado y no desde el último ID enviado, un
+ * evento con ID menor que confirma tarde sale en la vuelta siguiente, después de otros con ID mayor: el destino
+ * no puede asumir que los IDs llegan en orden. Las fallas transitorias se reintentan
+ * sin límite con espera exponencial; si el destino rechaza un lote, los eventos de ese lote se reenvían
+ * de a uno para aislar el inválido, que se descarta al agotar app.outbox.max-intentos.
+ *
+ * Deshabilitado por defecto: cada instancia con app.outbox.relay.habilitado=true envía todos los pendientes,
+ * así que se activa en una sola (OUTBOX_RELAY_HABILITADO). Mientras ninguna lo tenga, los eventos esperan en la tabla.
+ */
+@Service
+@ConditionalOnProperty(name = "app.outbox.relay.habilitado", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long INTERVALO_PURGA_MS = 3_600_000;
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+    private final int maxIntentos;
+    private final long esperaInicialMs;
+    private final long esperaMaximaMs;
+    private final long retencionHoras;
+
+    // Estado del relay: solo lo toca el hilo del scheduler
+    private int fallosConsecutivos;
+    private long reintentarDesdeMs;
+    private long aislarHastaId;
+    private long ultimaPurgaMs;
+
+    public OutboxRelay(EventoOutboxRepository eventoOutboxRepository, OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.tamano-lote:200}") int tamanoLote,
+                       @Value("${app.outbox.max-intentos:10}") int maxIntentos,
+                       @Value("${app.outbox.espera-inicial-ms:1000}") long esperaInicialMs,
+                       @Value("${app.outbox.espera-maxima-ms:300000}") long esperaMaximaMs,
+                       @Value("${app.outbox.retencion-horas:72}") long retencionHoras) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+        this.maxIntentos = maxIntentos;
+        this.esperaInicialMs = esperaInicialMs;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.retencionHoras = retencionHoras;
+    }
+
+    @Scheduled(initialDelayString = "${app.outbox.retraso-inicial-ms:10000}",
+            fixedDelayString = "${app.outbox.intervalo-ms:2000}")
+    public synchronized void relayProgramado() {
+        try {
+            enviarPendientes();
+            if (System.currentTimeMillis() - ultimaPurgaMs >= INTERVALO_PURGA_MS) {
+                ultimaPurgaMs = System.currentTimeMillis();
+                int purgados = purgar();
+                if (purgados > 0) log.info("Outbox: {} evento(s) procesados purgados.", purgados);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox: error leyendo o actualizando la tabla de eventos; se reintentará.", e);
+        }
+    }
+
+    /**
+     * Envía lotes hasta vaciar la cola o hasta la primera falla.
+     * @return cantidad de eventos entregados
+     */
+    public synchronized int enviarPendientes() {
+        int enviados = 0;
+        while (System.currentTimeMillis() >= reintentarDesdeMs) {
+            List<EventoOutbox> pendientes = transactionTemplate.execute(status ->
+                    eventoOutboxRepository.buscarPendientes(PageRequest.of(0, tamanoLote)));
+            if (pendientes == null || pendientes.isEmpty()) break;
+
+            // Aislando un lote rechazado: se envía de a un evento
+            List<EventoOutbox> lote = pendientes.get(0).getEventoId() <= aislarHastaId
+                    ? pendientes.subList(0, 1)
+                    : pendientes;
+            List<Long> ids = lote.stream().map(EventoOutbox::getEventoId).collect(Collectors.toList());
+
+            try {
+                sink.enviar(lote.stream().map(EventoOutboxDTO::new).collect(Collectors.toList()));
+            } catch (OutboxSink.EnvioRechazadoException e) {
+                if (!registrarRechazo(lote, ids, e)) break;
+                continue;
+            } catch (RuntimeException e) {
+                registrarFallo(ids, e);
+                esperar();
+                log.warn("Outbox: falló el envío de {} evento(s) (intento {}): {}",
+                        ids.size(), lote.get(0).getIntentos() + 1, e.getMessage());
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    eventoOutboxRepository.marcarEnviados(ids, LocalDateTime.now()));
+            fallosConsecutivos = 0;
+            enviados += ids.size();
+            if (pendientes.size() < tamanoLote && lote.size() == pendientes.size()) break;
+        }
+        return enviados;
+    }
+
+    /**
+     * @return true si se puede seguir enviando de inmediato (el evento inválido fue descartado)
+     */
+    private boolean registrarRechazo(List<EventoOutbox> lote, List<Long> ids, RuntimeException e) {
+        registrarFallo(ids, e);
+        if (ids.size() > 1) {
+            aislarHastaId = ids.get(ids.size() - 1);
+            log.warn("Outbox: el destino rechazó un lote de {} evento(s); se reenviarán de a uno.", ids.size());
+            return true;
+        }
+        EventoOutbox evento = lote.get(0);
+        if (evento.getIntentos() + 1 >= maxIntentos) {
+            transactionTemplate.executeWithoutResult(status ->
+                    eventoOutboxRepository.marcarDescartados(ids, LocalDateTime.now()));
+            fallosConsecutivos = 0;
+            log.error("Outbox: evento {} ({} {} {}) descartado tras {} rechazos: {}", evento.getEventoId(),
+                    evento.getTipoAgregado(), evento.getAgregadoId(), evento.getTipoEvento(), maxIntentos, e.getMessage());
+            return true;
+        }
+        esperar();
+        return false;
+    }
+
+    private void registrarFallo(List<Long> ids, RuntimeException e) {
+        String error = String.valueOf(e.getMessage());
+        String truncado = error.length() > 1000 ? error.substring(0, 1000) : error;
+        transactionTemplate.executeWithoutResult(status -> eventoOutboxRepository.registrarFallo(ids, truncado));
+    }
+
+    private void esperar() {
+        fallosConsecutivos++;
+        long espera = esperaInicialMs << Math.min(fallosConsecutivos - 1, 20);
+        reintentarDesdeMs = System.currentTimeMillis() + Math.min(espera, esperaMaximaMs);
+    }
+
+    public int purgar() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(retencionHoras);
+        Integer purgados = transactionTemplate.execute(status -> eventoOutboxRepository.eliminarProcesadosAntesDe(limite));
+        return purgados != null ? purgados : 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import com.inmobiliaria.inmobiliariabackend.repository.EventoOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Registra eventos de dominio en la tabla outbox. Exige una transacción activa: el evento se confirma
+ * o se descarta junto con la escritura que lo origina, nunca por separado.
+ */
+@Service
+public class OutboxService {
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final ObjectWriter writer;
+
+    public OutboxService(EventoOutboxRepository eventoOutboxRepository, ObjectMapper objectMapper) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(EventoOutbox.TipoAgregado tipoAgregado, UUID agregadoId, String tipoEvento, Object payload) {
+        String json;
+        try {
+            json = writer.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + tipoAgregado + "/" + tipoEvento, e);
+        }
+        eventoOutboxRepository.save(new EventoOutbox(tipoAgregado, agregadoId, tipoEvento, json));
+    }
+}
@@ -0,0 +1,23 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.EventoOutboxDTO;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox. enviar() debe terminar normalmente solo si el lote completo
+ * fue aceptado; cualquier excepción hace que OutboxRelay reintente el mismo lote.
+ */
+public interface OutboxSink {
+
+    void enviar(List<EventoOutboxDTO> eventos);
+
+    /**
+     * El destino rechazó el contenido del lote (no es una falla transitoria): reintentarlo igual no sirve.
+     */
+    class EnvioRechazadoException extends RuntimeException {
+        public EnvioRechazadoException(String mensaje, Throwable causa) {
+            super(mensaje, causa);
+        }
+    }
+}
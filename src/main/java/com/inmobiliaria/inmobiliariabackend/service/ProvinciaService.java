@@ -7,7 +7,6 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class ProvinciaService {
@@ -19,10 +18,7 @@ public class ProvinciaService {
     }
 
     public List<Provincia> listarActivas() {
-        return provinciaRepository.findAll()
-                .stream()
-                .filter(Provincia::getActivo)
-                .collect(Collectors.toList());
+        return provinciaRepository.findByActivoTrue();
     }
 
     public Optional<Provincia> obtenerPorId(UUID id) {
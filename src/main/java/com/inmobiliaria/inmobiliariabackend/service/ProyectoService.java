@@ -1,20 +1,26 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.ProyectoRequestDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.ProyectoResponseDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Departamento;
 import com.inmobiliaria.inmobiliariabackend.model.Distrito;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
 import com.inmobiliaria.inmobiliariabackend.model.Proyecto;
 import com.inmobiliaria.inmobiliariabackend.model.Provincia;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.DistritoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.ProyectoRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,10 +30,18 @@ public class ProyectoService {
 
     private final ProyectoRepository proyectoRepository;
     private final DistritoRepository distritoRepository;
+    private final VentaRepository ventaRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final IndiceBusquedaService indiceBusqueda;
 
-    public ProyectoService(ProyectoRepository proyectoRepository, DistritoRepository distritoRepository) {
+    public ProyectoService(ProyectoRepository proyectoRepository, DistritoRepository distritoRepository,
+                           VentaRepository ventaRepository, BusquedaTextoRepository busquedaTextoRepository,
+                           IndiceBusquedaService indiceBusqueda) {
         this.proyectoRepository = proyectoRepository;
         this.distritoRepository = distritoRepository;
+        this.ventaRepository = ventaRepository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.indiceBusqueda = indiceBusqueda;
     }
 
     @Transactional
@@ -43,8 +57,10 @@ public class ProyectoService {
         Proyecto proyecto = new Proyecto();
         mapearDtoAProyecto(dto, proyecto);
 
-        // Al guardar, el conteo de lotes es 0
-        return mapearProyectoADto(proyectoRepository.save(proyecto), 0L);
+        Proyecto guardado = proyectoRepository.save(proyecto);
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.PROYECTO, guardado.getProyectoId(), guardado);
+
+        return mapearProyectoADto(guardado);
     }
 
     @Transactional
@@ -62,53 +78,50 @@ public class ProyectoService {
                     throw new IllegalArgumentException("Ya existe otro proyecto activo con el nombre: " + dto.getNombre());
                 });
 
+        boolean cambioNombre = !dto.getNombre().equals(proyecto.getNombre());
         mapearDtoAProyecto(dto, proyecto);
 
-        // Para la respuesta de actualización, debemos obtener el conteo actual de lotes.
-        // Se realiza una consulta adicional al repositorio. (Se podría optimizar con la relación @OneToMany)
-        Long totalLotes = proyectoRepository.countLotesByProyectoId(id).orElse(0L);
+        if (cambioNombre) {
+            // El nombre del proyecto forma parte del texto de búsqueda de sus lotes y ventas
+            refrescarBusquedaLotesYVentas(proyecto);
+        }
 
-        return mapearProyectoADto(proyectoRepository.save(proyecto), totalLotes);
+        Proyecto guardado = proyectoRepository.save(proyecto);
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.PROYECTO, id, guardado);
+        return mapearProyectoADto(guardado);
     }
 
     public ProyectoResponseDTO obtenerPorId(UUID id) {
         Proyecto proyecto = proyectoRepository.findByProyectoIdAndFechaEliminacionIsNull(id)
                 .orElseThrow(() -> new EntityNotFoundException("Proyecto no encontrado con ID: " + id));
 
-        // Obtener el conteo de lotes para la respuesta
-        Long totalLotes = proyectoRepository.countLotesByProyectoId(id).orElse(0L);
-
-        return mapearProyectoADto(proyecto, totalLotes);
+        return mapearProyectoADto(proyecto);
     }
 
     public List<ProyectoResponseDTO> listarActivos() {
-        // Usamos la consulta optimizada que devuelve la entidad Proyecto y el Long del conteo.
-        List<Object[]> results = proyectoRepository.findProyectosActivosWithLoteCount();
-
-        return results.stream()
-                .map(result -> {
-                    Proyecto proyecto = (Proyecto) result[0];
-                    Long totalLotes = (Long) result[1];
-                    return mapearProyectoADto(proyecto, totalLotes);
-                })
-                .collect(Collectors.toList());
+        // Los contadores vienen en la misma fila del proyecto: no se recorren sus lotes
+        return mapearADto(proyectoRepository.findByFechaEliminacionIsNull());
     }
 
     public List<ProyectoResponseDTO> listarActivos(String busqueda) {
-        List<ProyectoResponseDTO> activos = listarActivos();
-        if (busqueda == null || busqueda.trim().isEmpty()) return activos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return activos.stream()
-                .filter(p -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (p.getNombre() != null ? p.getNombre() : "") + " " +
-                                    (p.getDescripcion() != null ? p.getDescripcion() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(x -> contenido.contains(x));
-                })
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarActivos();
+
+        return mapearADto(
+                busquedaTextoRepository.buscar(Proyecto.class, busqueda, null, Pageable.unpaged(), null).getContent());
+    }
+
+    public CursorPageDTO<ProyectoResponseDTO> listarActivosPorCursor(String busqueda, String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        Slice<Proyecto> slice = busqueda == null || busqueda.trim().isEmpty()
+                ? proyectoRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite))
+                : busquedaTextoRepository.buscar(Proyecto.class, busqueda, posicion, CursorUtil.limite(limite), null);
+
+        return CursorUtil.pagina(slice, this::mapearProyectoADto, Proyecto::getFechaCreacion, Proyecto::getProyectoId);
+    }
+
+    public List<ProyectoResponseDTO> mapearADto(List<Proyecto> proyectos) {
+        return proyectos.stream()
+                .map(this::mapearProyectoADto)
                 .collect(Collectors.toList());
     }
 
@@ -117,6 +130,7 @@ public class ProyectoService {
         proyectoRepository.findById(id).ifPresent(proyecto -> {
             proyecto.setFechaEliminacion(LocalDateTime.now());
             proyectoRepository.save(proyecto);
+            indiceBusqueda.eliminar(IndiceBusquedaService.Tipo.PROYECTO, id);
         });
     }
 
@@ -133,9 +147,9 @@ public class ProyectoService {
 
     /**
      * Mapeador principal usado para Listar Activos.
-     * Incluye el total de lotes.
+     * Incluye los contadores de lotes que mantiene ContadoresProyectoService.
      */
-    private ProyectoResponseDTO mapearProyectoADto(Proyecto proyecto, Long totalLotes) {
+    private ProyectoResponseDTO mapearProyectoADto(Proyecto proyecto) {
         // Aseguramos que las relaciones de Distrito, Provincia y Departamento estén cargadas
         Distrito distrito = proyecto.getDistrito();
         Provincia provincia = distrito.getProvincia();
@@ -158,8 +172,21 @@ public class ProyectoService {
                 departamento.getDepartamentoId(),
                 departamento.getNombre(),
 
-                totalLotes, // <-- ¡Asignación del total de lotes!
+                proyecto.getTotalLotes(),
+                proyecto.getLotesDisponibles(),
+                proyecto.getLotesReservados(),
+                proyecto.getLotesVendidos(),
+                proyecto.getMontoVendido(),
                 proyecto.getFechaEliminacion() == null
         );
     }
-}
\ No newline at end of file
+
+    private void refrescarBusquedaLotesYVentas(Proyecto proyecto) {
+        if (proyecto.getLotes() == null || proyecto.getLotes().isEmpty()) return;
+
+        List<UUID> loteIds = proyecto.getLotes().stream().map(Lote::getLoteId).collect(Collectors.toList());
+        proyecto.getLotes().forEach(lote -> indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, lote.getLoteId(), lote));
+        ventaRepository.findByLoteLoteIdInAndFechaEliminacionIsNull(loteIds)
+                .forEach(venta -> indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.VENTA, venta.getVentaId(), venta));
+    }
+}
@@ -0,0 +1,188 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.ReporteJobDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generación de reportes en segundo plano, fuera de los hilos de Tomcat.
+ *
+ * Un pool propio y acotado (app.reportes.jobs.hilos) con cola limitada (app.reportes.jobs.cola): si la cola
+ * está llena el trabajo se rechaza de inmediato en lugar de acumular espera. Cada usuario puede tener como
+ * máximo app.reportes.jobs.max-por-usuario trabajos pendientes o en proceso. Los trabajos terminados
+ * se conservan app.reportes.jobs.retencion-ms para consultar su estado y descargar el resultado.
+ */
+@Service
+public class ReporteJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReporteJobService.class);
+
+    public enum Estado { PENDIENTE, EN_PROCESO, COMPLETADO, FALLIDO }
+
+    private final ReporteMensualService reporteMensualService;
+    private final ThreadPoolExecutor executor;
+    private final int maxPorUsuario;
+    private final long retencionMs;
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    // usuario → trabajos pendientes o en proceso (la entrada desaparece al llegar a cero)
+    private final Map<String, Integer> activosPorUsuario = new ConcurrentHashMap<>();
+
+    public ReporteJobService(ReporteMensualService reporteMensualService,
+                             @Value("${app.reportes.jobs.hilos:2}") int hilos,
+                             @Value("${app.reportes.jobs.cola:20}") int cola,
+                             @Value("${app.reportes.jobs.max-por-usuario:2}") int maxPorUsuario,
+                             @Value("${app.reportes.jobs.retencion-ms:1800000}") long retencionMs) {
+        this.reporteMensualService = reporteMensualService;
+        this.maxPorUsuario = maxPorUsuario;
+        this.retencionMs = retencionMs;
+
+        AtomicInteger secuencia = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cola),
+                tarea -> {
+                    Thread hilo = new Thread(tarea, "reporte-job-" + secuencia.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @throws JobRechazadoException si el usuario alcanzó su límite o la cola está llena
+     */
+    public ReporteJobDTO encolar(String usuario, String fuente, YearMonth mes) {
+        boolean[] aceptado = {false};
+        activosPorUsuario.compute(usuario, (u, activos) -> {
+            int actuales = activos != null ? activos : 0;
+            if (actuales >= maxPorUsuario) return activos;
+            aceptado[0] = true;
+            return actuales + 1;
+        });
+        if (!aceptado[0]) {
+            throw new JobRechazadoException(JobRechazadoException.Motivo.LIMITE_USUARIO,
+                    "Ya tiene " + maxPorUsuario + " reporte(s) en curso; espere a que terminen.");
+        }
+
+        Job job = new Job(UUID.randomUUID(), usuario, fuente, mes);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> ejecutar(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            liberar(usuario);
+            throw new JobRechazadoException(JobRechazadoException.Motivo.COLA_LLENA,
+                    "Hay demasiados reportes en espera; intente nuevamente en unos segundos.");
+        }
+        return job.aDto();
+    }
+
+    /**
+     * Trabajo del usuario (vacío si no existe o lo encoló otro usuario).
+     */
+    public Optional<ReporteJobDTO> obtener(UUID id, String usuario) {
+        return delUsuario(id, usuario).map(Job::aDto);
+    }
+
+    /**
+     * Resultado de un trabajo completado del usuario (vacío si no existe, es de otro, no terminó o falló).
+     */
+    public Optional<ReporteMensualService.ReportePdf> resultado(UUID id, String usuario) {
+        return delUsuario(id, usuario).filter(job -> job.estado == Estado.COMPLETADO).map(job -> job.resultado);
+    }
+
+    private Optional<Job> delUsuario(UUID id, String usuario) {
+        return Optional.ofNullable(jobs.get(id)).filter(job -> job.usuario.equals(usuario));
+    }
+
+    public int getEnCola() {
+        return executor.getQueue().size();
+    }
+
+    private void ejecutar(Job job) {
+        job.iniciado = Instant.now();
+        job.estado = Estado.EN_PROCESO;
+        try {
+            job.resultado = reporteMensualService.obtenerPdf(job.fuente, job.mes);
+            job.estado = Estado.COMPLETADO;
+        } catch (RuntimeException e) {
+            log.warn("Falló el trabajo de reporte {}: {}", job.id, e.getMessage());
+            job.error = e.getMessage();
+            job.estado = Estado.FALLIDO;
+        } finally {
+            job.terminado = Instant.now();
+            liberar(job.usuario);
+        }
+    }
+
+    private void liberar(String usuario) {
+        activosPorUsuario.computeIfPresent(usuario, (u, activos) -> activos > 1 ? activos - 1 : null);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reportes.jobs.retencion-ms:1800000}")
+    public void purgar() {
+        Instant limite = Instant.now().minusMillis(retencionMs);
+        jobs.values().removeIf(job -> job.terminado != null && job.terminado.isBefore(limite));
+    }
+
+    @PreDestroy
+    public void detener() {
+        executor.shutdownNow();
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final String usuario;
+        private final String fuente;
+        private final YearMonth mes;
+        private final Instant creado = Instant.now();
+
+        // Los escribe el hilo del pool y los leen los hilos de las consultas
+        private volatile Estado estado = Estado.PENDIENTE;
+        private volatile Instant iniciado;
+        private volatile Instant terminado;
+        private volatile String error;
+        private volatile ReporteMensualService.ReportePdf resultado;
+
+        private Job(UUID id, String usuario, String fuente, YearMonth mes) {
+            this.id = id;
+            this.usuario = usuario;
+            this.fuente = fuente;
+            this.mes = mes;
+        }
+
+        private ReporteJobDTO aDto() {
+            Estado actual = estado;
+            return new ReporteJobDTO(id, actual.name(), fuente, mes != null ? mes.toString() : null,
+                    creado, iniciado, terminado, error,
+                    actual == Estado.COMPLETADO ? "/api/reportes/jobs/" + id + "/pdf" : null);
+        }
+    }
+
+    public static class JobRechazadoException extends RuntimeException {
+        public enum Motivo { LIMITE_USUARIO, COLA_LLENA }
+
+        private final Motivo motivo;
+
+        public JobRechazadoException(Motivo motivo, String mensaje) {
+            super(mensaje);
+            this.motivo = motivo;
+        }
+
+        public Motivo getMotivo() {
+            return motivo;
+        }
+    }
+}
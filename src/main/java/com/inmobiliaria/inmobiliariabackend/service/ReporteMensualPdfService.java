@@ -5,37 +5,107 @@ import com.lowagie.text.Font;
 import com.lowagie.text.Image;
 import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ResourceUtils;
 
 import java.awt.*;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Genera el reporte mensual en PDF escribiendo directo en el OutputStream recibido (p. ej. el de la respuesta HTTP),
+ * sin copias intermedias en memoria.
+ *
+ * Fuentes, colores y estilos de celda son constantes compartidas; el logo (app.reportes.logo) se lee una sola vez
+ * al iniciar y cada documento lo incrusta una única vez aunque el encabezado se repita en todas las páginas.
+ *
+ * Métricas: reportes.pdf.latencia, reportes.pdf.tamano (bytes escritos) y reportes.pdf.asignacion
+ * (bytes asignados en el heap por el hilo que genera el reporte, si la JVM lo permite).
+ */
 @Service
 public class ReporteMensualPdfService {
 
+    private static final Logger log = LoggerFactory.getLogger(ReporteMensualPdfService.class);
+
     private static final Color PRIMARY = new Color(10, 102, 194); // color principal (azul)
+    private static final Color FONDO_TARJETA = new Color(245, 247, 250);
     private static final Font TITLE_FONT = new Font(Font.HELVETICA, 18, Font.BOLD, Color.BLACK);
     private static final Font SUBTITLE_FONT = new Font(Font.HELVETICA, 12, Font.BOLD, PRIMARY);
     private static final Font NORMAL = new Font(Font.HELVETICA, 11, Font.NORMAL, Color.BLACK);
     private static final Font BOLD = new Font(Font.HELVETICA, 11, Font.BOLD, Color.BLACK);
-    private static final NumberFormat MONEDA = NumberFormat.getCurrencyInstance(new Locale("es", "PE"));
+    private static final Font FECHA_FONT = new Font(Font.HELVETICA, 9, Font.ITALIC, Color.DARK_GRAY);
+    private static final Font VENTAS_FONT = new Font(Font.HELVETICA, 24, Font.BOLD, PRIMARY);
+    private static final Font PROYECTO_TOP_FONT = new Font(Font.HELVETICA, 14, Font.BOLD);
+    private static final Font TABLE_HEAD_FONT = new Font(Font.HELVETICA, 12, Font.BOLD, Color.WHITE);
+    private static final Font EMPRESA_FONT = new Font(Font.HELVETICA, 10, Font.BOLD, PRIMARY);
+    private static final Font PAGINA_FONT = new Font(Font.HELVETICA, 9, Font.ITALIC, Color.GRAY);
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // NumberFormat no es thread-safe: uno por hilo
+    private static final ThreadLocal<NumberFormat> MONEDA =
+            ThreadLocal.withInitial(() -> NumberFormat.getCurrencyInstance(new Locale("es", "PE")));
+
+    // Logo ya decodificado; cada documento usa una copia liviana (comparte los bytes de la imagen)
+    private final Image logo;
+
+    private final Timer latencia;
+    private final DistributionSummary tamano;
+    private final DistributionSummary asignacion;
+
+    public ReporteMensualPdfService(MeterRegistry registry, @Value("${app.reportes.logo:}") String logo) {
+        this.logo = cargarLogo(logo);
+        this.latencia = Timer.builder("reportes.pdf.latencia").register(registry);
+        this.tamano = DistributionSummary.builder("reportes.pdf.tamano").baseUnit("bytes").register(registry);
+        this.asignacion = DistributionSummary.builder("reportes.pdf.asignacion").baseUnit("bytes").register(registry);
+    }
 
-    public ByteArrayInputStream generarReporteProfesional(Map<String, Object> data, String logoPath) {
+    /**
+     * Escribe el PDF en destino. No cierra el stream.
+     * @throws IllegalStateException si el documento no se pudo generar
+     */
+    public void generarReporteProfesional(Map<String, Object> data, OutputStream destino) {
+        long inicio = System.nanoTime();
+        long asignadoAntes = bytesAsignadosHiloActual();
+        ContadorSalida salida = new ContadorSalida(destino);
+        try {
+            renderizar(data, salida);
+        } finally {
+            latencia.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            tamano.record(salida.escritos);
+            if (asignadoAntes >= 0) {
+                asignacion.record(bytesAsignadosHiloActual() - asignadoAntes);
+            }
+        }
+    }
+
+    private void renderizar(Map<String, Object> data, OutputStream out) {
         Document document = new Document(PageSize.A4, 36, 36, 80, 50);
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         try {
             PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false); // el stream es del llamador (p. ej. la respuesta HTTP)
 
             // HEADER: logo + title (drawn manually so header repeats)
-            writer.setPageEvent(new HeaderFooterPageEvent(logoPath));
+            writer.setPageEvent(new HeaderFooterPageEvent(logo != null ? Image.getInstance(logo) : null));
 
             document.open();
 
@@ -46,10 +116,7 @@ public class ReporteMensualPdfService {
             document.add(titulo);
 
             // Fecha de generación (alineada a la derecha)
-            Paragraph fecha = new Paragraph(
-                    "Fecha: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                    new Font(Font.HELVETICA, 9, Font.ITALIC, Color.DARK_GRAY)
-            );
+            Paragraph fecha = new Paragraph("Fecha: " + LocalDateTime.now().format(FORMATO_FECHA), FECHA_FONT);
             fecha.setAlignment(Element.ALIGN_RIGHT);
             fecha.setSpacingAfter(12f);
             document.add(fecha);
@@ -67,7 +134,7 @@ public class ReporteMensualPdfService {
             ventasCell.addElement(ventasTitle);
 
             Integer ventasMes = safeInt(data.get("ventas_mes"));
-            Paragraph ventasValor = new Paragraph(String.valueOf(ventasMes), new Font(Font.HELVETICA, 24, Font.BOLD, PRIMARY));
+            Paragraph ventasValor = new Paragraph(String.valueOf(ventasMes), VENTAS_FONT);
             ventasValor.setSpacingBefore(6f);
             ventasCell.addElement(ventasValor);
             resumenTable.addCell(ventasCell);
@@ -79,7 +146,7 @@ public class ReporteMensualPdfService {
                 String topProyecto = proyectos.keySet().iterator().next();
                 Integer topVentas = proyectos.get(topProyecto);
                 proyectoTopCell.addElement(new Paragraph("Proyecto con mayor movimiento", SUBTITLE_FONT));
-                proyectoTopCell.addElement(new Paragraph(topProyecto + " — " + topVentas + " venta(s)", new Font(Font.HELVETICA, 14, Font.BOLD)));
+                proyectoTopCell.addElement(new Paragraph(topProyecto + " — " + topVentas + " venta(s)", PROYECTO_TOP_FONT));
             } else {
                 proyectoTopCell.addElement(new Paragraph("Proyecto con mayor movimiento", SUBTITLE_FONT));
                 proyectoTopCell.addElement(new Paragraph("Sin datos", NORMAL));
@@ -91,18 +158,15 @@ public class ReporteMensualPdfService {
             // --- Tabla: Proyectos con más ventas ---
             document.add(new Paragraph("Proyectos con más ventas", SUBTITLE_FONT));
             document.add(Chunk.NEWLINE);
-            PdfPTable tablaProyectos = new PdfPTable(2);
-            tablaProyectos.setWidthPercentage(100);
-            tablaProyectos.setWidths(new int[]{4, 1});
-            addTableHeader(tablaProyectos, new String[]{"Proyecto", "Ventas"});
+            PdfPTable tablaProyectos = createTable(new int[]{4, 1}, "Proyecto", "Ventas");
             if (!proyectos.isEmpty()) {
                 for (Map.Entry<String, Integer> e : proyectos.entrySet()) {
-                    tablaProyectos.addCell(createBodyCell(e.getKey()));
-                    tablaProyectos.addCell(createBodyCell(String.valueOf(e.getValue())));
+                    addBodyCell(tablaProyectos, e.getKey());
+                    addBodyCell(tablaProyectos, String.valueOf(e.getValue()));
                 }
             } else {
-                tablaProyectos.addCell(createBodyCell("No hay datos"));
-                tablaProyectos.addCell(createBodyCell("-"));
+                addBodyCell(tablaProyectos, "No hay datos");
+                addBodyCell(tablaProyectos, "-");
             }
             tablaProyectos.setSpacingAfter(12f);
             document.add(tablaProyectos);
@@ -110,19 +174,16 @@ public class ReporteMensualPdfService {
             // --- Tabla: Zonas top ---
             document.add(new Paragraph("Zonas con mayor movimiento", SUBTITLE_FONT));
             document.add(Chunk.NEWLINE);
-            PdfPTable tablaZonas = new PdfPTable(2);
-            tablaZonas.setWidthPercentage(100);
-            tablaZonas.setWidths(new int[]{4, 1});
-            addTableHeader(tablaZonas, new String[]{"Zona", "Ventas"});
+            PdfPTable tablaZonas = createTable(new int[]{4, 1}, "Zona", "Ventas");
             Map<String, Integer> zonas = safeMapInt(data.get("zonas_top"));
             if (!zonas.isEmpty()) {
                 for (Map.Entry<String, Integer> e : zonas.entrySet()) {
-                    tablaZonas.addCell(createBodyCell(e.getKey()));
-                    tablaZonas.addCell(createBodyCell(String.valueOf(e.getValue())));
+                    addBodyCell(tablaZonas, e.getKey());
+                    addBodyCell(tablaZonas, String.valueOf(e.getValue()));
                 }
             } else {
-                tablaZonas.addCell(createBodyCell("No hay datos"));
-                tablaZonas.addCell(createBodyCell("-"));
+                addBodyCell(tablaZonas, "No hay datos");
+                addBodyCell(tablaZonas, "-");
             }
             tablaZonas.setSpacingAfter(12f);
             document.add(tablaZonas);
@@ -130,19 +191,17 @@ public class ReporteMensualPdfService {
             // --- Tabla: Ticket promedio por proyecto ---
             document.add(new Paragraph("Precio promedio por proyecto", SUBTITLE_FONT));
             document.add(Chunk.NEWLINE);
-            PdfPTable tablaTicket = new PdfPTable(2);
-            tablaTicket.setWidthPercentage(100);
-            tablaTicket.setWidths(new int[]{4, 2});
-            addTableHeader(tablaTicket, new String[]{"Proyecto", "Precio promedio"});
+            PdfPTable tablaTicket = createTable(new int[]{4, 2}, "Proyecto", "Precio promedio");
             Map<String, Double> tickets = safeMapDouble(data.get("ticket_promedio_proyecto"));
             if (!tickets.isEmpty()) {
+                NumberFormat moneda = MONEDA.get();
                 for (Map.Entry<String, Double> e : tickets.entrySet()) {
-                    tablaTicket.addCell(createBodyCell(e.getKey()));
-                    tablaTicket.addCell(createBodyCell(MONEDA.format(e.getValue())));
+                    addBodyCell(tablaTicket, e.getKey());
+                    addBodyCell(tablaTicket, moneda.format(e.getValue()));
                 }
             } else {
-                tablaTicket.addCell(createBodyCell("No hay datos"));
-                tablaTicket.addCell(createBodyCell("-"));
+                addBodyCell(tablaTicket, "No hay datos");
+                addBodyCell(tablaTicket, "-");
             }
             tablaTicket.setSpacingAfter(12f);
             document.add(tablaTicket);
@@ -169,10 +228,9 @@ public class ReporteMensualPdfService {
             //document.add(footerNote);
 
             document.close();
-        } catch (Exception ex) {
-            ex.printStackTrace();
+        } catch (DocumentException e) {
+            throw new IllegalStateException("No se pudo generar el reporte mensual en PDF", e);
         }
-        return new ByteArrayInputStream(out.toByteArray());
     }
 
     // Helpers de diseño
@@ -180,25 +238,34 @@ public class ReporteMensualPdfService {
         PdfPCell cell = new PdfPCell();
         cell.setBorder(Rectangle.NO_BORDER);
         cell.setPadding(12f);
-        cell.setBackgroundColor(new Color(245, 247, 250));
+        cell.setBackgroundColor(FONDO_TARJETA);
         return cell;
     }
 
-    private static void addTableHeader(PdfPTable table, String[] headers) {
-        Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD, Color.WHITE);
+    /**
+     * Tabla con encabezado. PdfPTable copia su celda por defecto en cada addCell(Phrase),
+     * así el estilo se configura una vez por tabla en lugar de crear una PdfPCell por valor.
+     */
+    private static PdfPTable createTable(int[] widths, String... headers) throws DocumentException {
+        PdfPTable table = new PdfPTable(widths.length);
+        table.setWidthPercentage(100);
+        table.setWidths(widths);
+
+        PdfPCell estilo = table.getDefaultCell();
+        estilo.setPadding(6);
+        estilo.setBackgroundColor(PRIMARY);
+        estilo.setHorizontalAlignment(Element.ALIGN_CENTER);
         for (String h : headers) {
-            PdfPCell cell = new PdfPCell(new Phrase(h, headFont));
-            cell.setBackgroundColor(PRIMARY);
-            cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-            cell.setPadding(6);
-            table.addCell(cell);
+            table.addCell(new Phrase(h, TABLE_HEAD_FONT));
         }
+        // Resto de filas: estilo de cuerpo
+        estilo.setBackgroundColor(null);
+        estilo.setHorizontalAlignment(Element.ALIGN_LEFT);
+        return table;
     }
 
-    private static PdfPCell createBodyCell(String text) {
-        PdfPCell cell = new PdfPCell(new Phrase(text, NORMAL));
-        cell.setPadding(6);
-        return cell;
+    private static void addBodyCell(PdfPTable table, String text) {
+        table.addCell(new Phrase(text, NORMAL));
     }
 
     // Helpers de seguridad / casting
@@ -226,49 +293,74 @@ public class ReporteMensualPdfService {
         try { return Integer.parseInt(obj.toString()); } catch (Exception e) { return 0; }
     }
 
-    // Evento para header/footer (logo opcional)
+    // Logo: ruta de archivo o URL de recurso (classpath:..., file:...); vacío = sin logo
+    private static Image cargarLogo(String ubicacion) {
+        if (ubicacion == null || ubicacion.isBlank()) return null;
+        Resource recurso = ResourceUtils.isUrl(ubicacion)
+                ? new DefaultResourceLoader().getResource(ubicacion)
+                : new FileSystemResource(ubicacion);
+        try (InputStream in = recurso.getInputStream()) {
+            Image img = Image.getInstance(in.readAllBytes());
+            img.scaleToFit(60, 60);
+            return img;
+        } catch (IOException | BadElementException e) {
+            log.warn("No se pudo cargar el logo del reporte '{}'; se generará sin logo: {}", ubicacion, e.getMessage());
+            return null;
+        }
+    }
+
+    // -1 si la JVM no expone la memoria asignada por hilo
+    private static long bytesAsignadosHiloActual() {
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (mx instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) mx;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    // Cuenta los bytes escritos sin copiarlos
+    private static final class ContadorSalida extends FilterOutputStream {
+        private long escritos;
+
+        private ContadorSalida(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            escritos++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            escritos += len;
+        }
+    }
+
+    // Evento para header/footer (logo opcional). La tabla del encabezado se arma una vez por documento.
     static class HeaderFooterPageEvent extends PdfPageEventHelper {
-        private String logoPath;
-        HeaderFooterPageEvent(String logoPath) { this.logoPath = logoPath; }
+        private final Image logo;
+        private PdfPTable header;
+
+        HeaderFooterPageEvent(Image logo) { this.logo = logo; }
 
         @Override
         public void onEndPage(PdfWriter writer, Document document) {
             try {
-                PdfPTable header = new PdfPTable(2);
-                header.setTotalWidth(document.getPageSize().getWidth() - document.leftMargin() - document.rightMargin());
-                header.setWidths(new int[]{1, 4});
-                header.getDefaultCell().setBorder(Rectangle.NO_BORDER);
-
-                // Logo (si existe)
-                if (logoPath != null && !logoPath.isBlank()) {
-                    try {
-                        Image img = Image.getInstance(logoPath);
-                        img.scaleToFit(60, 60);
-                        PdfPCell logoCell = new PdfPCell(img, false);
-                        logoCell.setBorder(Rectangle.NO_BORDER);
-                        logoCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-                        header.addCell(logoCell);
-                    } catch (Exception ex) {
-                        header.addCell(createBlankCell());
-                    }
-                } else {
-                    header.addCell(createBlankCell());
+                if (header == null) {
+                    header = crearEncabezado(document);
                 }
-
-                // Título pequeño en header
-                PdfPCell titleCell = new PdfPCell();
-                titleCell.setBorder(Rectangle.NO_BORDER);
-                Paragraph p = new Paragraph("AVERCO S.A.C.", new Font(Font.HELVETICA, 10, Font.BOLD, PRIMARY));
-                p.setAlignment(Element.ALIGN_RIGHT);
-                titleCell.addElement(p);
-                header.addCell(titleCell);
-
                 header.writeSelectedRows(0, -1, document.leftMargin(), document.getPageSize().getHeight() - 10, writer.getDirectContent());
 
                 // Pie simple (número de página)
                 ColumnText.showTextAligned(writer.getDirectContent(),
                         Element.ALIGN_CENTER,
-                        new Phrase(String.format("Página %d", writer.getPageNumber()), new Font(Font.HELVETICA, 9, Font.ITALIC, Color.GRAY)),
+                        new Phrase("Página " + writer.getPageNumber(), PAGINA_FONT),
                         (document.getPageSize().getWidth()) / 2,
                         document.bottom() - 10, 0);
 
@@ -277,6 +369,32 @@ public class ReporteMensualPdfService {
             }
         }
 
+        private PdfPTable crearEncabezado(Document document) throws DocumentException {
+            PdfPTable tabla = new PdfPTable(2);
+            tabla.setTotalWidth(document.getPageSize().getWidth() - document.leftMargin() - document.rightMargin());
+            tabla.setWidths(new int[]{1, 4});
+            tabla.getDefaultCell().setBorder(Rectangle.NO_BORDER);
+
+            // Logo (si existe): la misma instancia en todas las páginas se incrusta una sola vez
+            if (logo != null) {
+                PdfPCell logoCell = new PdfPCell(logo, false);
+                logoCell.setBorder(Rectangle.NO_BORDER);
+                logoCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+                tabla.addCell(logoCell);
+            } else {
+                tabla.addCell(createBlankCell());
+            }
+
+            // Título pequeño en header
+            PdfPCell titleCell = new PdfPCell();
+            titleCell.setBorder(Rectangle.NO_BORDER);
+            Paragraph p = new Paragraph("AVERCO S.A.C.", EMPRESA_FONT);
+            p.setAlignment(Element.ALIGN_RIGHT);
+            titleCell.addElement(p);
+            tabla.addCell(titleCell);
+            return tabla;
+        }
+
         private PdfPCell createBlankCell() {
             PdfPCell c = new PdfPCell();
             c.setBorder(Rectangle.NO_BORDER);
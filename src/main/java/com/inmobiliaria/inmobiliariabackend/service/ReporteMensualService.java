@@ -0,0 +1,187 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reporte mensual en PDF servido desde ReportePdfCache.
+ *
+ * Las métricas se obtienen del servicio de IA (fuente "ia", con respaldo en las métricas locales) o de la base
+ * (fuente "local"); el PDF se guarda bajo el hash de esas métricas, así solo se renderiza cuando cambian.
+ * Además se recuerda el último PDF de cada mes y fuente mientras no cambien las ventas y no pase
+ * app.reportes.cache.vigencia-ms: en ese caso una descarga ni siquiera vuelve a pedir las métricas.
+ * Con la fuente local solo se aceptan el mes actual y los app.reportes.meses-historial anteriores: el
+ * endpoint es público y cada mes distinto es un PDF nuevo que renderizar y guardar.
+ *
+ * El reporte del mes en curso se pregenera en horario de poca carga (app.reportes.cache.cron) y cuando se
+ * detectan cambios en las ventas (revisión cada app.reportes.cache.revision-ms).
+ */
+@Service
+public class ReporteMensualService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReporteMensualService.class);
+    public static final String FUENTE_IA = "ia";
+    public static final String FUENTE_LOCAL = "local";
+
+    private final IaReporteClient iaReporteClient;
+    private final ReporteMetricasService reporteMetricasService;
+    private final ReporteMensualPdfService reportePdfService;
+    private final ReportePdfCache cache;
+    private final VentaRepository ventaRepository;
+    private final ObjectWriter writer;
+    private final long vigenciaMs;
+    private final int mesesHistorial;
+
+    // "fuente_mes" → último PDF entregado; solo mientras su archivo siga en la caché
+    private final Map<String, ReportePdf> vigentes = new ConcurrentHashMap<>();
+    private volatile LocalDateTime marcaPregenerada;
+
+    public ReporteMensualService(IaReporteClient iaReporteClient, ReporteMetricasService reporteMetricasService,
+                                 ReporteMensualPdfService reportePdfService, ReportePdfCache cache,
+                                 VentaRepository ventaRepository, ObjectMapper objectMapper,
+                                 @Value("${app.reportes.cache.vigencia-ms:900000}") long vigenciaMs,
+                                 @Value("${app.reportes.meses-historial:36}") int mesesHistorial) {
+        this.iaReporteClient = iaReporteClient;
+        this.reporteMetricasService = reporteMetricasService;
+        this.reportePdfService = reportePdfService;
+        this.cache = cache;
+        this.ventaRepository = ventaRepository;
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.vigenciaMs = vigenciaMs;
+        this.mesesHistorial = mesesHistorial;
+    }
+
+    /**
+     * @param fuente "ia" (por defecto) o "local"
+     * @param mes    solo para la fuente local; null = mes actual
+     * @throws IllegalArgumentException si el mes es futuro o anterior al historial permitido
+     */
+    public ReportePdf obtenerPdf(String fuente, YearMonth mes) {
+        boolean local = FUENTE_LOCAL.equalsIgnoreCase(fuente);
+        YearMonth periodo = local && mes != null ? validarMes(mes) : YearMonth.now();
+        String solicitud = (local ? FUENTE_LOCAL : FUENTE_IA) + "_" + periodo;
+        LocalDateTime marca = ventaRepository.ultimaModificacion();
+
+        ReportePdf vigente = vigentes.get(solicitud);
+        if (vigente != null && Objects.equals(vigente.marcaVentas, marca)
+                && System.currentTimeMillis() - vigente.creadoMs < vigenciaMs
+                && cache.tocar(vigente.getEntrada())) {
+            return vigente;
+        }
+
+        Datos datos = local ? datosLocales(periodo) : datosIa(periodo);
+        String hash = hash(datos);
+        ReportePdfCache.Entrada entrada = cache.obtenerOGenerar(
+                "reporte_" + periodo + "_" + datos.fuente + "_" + hash,
+                salida -> reportePdfService.generarReporteProfesional(datos.metricas, salida));
+
+        ReportePdf pdf = new ReportePdf(entrada, "\"" + hash + "\"", datos.fuente, datos.respaldoDesde,
+                marca, System.currentTimeMillis());
+        vigentes.put(solicitud, pdf);
+        // Generar pudo descartar archivos de la caché: se olvidan los PDFs recordados que ya no están
+        vigentes.values().removeIf(p -> !cache.contiene(p.getEntrada()));
+        return pdf;
+    }
+
+    private YearMonth validarMes(YearMonth mes) {
+        YearMonth actual = YearMonth.now();
+        YearMonth primero = actual.minusMonths(mesesHistorial);
+        if (mes.isAfter(actual) || mes.isBefore(primero)) {
+            throw new IllegalArgumentException("El mes debe estar entre " + primero + " y " + actual + ".");
+        }
+        return mes;
+    }
+
+    @Scheduled(cron = "${app.reportes.cache.cron:0 0 3 * * *}")
+    public void pregenerarProgramado() {
+        pregenerar();
+    }
+
+    @Scheduled(initialDelayString = "${app.reportes.cache.revision-ms:300000}",
+            fixedDelayString = "${app.reportes.cache.revision-ms:300000}")
+    public void revisarCambios() {
+        if (!Objects.equals(ventaRepository.ultimaModificacion(), marcaPregenerada)) {
+            pregenerar();
+        }
+    }
+
+    private void pregenerar() {
+        LocalDateTime marca = ventaRepository.ultimaModificacion();
+        for (String fuente : new String[]{FUENTE_IA, FUENTE_LOCAL}) {
+            try {
+                obtenerPdf(fuente, null);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo pregenerar el reporte mensual ({}): {}", fuente, e.getMessage());
+            }
+        }
+        marcaPregenerada = marca;
+    }
+
+    private Datos datosIa(YearMonth periodo) {
+        try {
+            IaReporteClient.ReporteIa reporte = iaReporteClient.obtenerReporteMensual();
+            return new Datos(reporte.getDatos(), FUENTE_IA, reporte.isRespaldo() ? reporte.getObtenidoEn() : null);
+        } catch (IaReporteClient.IaNoDisponibleException e) {
+            // Sin servicio de IA ni respaldo: métricas locales (sin recomendaciones)
+            return datosLocales(periodo);
+        }
+    }
+
+    private Datos datosLocales(YearMonth periodo) {
+        return new Datos(reporteMetricasService.calcular(periodo), FUENTE_LOCAL, null);
+    }
+
+    // El orden de los mapas se conserva (define el orden de las tablas del PDF), así que forma parte del hash
+    private String hash(Datos datos) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(datos.fuente.getBytes(StandardCharsets.UTF_8));
+            byte[] digest = sha.digest(writer.writeValueAsBytes(datos.metricas));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) hex.append(String.format("%02x", digest[i]));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo calcular el hash del reporte", e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Datos {
+        private final Map<String, Object> metricas;
+        private final String fuente;
+        private final Instant respaldoDesde;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReportePdf {
+        private final ReportePdfCache.Entrada entrada;
+        private final String etag;
+        // Fuente real de las métricas ("local" si el servicio de IA no estaba disponible)
+        private final String fuente;
+        // Si las métricas de IA vinieron de la última respuesta válida, cuándo se obtuvo
+        private final Instant respaldoDesde;
+        private final LocalDateTime marcaVentas;
+        private final long creadoMs;
+    }
+}
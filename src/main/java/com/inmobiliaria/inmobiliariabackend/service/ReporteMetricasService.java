@@ -0,0 +1,173 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas del reporte mensual calculadas localmente (mismas claves que devuelve el servicio de IA),
+ * para pasarlas directo a ReporteMensualPdfService.generarReporteProfesional.
+ *
+ * Una sola consulta agrupada por proyecto y distrito sobre el rango de fechas de creación de las ventas
+ * (índice idx_ventas_fecha_creacion); el resto se agrega en memoria sobre esas pocas filas.
+ * Con app.reportes.metricas.vista-materializada en PostgreSQL la consulta lee una vista materializada
+ * con totales por día, que se refresca cada app.reportes.metricas.refresco-ms.
+ */
+@Service
+public class ReporteMetricasService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReporteMetricasService.class);
+
+    private static final String VISTA = "ventas.mv_metricas_ventas_diarias";
+
+    // Ventas activas y no canceladas con su proyecto y distrito
+    private static final String VENTAS_VALIDAS =
+            " FROM ventas.ventas v"
+            + " JOIN ventas.estados_venta ev ON ev.estado_venta_id = v.estado_venta_id"
+            + " JOIN ventas.lotes l ON l.lote_id = v.lote_id"
+            + " JOIN ventas.proyectos p ON p.proyecto_id = l.proyecto_id"
+            + " JOIN catalogo.distritos d ON d.distrito_id = p.distrito_id"
+            + " WHERE v.fecha_eliminacion IS NULL AND ev.nombre <> 'Cancelada'";
+
+    private static final String SQL_TABLAS =
+            "SELECT p.nombre AS proyecto, d.nombre AS distrito, COUNT(*) AS ventas, SUM(v.monto_total) AS monto"
+            + VENTAS_VALIDAS
+            + " AND v.fecha_creacion >= :inicio AND v.fecha_creacion < :fin"
+            + " GROUP BY p.proyecto_id, p.nombre, d.distrito_id, d.nombre";
+
+    private static final String SQL_VISTA =
+            "SELECT proyecto, distrito, SUM(ventas) AS ventas, SUM(monto) AS monto FROM " + VISTA
+            + " WHERE dia >= :inicio AND dia < :fin"
+            + " GROUP BY proyecto_id, proyecto, distrito_id, distrito";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final int top;
+    private final boolean vistaMaterializada;
+
+    private volatile boolean usarVista;
+
+    public ReporteMetricasService(NamedParameterJdbcTemplate jdbc,
+                                  @Value("${app.reportes.metricas.top:5}") int top,
+                                  @Value("${app.reportes.metricas.vista-materializada:false}") boolean vistaMaterializada) {
+        this.jdbc = jdbc;
+        this.top = top;
+        this.vistaMaterializada = vistaMaterializada;
+    }
+
+    /**
+     * @return ventas_mes, proyectos_con_mas_ventas, zonas_top y ticket_promedio_proyecto del mes indicado
+     */
+    public Map<String, Object> calcular(YearMonth mes) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("inicio", Timestamp.valueOf(mes.atDay(1).atStartOfDay()))
+                .addValue("fin", Timestamp.valueOf(mes.plusMonths(1).atDay(1).atStartOfDay()));
+
+        List<Fila> filas = jdbc.query(usarVista ? SQL_VISTA : SQL_TABLAS, parametros, (rs, i) -> new Fila(
+                rs.getString("proyecto"), rs.getString("distrito"), rs.getLong("ventas"), rs.getDouble("monto")));
+
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("ventas_mes", (int) filas.stream().mapToLong(f -> f.ventas).sum());
+        metricas.put("proyectos_con_mas_ventas", ranking(filas, f -> f.proyecto));
+        metricas.put("zonas_top", ranking(filas, f -> f.distrito));
+        metricas.put("ticket_promedio_proyecto", ticketPromedio(filas));
+        return metricas;
+    }
+
+    // Ventas por clave, de mayor a menor (empates por nombre), limitado a "top"
+    private Map<String, Integer> ranking(List<Fila> filas, Function<Fila, String> clave) {
+        Map<String, Long> totales = filas.stream()
+                .collect(Collectors.groupingBy(clave, Collectors.summingLong(f -> f.ventas)));
+        return totales.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(top)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().intValue(), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    // Monto total promedio por venta de cada proyecto, de mayor a menor
+    private Map<String, Double> ticketPromedio(List<Fila> filas) {
+        Map<String, double[]> acumulado = new HashMap<>();
+        for (Fila f : filas) {
+            double[] suma = acumulado.computeIfAbsent(f.proyecto, k -> new double[2]);
+            suma[0] += f.monto;
+            suma[1] += f.ventas;
+        }
+        return acumulado.entrySet().stream()
+                .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), Math.round(e.getValue()[0] / e.getValue()[1] * 100) / 100.0))
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    // ----------------------------------------------------------------------
+    // Vista materializada (solo PostgreSQL)
+    // ----------------------------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepararVista() {
+        if (!vistaMaterializada) return;
+        if (!esPostgres()) {
+            log.info("Métricas de reportes: la vista materializada solo está disponible en PostgreSQL; se consultan las tablas.");
+            return;
+        }
+        try {
+            crearVista();
+            usarVista = true;
+        } catch (DataAccessException e) {
+            log.warn("No se pudo crear la vista {}; las métricas se consultarán sobre las tablas: {}", VISTA, e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.reportes.metricas.refresco-ms:900000}",
+            fixedDelayString = "${app.reportes.metricas.refresco-ms:900000}")
+    public void refrescarVista() {
+        if (!usarVista) return;
+        try {
+            // CONCURRENTLY: las lecturas no se bloquean mientras se recalcula (requiere el índice único)
+            jdbc.getJdbcOperations().execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + VISTA);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo refrescar la vista {}: {}", VISTA, e.getMessage());
+        }
+    }
+
+    private boolean esPostgres() {
+        String motor = jdbc.getJdbcOperations().execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return motor != null && motor.toLowerCase().contains("postgresql");
+    }
+
+    private void crearVista() {
+        jdbc.getJdbcOperations().execute("CREATE MATERIALIZED VIEW IF NOT EXISTS " + VISTA + " AS"
+                + " SELECT CAST(v.fecha_creacion AS date) AS dia, p.proyecto_id, p.nombre AS proyecto,"
+                + " d.distrito_id, d.nombre AS distrito, COUNT(*) AS ventas, SUM(v.monto_total) AS monto"
+                + VENTAS_VALIDAS
+                + " GROUP BY CAST(v.fecha_creacion AS date), p.proyecto_id, p.nombre, d.distrito_id, d.nombre");
+        jdbc.getJdbcOperations().execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_mv_metricas_ventas_diarias"
+                + " ON " + VISTA + " (dia, proyecto_id, distrito_id)");
+    }
+
+    private static final class Fila {
+        private final String proyecto;
+        private final String distrito;
+        private final long ventas;
+        private final double monto;
+
+        private Fila(String proyecto, String distrito, long ventas, double monto) {
+            this.proyecto = proyecto;
+            this.distrito = distrito;
+            this.ventas = ventas;
+            this.monto = monto;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * PDFs generados guardados en disco y direccionados por contenido: el nombre del archivo es la clave
+ * (mes, fuente y hash de los datos de entrada), así un mismo conjunto de métricas se renderiza una sola vez.
+ * El total en disco se acota a app.reportes.cache.max-mb descartando los menos usados (LRU).
+ */
+@Component
+public class ReportePdfCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportePdfCache.class);
+    private static final String EXTENSION = ".pdf";
+
+    private final Path directorio;
+    private final long maxBytes;
+
+    // nombre de archivo → tamaño, en orden de acceso (el primero es el menos usado)
+    private final LinkedHashMap<String, Long> indice = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ReportePdfCache(@Value("${app.reportes.cache.directorio:${java.io.tmpdir}/inmobiliaria-reportes}") String directorio,
+                           @Value("${app.reportes.cache.max-mb:200}") long maxMb) {
+        this.directorio = Paths.get(directorio);
+        this.maxBytes = maxMb * 1024 * 1024;
+        cargarIndice();
+    }
+
+    /**
+     * Devuelve el archivo de la clave; si no existe lo genera con el renderizador (escribe a un temporal
+     * y lo mueve al nombre final, así nunca se sirve un PDF a medio escribir).
+     */
+    public Entrada obtenerOGenerar(String clave, Consumer<OutputStream> renderizador) {
+        String nombre = clave + EXTENSION;
+        Path archivo = directorio.resolve(nombre);
+
+        synchronized (this) {
+            if (indice.get(nombre) != null && Files.exists(archivo)) {
+                return entrada(clave, archivo);
+            }
+        }
+
+        try {
+            Path temporal = Files.createTempFile(directorio, clave, ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporal), 64 * 1024)) {
+                    renderizador.accept(out);
+                }
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporal);
+            }
+
+            long tamano = Files.size(archivo);
+            synchronized (this) {
+                Long previo = indice.put(nombre, tamano);
+                totalBytes += tamano - (previo != null ? previo : 0);
+                desalojar(nombre);
+            }
+            return entrada(clave, archivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el reporte " + nombre + " en la caché", e);
+        }
+    }
+
+    /**
+     * Marca como recién usada una entrada que se sirve sin pasar por obtenerOGenerar.
+     *
+     * @return false si el archivo ya fue descartado de la caché
+     */
+    public synchronized boolean tocar(Entrada entrada) {
+        return indice.get(entrada.getArchivo().getFileName().toString()) != null && Files.exists(entrada.getArchivo());
+    }
+
+    // Sin tocar el orden de uso
+    public synchronized boolean contiene(Entrada entrada) {
+        return indice.containsKey(entrada.getArchivo().getFileName().toString());
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // Descarta los menos usados hasta entrar en el límite; nunca el recién generado
+    private void desalojar(String conservar) {
+        Iterator<Map.Entry<String, Long>> it = indice.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> candidato = it.next();
+            if (candidato.getKey().equals(conservar)) continue;
+            try {
+                // En Linux una descarga en curso sigue leyendo el archivo aunque se borre
+                Files.deleteIfExists(directorio.resolve(candidato.getKey()));
+            } catch (IOException e) {
+                log.warn("No se pudo borrar {} de la caché de reportes: {}", candidato.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= candidato.getValue();
+            it.remove();
+        }
+    }
+
+    private static Entrada entrada(String clave, Path archivo) {
+        try {
+            FileTime modificado = Files.getLastModifiedTime(archivo);
+            return new Entrada(clave, archivo, Files.size(archivo), modificado.toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Al arrancar se recuperan los PDFs de ejecuciones anteriores, del más viejo al más nuevo,
+    // y se borran los temporales que haya dejado una generación interrumpida
+    private void cargarIndice() {
+        try {
+            Files.createDirectories(directorio);
+            try (Stream<Path> temporales = Files.list(directorio)) {
+                temporales.filter(p -> p.getFileName().toString().endsWith(".tmp")).forEach(p -> p.toFile().delete());
+            }
+            try (Stream<Path> archivos = Files.list(directorio)) {
+                archivos.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                        .sorted(Comparator.comparing(ReportePdfCache::modificado))
+                        .forEach(p -> {
+                            long tamano = p.toFile().length();
+                            indice.put(p.getFileName().toString(), tamano);
+                            totalBytes += tamano;
+                        });
+            }
+            desalojar(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo preparar el directorio de caché de reportes " + directorio, e);
+        }
+    }
+
+    private static FileTime modificado(Path archivo) {
+        try {
+            return Files.getLastModifiedTime(archivo);
+        } catch (IOException e) {
+            return FileTime.from(Instant.EPOCH);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entrada {
+        private final String clave;
+        private final Path archivo;
+        private final long tamano;
+        private final Instant generado;
+    }
+}
@@ -1,47 +1,35 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.TipoDocumentoDTO;
 import com.inmobiliaria.inmobiliariabackend.model.TipoDocumento;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.TipoDocumentoRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class TipoDocumentoService {
 
     private final TipoDocumentoRepository tipoDocumentoRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
 
-    public TipoDocumentoService(TipoDocumentoRepository repository) {
+    public TipoDocumentoService(TipoDocumentoRepository repository, BusquedaTextoRepository busquedaTextoRepository) {
         this.tipoDocumentoRepository = repository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
     }
 
     public List<TipoDocumento> listar(String busqueda) {
-        List<TipoDocumento> todos = tipoDocumentoRepository.findAll()
-                .stream()
-                .filter(tipo -> tipo.getFechaEliminacion() == null)
-                .collect(Collectors.toList());
-
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(t -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (t.getNombre() != null ? t.getNombre() : "") + " " +
-                                    (t.getDescripcion() != null ? t.getDescripcion() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+        // Filtro de activos y búsqueda sin acentos resueltos en la base (columna "busqueda")
+        return busquedaTextoRepository.buscar(TipoDocumento.class, busqueda, null, Pageable.unpaged(), null).getContent();
     }
 
     public List<TipoDocumento> listar() {
@@ -52,6 +40,22 @@ public class TipoDocumentoService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<TipoDocumento> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(TipoDocumento.class, busqueda, posicion, CursorUtil.limite(limite), null),
+                Function.identity(), TipoDocumento::getFechaCreacion, TipoDocumento::getTipoDocumentoId);
+    }
+
+    public CursorPageDTO<TipoDocumento> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                tipoDocumentoRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), TipoDocumento::getFechaCreacion, TipoDocumento::getTipoDocumentoId);
+    }
+
     public Optional<TipoDocumento> obtenerPorId(UUID id) {
         // ✨ Filtrar por fechaEliminacion
         return tipoDocumentoRepository.findById(id)
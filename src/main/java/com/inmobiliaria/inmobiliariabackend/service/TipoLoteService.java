@@ -1,47 +1,35 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.TipoLoteDTO;
 import com.inmobiliaria.inmobiliariabackend.model.TipoLote;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.TipoLoteRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class TipoLoteService {
 
     private final TipoLoteRepository tipoLoteRepository;
+    private final BusquedaTextoRepository busquedaTextoRepository;
 
-    public TipoLoteService(TipoLoteRepository repository) {
+    public TipoLoteService(TipoLoteRepository repository, BusquedaTextoRepository busquedaTextoRepository) {
         this.tipoLoteRepository = repository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
     }
 
     public List<TipoLote> listar(String busqueda) {
-        List<TipoLote> todos = tipoLoteRepository.findAll()
-                .stream()
-                .filter(tipo -> tipo.getFechaEliminacion() == null)
-                .collect(Collectors.toList());
-
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(t -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (t.getNombre() != null ? t.getNombre() : "") + " " +
-                                    (t.getDescripcion() != null ? t.getDescripcion() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+        // Filtro de activos y búsqueda sin acentos resueltos en la base (columna "busqueda")
+        return busquedaTextoRepository.buscar(TipoLote.class, busqueda, null, Pageable.unpaged(), null).getContent();
     }
 
     public List<TipoLote> listar() {
@@ -52,6 +40,22 @@ public class TipoLoteService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<TipoLote> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(TipoLote.class, busqueda, posicion, CursorUtil.limite(limite), null),
+                Function.identity(), TipoLote::getFechaCreacion, TipoLote::getTipoLoteId);
+    }
+
+    public CursorPageDTO<TipoLote> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                tipoLoteRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), TipoLote::getFechaCreacion, TipoLote::getTipoLoteId);
+    }
+
     public Optional<TipoLote> obtenerPorId(UUID id) {
         // ✨ Filtrar por fechaEliminacion
         return tipoLoteRepository.findById(id)
@@ -1,17 +1,20 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.UsuarioRolDTO;
 import com.inmobiliaria.inmobiliariabackend.model.UsuarioRol;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRolRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,29 +22,20 @@ public class UsuarioRolService {
 
     private final UsuarioRolRepository usuarioRolRepository;
     private final UsuarioRepository usuarioRepository; // ✨ Nuevo: Inyectar el repositorio de usuarios
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final CustomUserDetailsService userDetailsService;
 
-    public UsuarioRolService(UsuarioRolRepository repository, UsuarioRepository usuarioRepository) {
+    public UsuarioRolService(UsuarioRolRepository repository, UsuarioRepository usuarioRepository, BusquedaTextoRepository busquedaTextoRepository,
+                             CustomUserDetailsService userDetailsService) {
         this.usuarioRolRepository = repository;
         this.usuarioRepository = usuarioRepository;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.userDetailsService = userDetailsService;
     }
 
     public List<UsuarioRol> listar(String busqueda) {
-        List<UsuarioRol> todos = usuarioRolRepository.findAll()
-                .stream()
-                .filter(rol -> rol.getFechaEliminacion() == null)
-                .collect(Collectors.toList());
-
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(r -> {
-                    String contenido = TextUtil.limpiarAcentos(r.getNombre() != null ? r.getNombre() : "");
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+        // Filtro de activos y búsqueda sin acentos resueltos en la base (columna "busqueda")
+        return busquedaTextoRepository.buscar(UsuarioRol.class, busqueda, null, Pageable.unpaged(), null).getContent();
     }
 
     public List<UsuarioRol> listar() {
@@ -51,6 +45,22 @@ public class UsuarioRolService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<UsuarioRol> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(UsuarioRol.class, busqueda, posicion, CursorUtil.limite(limite), null),
+                Function.identity(), UsuarioRol::getFechaCreacion, UsuarioRol::getUsuarioRolId);
+    }
+
+    public CursorPageDTO<UsuarioRol> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                usuarioRolRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite)),
+                Function.identity(), UsuarioRol::getFechaCreacion, UsuarioRol::getUsuarioRolId);
+    }
+
     public Optional<UsuarioRol> obtenerPorId(UUID id) {
         return usuarioRolRepository.findById(id)
                 .filter(rol -> rol.getFechaEliminacion() == null);
@@ -70,7 +80,10 @@ public class UsuarioRolService {
                 .map(existente -> {
                     existente.setNombre(dto.getNombre());
                     // ✨ Eliminado: La lógica de 'activo' ya no es necesaria
-                    return usuarioRolRepository.save(existente);
+                    UsuarioRol guardado = usuarioRolRepository.save(existente);
+                    // El nombre del rol es la authority de los usuarios que lo tienen
+                    userDetailsService.invalidarTodo();
+                    return guardado;
                 }).orElse(null);
     }
 
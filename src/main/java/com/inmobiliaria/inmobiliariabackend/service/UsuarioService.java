@@ -1,21 +1,28 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.UsuarioDTO;
 import com.inmobiliaria.inmobiliariabackend.model.Usuario;
 import com.inmobiliaria.inmobiliariabackend.model.UsuarioRol;
+import com.inmobiliaria.inmobiliariabackend.repository.BusquedaTextoRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRepository;
 import com.inmobiliaria.inmobiliariabackend.repository.UsuarioRolRepository;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,9 +37,22 @@ public class UsuarioService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private BusquedaTextoRepository busquedaTextoRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
     private static final String ROL_PROPIETARIO = "PROPIETARIO";
 
     public List<Usuario> listar(String busqueda) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listar();
+
+        // Búsqueda por username en la base, con las mismas reglas de visibilidad que listar()
+        return busquedaTextoRepository.buscar(Usuario.class, busqueda, null, Pageable.unpaged(), filtroVisibilidad()).getContent();
+    }
+
+    public List<Usuario> listar() {
         // Obtener el usuario autenticado para aplicar las reglas de visibilidad
         String authenticatedUsername = SecurityContextHolder.getContext().getAuthentication().getName();
         Optional<Usuario> authenticatedUser = usuarioRepository.findByUsername(authenticatedUsername);
@@ -40,38 +60,35 @@ public class UsuarioService {
         boolean isPropietario = authenticatedUser.isPresent() && authenticatedUser.get().getRoles().stream()
                 .anyMatch(rol -> ROL_PROPIETARIO.equals(rol.getNombre()));
 
-        List<Usuario> todos = usuarioRepository.findAll()
+        return usuarioRepository.findAll()
                 .stream()
                 .filter(usuario -> usuario.getFechaEliminacion() == null)
                 .filter(usuario -> isPropietario || usuario.getRoles().stream().noneMatch(rol -> ROL_PROPIETARIO.equals(rol.getNombre())))
                 .collect(Collectors.toList());
+    }
 
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
+    public CursorPageDTO<Usuario> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
 
-        return todos.stream()
-                .filter(u -> {
-                    String contenido = TextUtil.limpiarAcentos(u.getUsername() != null ? u.getUsername() : "");
-                    return java.util.Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
-                .collect(Collectors.toList());
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                busquedaTextoRepository.buscar(Usuario.class, busqueda, posicion, CursorUtil.limite(limite), filtroVisibilidad()),
+                Function.identity(), Usuario::getFechaCreacion, Usuario::getUsuarioId);
     }
 
-    public List<Usuario> listar() {
-        // Obtener el usuario autenticado para aplicar las reglas de visibilidad
+    public CursorPageDTO<Usuario> listarPorCursor(String cursor, Integer limite) {
+        // Mismas reglas de visibilidad que listar(): solo el PROPIETARIO ve a otros propietarios
         String authenticatedUsername = SecurityContextHolder.getContext().getAuthentication().getName();
         Optional<Usuario> authenticatedUser = usuarioRepository.findByUsername(authenticatedUsername);
 
         boolean isPropietario = authenticatedUser.isPresent() && authenticatedUser.get().getRoles().stream()
                 .anyMatch(rol -> ROL_PROPIETARIO.equals(rol.getNombre()));
 
-        return usuarioRepository.findAll()
-                .stream()
-                .filter(usuario -> usuario.getFechaEliminacion() == null)
-                .filter(usuario -> isPropietario || usuario.getRoles().stream().noneMatch(rol -> ROL_PROPIETARIO.equals(rol.getNombre())))
-                .collect(Collectors.toList());
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        return CursorUtil.pagina(
+                usuarioRepository.buscarActivosDespuesDe(posicion.getFecha(), posicion.getId(),
+                        isPropietario, ROL_PROPIETARIO, CursorUtil.limite(limite)),
+                Function.identity(), Usuario::getFechaCreacion, Usuario::getUsuarioId);
     }
 
     public Optional<Usuario> obtenerPorId(UUID id) {
@@ -106,7 +123,9 @@ public class UsuarioService {
 
         nuevo.setRoles(roles);
 
-        return usuarioRepository.save(nuevo);
+        Usuario guardado = usuarioRepository.save(nuevo);
+        userDetailsService.invalidar(guardado.getUsername());
+        return guardado;
     }
 
     public Usuario actualizar(UUID id, UsuarioDTO dto) {
@@ -138,6 +157,7 @@ public class UsuarioService {
                         throw new IllegalArgumentException("El nombre de usuario '" + dto.getUsername() + "' ya está en uso por otro usuario.");
                     }
 
+                    String usernameAnterior = existente.getUsername();
                     existente.setUsername(dto.getUsername());
 
                     if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
@@ -156,7 +176,11 @@ public class UsuarioService {
                         existente.setActivo(dto.getActivo());
                     }
 
-                    return usuarioRepository.save(existente);
+                    Usuario guardado = usuarioRepository.save(existente);
+                    // Contraseña, roles o estado pudieron cambiar: la sesión JWT debe verlos en la próxima petición
+                    userDetailsService.invalidar(usernameAnterior);
+                    userDetailsService.invalidar(guardado.getUsername());
+                    return guardado;
                 }).orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado con ID: " + id));
     }
 
@@ -186,6 +210,26 @@ public class UsuarioService {
             usuario.setActivo(false);
             usuario.setFechaEliminacion(LocalDateTime.now());
             usuarioRepository.save(usuario);
+            userDetailsService.invalidar(usuario.getUsername());
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Solo el PROPIETARIO ve a otros propietarios: para el resto se excluyen los usuarios con ese rol.
+     */
+    private BusquedaTextoRepository.Filtro<Usuario> filtroVisibilidad() {
+        String authenticatedUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        boolean isPropietario = usuarioRepository.findByUsername(authenticatedUsername)
+                .map(usuario -> usuario.getRoles().stream().anyMatch(rol -> ROL_PROPIETARIO.equals(rol.getNombre())))
+                .orElse(false);
+        if (isPropietario) return null;
+
+        return (cb, root, query) -> {
+            Subquery<UUID> propietarios = query.subquery(UUID.class);
+            Root<Usuario> usuario = propietarios.from(Usuario.class);
+            Join<Usuario, UsuarioRol> rol = usuario.join("roles");
+            propietarios.select(usuario.get("usuarioId")).where(cb.equal(rol.get("nombre"), ROL_PROPIETARIO));
+            return cb.not(root.get("usuarioId").in(propietarios));
+        };
+    }
+}
@@ -1,84 +1,135 @@
 package com.inmobiliaria.inmobiliariabackend.service;
 
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.VentaRequestDTO;
 import com.inmobiliaria.inmobiliariabackend.dto.VentaResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResumenProjection;
 import com.inmobiliaria.inmobiliariabackend.model.*;
 import com.inmobiliaria.inmobiliariabackend.repository.*;
-import com.inmobiliaria.inmobiliariabackend.util.TextUtil;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import javax.transaction.Transactional;
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Arrays;
 
 @Service
 public class VentaService {
 
+    private static final String LOTE_NO_DISPONIBLE = "El lote ya no está disponible: está reservado o en una venta activa.";
+    private static final String LOTE_MODIFICADO = "El estado del lote cambió mientras se actualizaba la venta; vuelva a intentarlo.";
+
     private final VentaRepository ventaRepository;
     private final ClienteRepository clienteRepository;
     private final LoteRepository loteRepository;
-    private final EstadoVentaRepository estadoVentaRepository;
-    private final MonedaRepository monedaRepository;
     private final AbonoRepository abonoRepository;
-    private final EstadoLoteRepository estadoLoteRepository;
+    private final CatalogoRegistry catalogos;
+    private final BusquedaTextoRepository busquedaTextoRepository;
+    private final IndiceBusquedaService indiceBusqueda;
+    private final OutboxService outbox;
+    private final ContadoresProyectoService contadores;
 
     public VentaService(VentaRepository ventaRepository, ClienteRepository clienteRepository,
-                        LoteRepository loteRepository, EstadoVentaRepository estadoVentaRepository,
-                        MonedaRepository monedaRepository, AbonoRepository abonoRepository,
-                        EstadoLoteRepository estadoLoteRepository) {
+                        LoteRepository loteRepository, AbonoRepository abonoRepository,
+                        CatalogoRegistry catalogos, BusquedaTextoRepository busquedaTextoRepository,
+                        IndiceBusquedaService indiceBusqueda, OutboxService outbox,
+                        ContadoresProyectoService contadores) {
         this.ventaRepository = ventaRepository;
         this.clienteRepository = clienteRepository;
         this.loteRepository = loteRepository;
-        this.estadoVentaRepository = estadoVentaRepository;
-        this.monedaRepository = monedaRepository;
         this.abonoRepository = abonoRepository;
-        this.estadoLoteRepository = estadoLoteRepository;
+        this.catalogos = catalogos;
+        this.busquedaTextoRepository = busquedaTextoRepository;
+        this.indiceBusqueda = indiceBusqueda;
+        this.outbox = outbox;
+        this.contadores = contadores;
     }
 
-    // --- Métodos Auxiliares para IDs de Estado (Necesarios para la lógica) ---
+    // --- Métodos Auxiliares para IDs de Estado (se resuelven en memoria con CatalogoRegistry) ---
 
     private UUID obtenerIdEstadoVenta(String nombre) {
-        return estadoVentaRepository.findByNombre(nombre)
+        return catalogos.estadoVentaPorNombre(nombre)
                 .orElseThrow(() -> new IllegalStateException("Estado de venta '" + nombre + "' no encontrado."))
                 .getEstadoVentaId();
     }
 
-    private UUID obtenerIdEstadoLote(String nombre) {
-        return estadoLoteRepository.findByNombre(nombre)
-                .orElseThrow(() -> new IllegalStateException("Estado de lote '" + nombre + "' no encontrado."))
-                .getEstadoLoteId();
+    private EstadoLote estadoLote(String nombre) {
+        return catalogos.estadoLotePorNombre(nombre)
+                .orElseThrow(() -> new IllegalStateException("Estado de lote '" + nombre + "' no encontrado."));
     }
 
     // --- CRUD y Lógica de Negocio ---
 
     public List<VentaResponseDTO> listar() {
-        return ventaRepository.findByFechaEliminacionIsNull().stream()
-                .map(this::mapearVentaADto)
+        // Una sola consulta: joins + SUM(montoAbonado) agrupado por venta
+        return ventaRepository.listarResumenActivas().stream()
+                .map(this::mapearResumenADto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Recorre las ventas activas fila por fila (misma proyección que listar()) sin materializar la lista.
+     */
+    @Transactional
+    public void exportarActivas(Consumer<VentaResponseDTO> destino) {
+        try (Stream<VentaResumenProjection> filas = ventaRepository.streamResumenActivas()) {
+            filas.map(this::mapearResumenADto).forEach(destino);
+        }
+    }
+
     public List<VentaResponseDTO> listar(String busqueda) {
-        List<VentaResponseDTO> todos = listar();
-        if (busqueda == null || busqueda.trim().isEmpty()) return todos;
-
-        String busquedaLimpia = TextUtil.limpiarAcentos(busqueda);
-        String[] palabras = busquedaLimpia.split("\\s+");
-
-        return todos.stream()
-                .filter(v -> {
-                    String contenido = TextUtil.limpiarAcentos(
-                            (v.getClienteNombreCompleto() != null ? v.getClienteNombreCompleto() : "") + " " +
-                                    (v.getLoteNombre() != null ? v.getLoteNombre() : "") + " " +
-                                    (v.getProyectoNombre() != null ? v.getProyectoNombre() : "") + " " +
-                                    (v.getClienteNombreCompleto() != null ? v.getClienteNombreCompleto() : "") + " " +
-                                    (v.getEstadoVentaNombre() != null ? v.getEstadoVentaNombre() : "")
-                    );
-                    return Arrays.stream(palabras).allMatch(p -> contenido.contains(p));
-                })
+        if (busqueda == null || busqueda.trim().isEmpty()) return listar();
+
+        // La búsqueda se resuelve en la base (columna "busqueda" indexada) y luego se carga la proyección
+        return listarResumen(busquedaTextoRepository.buscar(Venta.class, busqueda, null, Pageable.unpaged(), null).getContent());
+    }
+
+    public CursorPageDTO<VentaResponseDTO> listarPorCursor(String busqueda, String cursor, Integer limite) {
+        if (busqueda == null || busqueda.trim().isEmpty()) return listarPorCursor(cursor, limite);
+
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        Slice<Venta> ventas = busquedaTextoRepository.buscar(Venta.class, busqueda, posicion, CursorUtil.limite(limite), null);
+        List<VentaResponseDTO> contenido = listarResumen(ventas.getContent());
+        String siguiente = null;
+        if (ventas.hasNext()) {
+            Venta ultima = ventas.getContent().get(ventas.getNumberOfElements() - 1);
+            siguiente = CursorUtil.codificar(ultima.getFechaCreacion(), ultima.getVentaId());
+        }
+        return new CursorPageDTO<>(contenido, siguiente, ventas.hasNext());
+    }
+
+    public CursorPageDTO<VentaResponseDTO> listarPorCursor(String cursor, Integer limite) {
+        CursorUtil.Cursor posicion = CursorUtil.decodificar(cursor);
+        Slice<VentaResumenProjection> slice = ventaRepository.listarResumenActivasDespuesDe(
+                posicion.getFecha(), posicion.getId(), CursorUtil.limite(limite));
+        return CursorUtil.pagina(slice, this::mapearResumenADto,
+                VentaResumenProjection::getFechaCreacion, VentaResumenProjection::getVentaId);
+    }
+
+    // Ventas activas → DTO con la misma proyección del listado (una consulta para todas)
+    public List<VentaResponseDTO> mapearADto(List<Venta> ventas) {
+        return listarResumen(ventas);
+    }
+
+    private List<VentaResponseDTO> listarResumen(List<Venta> ventas) {
+        if (ventas.isEmpty()) return Collections.emptyList();
+
+        List<UUID> ids = ventas.stream().map(Venta::getVentaId).collect(Collectors.toList());
+        return ventaRepository.listarResumenPorIds(ids).stream()
+                .map(this::mapearResumenADto)
                 .collect(Collectors.toList());
     }
 
@@ -88,108 +139,180 @@ public class VentaService {
                 .map(this::mapearVentaADto);
     }
 
+    /**
+     * Registra la venta reservando el lote sin bloquear la tabla:
+     * 1. UPDATE condicional Disponible → Reservado sobre la fila del lote: de varias ventas concurrentes
+     *    para el mismo lote solo una lo gana, las demás fallan al confirmar la primera.
+     * 2. El índice único sobre ventas.lote_vigente_id respalda la regla aunque el estado del lote
+     *    estuviera desalineado (p. ej. "Disponible" con una venta vigente).
+     *
+     * @throws IllegalStateException si el lote ya no está disponible (conflicto, 409)
+     */
     @Transactional
     public VentaResponseDTO crear(VentaRequestDTO dto) {
-        // 1. Validar que el lote no tenga una venta ACTIVA (excluyendo "Cancelada")
-
-        // 🟢 OBTENER ID DEL ESTADO "CANCELADA"
-        final UUID ESTADO_VENTA_CANCELADA_ID = obtenerIdEstadoVenta("Cancelada");
-
-        // 🟢 USAR LA NUEVA CONSULTA DEL REPOSITORIO
-        Optional<Venta> ventaExistenteActiva = ventaRepository.findByLoteLoteIdAndFechaEliminacionIsNullAndEstadoVenta_EstadoVentaIdIsNot(
-                dto.getLoteId(),
-                ESTADO_VENTA_CANCELADA_ID // Excluye ventas que estén en estado "Cancelada"
-        );
-
-        if (ventaExistenteActiva.isPresent()) {
-            throw new IllegalArgumentException("El lote ya se encuentra en una venta activa (No cancelada).");
-        }
-
-        // Si llegamos aquí, el lote está libre para una nueva venta.
-
         Venta nuevaVenta = mapearDtoAVenta(dto);
-
-        // 2. LÓGICA DE CAMBIO DE ESTADO DE LOTE A "Reservado"
         Lote lote = nuevaVenta.getLote();
-        EstadoLote estadoReservado = estadoLoteRepository.findByNombre("Reservado")
+
+        // 1. Reclamar el lote
+        EstadoLote estadoDisponible = catalogos.estadoLotePorNombre("Disponible")
+                .orElseThrow(() -> new EntityNotFoundException("El estado de lote 'Disponible' no existe en la base de datos."));
+        EstadoLote estadoReservado = catalogos.estadoLotePorNombre("Reservado")
                 .orElseThrow(() -> new EntityNotFoundException("El estado de lote 'Reservado' no existe en la base de datos."));
 
+        if (loteRepository.cambiarEstadoSi(lote.getLoteId(), estadoDisponible, estadoReservado, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException(LOTE_NO_DISPONIBLE);
+        }
+        // Mismo valor que ya tiene la fila; recalcula la columna de búsqueda del lote al hacer flush
         lote.setEstadoLote(estadoReservado);
-        loteRepository.save(lote);
-
-        // 3. Guardar la nueva venta
-        Venta ventaGuardada = ventaRepository.save(nuevaVenta);
 
-        return mapearVentaADto(ventaGuardada);
+        // 2. Guardar la nueva venta (flush aquí para traducir la violación del índice único)
+        Venta ventaGuardada;
+        try {
+            ventaGuardada = ventaRepository.saveAndFlush(nuevaVenta);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(LOTE_NO_DISPONIBLE);
+        }
+        // El UPDATE condicional garantiza que el lote pasó de Disponible a Reservado
+        contadores.registrar(List.of(ContadoresProyectoService.aporte(lote, estadoDisponible)),
+                List.of(ContadoresProyectoService.aporte(lote), ContadoresProyectoService.aporte(ventaGuardada)));
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, lote.getLoteId(), lote);
+        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.VENTA, ventaGuardada.getVentaId(), ventaGuardada);
+
+        // Eventos para el servicio de IA, en la misma transacción
+        VentaResponseDTO respuesta = mapearVentaADto(ventaGuardada);
+        outbox.registrar(EventoOutbox.TipoAgregado.VENTA, respuesta.getVentaId(), "CREADA", respuesta);
+        registrarCambioEstadoLote(lote);
+        return respuesta;
     }
 
+    /**
+     * Actualiza la venta manteniendo la regla de crear(): una venta vigente ocupa su lote.
+     * Si deja de estar vigente (cancelada) o cambia de lote, el lote anterior se libera; si pasa a estar vigente
+     * o toma otro lote, el nuevo se reclama con el mismo UPDATE condicional Disponible → Reservado.
+     * Todo en la misma transacción: si el reclamo falla no queda liberado el lote anterior.
+     *
+     * @throws IllegalStateException si el nuevo lote no está disponible o el estado del lote cambió entretanto (409)
+     */
     @Transactional
     public VentaResponseDTO actualizar(UUID id, VentaRequestDTO dto) {
-        final UUID ESTADO_VENTA_CANCELADA_ID = obtenerIdEstadoVenta("Cancelada");
-        final UUID ESTADO_LOTE_DISPONIBLE_ID = obtenerIdEstadoLote("Disponible");
-
         return ventaRepository.findById(id)
                 .map(ventaExistente -> {
-                    // Paso 1: Detección del cambio de estado a "Cancelada"
-                    boolean estadoCambiadoACancelada = ESTADO_VENTA_CANCELADA_ID.equals(dto.getEstadoVentaId()) &&
-                            !ESTADO_VENTA_CANCELADA_ID.equals(ventaExistente.getEstadoVenta().getEstadoVentaId());
-
-                    // Si el lote cambia, validar que el nuevo lote no tenga una venta activa
-                    if (!dto.getLoteId().equals(ventaExistente.getLote().getLoteId())) {
-                        Optional<Venta> ventaLoteNuevo = ventaRepository.findByLoteLoteIdAndFechaEliminacionIsNull(dto.getLoteId());
-                        if (ventaLoteNuevo.isPresent() && !ventaLoteNuevo.get().getVentaId().equals(id)) {
-                            // Asegura que no sea la misma venta que estamos editando
-                            throw new IllegalArgumentException("El nuevo lote ya se encuentra en una venta activa.");
-                        }
+                    Lote loteAnterior = ventaExistente.getLote();
+                    boolean eraVigente = ventaExistente.esVigente();
+                    List<ContadoresProyectoService.Aporte> aportesAntes = new ArrayList<>(List.of(
+                            ContadoresProyectoService.aporte(loteAnterior), ContadoresProyectoService.aporte(ventaExistente)));
+
+                    // Con fecha de contrato la venta queda Confirmada y su lote Vendido
+                    if (dto.getFechaContrato() != null) {
+                        dto.setEstadoVentaId(obtenerIdEstadoVenta("Confirmada"));
                     }
 
-                    // Paso 2: Ejecutar la lógica de cambio de estado del Lote si se cancela la Venta
-                    if (estadoCambiadoACancelada) {
-                        Lote loteAActualizar = ventaExistente.getLote();
-
-                        EstadoLote estadoDisponible = estadoLoteRepository.findById(ESTADO_LOTE_DISPONIBLE_ID)
-                                .orElseThrow(() -> new IllegalStateException("El estado de lote 'Disponible' no se encontró."));
-
-                        loteAActualizar.setEstadoLote(estadoDisponible);
-                        loteRepository.save(loteAActualizar);
-                    }
-
-                    if( dto.getFechaContrato() != null ) {
-                        Lote loteAActualizar = ventaExistente.getLote();
-
-                        EstadoLote estadoVendido = estadoLoteRepository.findByNombre("Vendido")
-                                .orElseThrow(() -> new IllegalStateException("El estado de lote 'Vendido' no se encontró."));
+                    Venta ventaActualizada = mapearDtoAVenta(dto, ventaExistente);
+                    Lote loteNuevo = ventaActualizada.getLote();
+                    boolean cambiaLote = !loteNuevo.getLoteId().equals(loteAnterior.getLoteId());
+                    boolean quedaVigente = ventaActualizada.esVigente();
+
+                    boolean liberaAnterior = eraVigente && (cambiaLote || !quedaVigente);
+                    boolean reclamaNuevo = quedaVigente && (cambiaLote || !eraVigente);
+                    boolean vende = false;
+                    Venta ventaGuardada;
+                    try {
+                        // Paso 1: liberar el lote anterior si la venta lo deja
+                        if (liberaAnterior) {
+                            cambiarEstadoLote(loteAnterior, loteAnterior.getEstadoLote(), estadoLote("Disponible"), LOTE_MODIFICADO);
+                        }
 
-                        EstadoVenta estadoConfirmada = estadoVentaRepository.findByNombre("Confirmada")
-                                .orElseThrow(() -> new IllegalStateException("El estado de venta 'Confirmada' no se encontró."));
+                        // Paso 2: reclamar el lote que la venta pasa a ocupar
+                        if (reclamaNuevo) {
+                            if (cambiaLote) aportesAntes.add(ContadoresProyectoService.aporte(loteNuevo, estadoLote("Disponible")));
+                            cambiarEstadoLote(loteNuevo, estadoLote("Disponible"), estadoLote("Reservado"), LOTE_NO_DISPONIBLE);
+                        }
 
-                        loteAActualizar.setEstadoLote(estadoVendido);
-                        loteRepository.save(loteAActualizar);
+                        // Paso 3: venta con contrato → lote Vendido
+                        if (quedaVigente && dto.getFechaContrato() != null && !"Vendido".equals(loteNuevo.getEstadoLote().getNombre())) {
+                            cambiarEstadoLote(loteNuevo, loteNuevo.getEstadoLote(), estadoLote("Vendido"), LOTE_MODIFICADO);
+                            vende = true;
+                        }
 
-                        ventaExistente.setEstadoVenta(estadoConfirmada);
-                        dto.setEstadoVentaId(estadoConfirmada.getEstadoVentaId());
+                        // Paso 4: guardar la venta (flush aquí: un cambio de lote concurrente con otra venta lo
+                        // detiene el índice único de lote vigente, también si Hibernate vacía la venta antes)
+                        ventaGuardada = ventaRepository.saveAndFlush(ventaActualizada);
+                    } catch (DataIntegrityViolationException e) {
+                        throw new IllegalStateException(LOTE_NO_DISPONIBLE);
+                    }
+                    List<ContadoresProyectoService.Aporte> aportesDespues = new ArrayList<>(List.of(
+                            ContadoresProyectoService.aporte(loteAnterior), ContadoresProyectoService.aporte(ventaGuardada)));
+                    if (cambiaLote && reclamaNuevo) aportesDespues.add(ContadoresProyectoService.aporte(loteNuevo));
+                    contadores.registrar(aportesAntes, aportesDespues);
+
+                    // El estado del lote y los nombres de la venta forman parte del índice de búsqueda
+                    indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.VENTA, id, ventaGuardada);
+                    indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, loteAnterior.getLoteId(), loteAnterior);
+                    if (cambiaLote) {
+                        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, loteNuevo.getLoteId(), loteNuevo);
                     }
 
-                    // Paso 3: Actualizar y guardar la Venta
-                    Venta ventaActualizada = mapearDtoAVenta(dto, ventaExistente);
-                    return mapearVentaADto(ventaRepository.save(ventaActualizada));
+                    VentaResponseDTO respuesta = mapearVentaADto(ventaGuardada);
+                    outbox.registrar(EventoOutbox.TipoAgregado.VENTA, id, "ACTUALIZADA", respuesta);
+                    if (liberaAnterior) registrarCambioEstadoLote(loteAnterior);
+                    if (reclamaNuevo || vende) registrarCambioEstadoLote(loteNuevo);
+                    return respuesta;
                 }).orElseThrow(() -> new IllegalArgumentException("Venta no encontrada con ID: " + id));
     }
 
+    /**
+     * Eliminación lógica. El lote solo se libera si la venta estaba vigente: una venta cancelada ya lo había
+     * soltado y el lote puede estar ocupado por otra.
+     *
+     * @throws IllegalStateException si el estado del lote cambió entretanto (409)
+     */
     @Transactional
     public void eliminar(UUID id) {
-        ventaRepository.findById(id).ifPresent(v -> {
-            v.setFechaEliminacion(LocalDateTime.now());
-            ventaRepository.save(v);
-
-            // Lógica de reversión de estado del Lote a "Disponible"
-            EstadoLote estadoDisponible = estadoLoteRepository.findByNombre("Disponible")
-                    .orElseThrow(() -> new EntityNotFoundException("El estado de lote 'Disponible' no existe en la base de datos."));
-
-            Lote lote = v.getLote();
-            lote.setEstadoLote(estadoDisponible);
-            loteRepository.save(lote);
-        });
+        ventaRepository.findById(id)
+                .filter(v -> v.getFechaEliminacion() == null)
+                .ifPresent(v -> {
+                    Lote lote = v.getLote();
+                    boolean eraVigente = v.esVigente();
+                    List<ContadoresProyectoService.Aporte> aportesAntes = List.of(
+                            ContadoresProyectoService.aporte(v), ContadoresProyectoService.aporte(lote));
+
+                    if (eraVigente) {
+                        cambiarEstadoLote(lote, lote.getEstadoLote(), estadoLote("Disponible"), LOTE_MODIFICADO);
+                    }
+                    v.setFechaEliminacion(LocalDateTime.now());
+                    ventaRepository.save(v);
+                    contadores.registrar(aportesAntes, List.of(
+                            ContadoresProyectoService.aporte(v), ContadoresProyectoService.aporte(lote)));
+
+                    indiceBusqueda.eliminar(IndiceBusquedaService.Tipo.VENTA, id);
+                    if (eraVigente) {
+                        indiceBusqueda.actualizar(IndiceBusquedaService.Tipo.LOTE, lote.getLoteId(), lote);
+                    }
+
+                    Map<String, Object> payload = new LinkedHashMap<>();
+                    payload.put("ventaId", id);
+                    payload.put("loteId", lote.getLoteId());
+                    payload.put("fechaEliminacion", v.getFechaEliminacion());
+                    outbox.registrar(EventoOutbox.TipoAgregado.VENTA, id, "ELIMINADA", payload);
+                    if (eraVigente) registrarCambioEstadoLote(lote);
+                });
+    }
+
+    // UPDATE condicional sobre la fila del lote; la entidad cargada se alinea con el nuevo valor
+    private void cambiarEstadoLote(Lote lote, EstadoLote esperado, EstadoLote nuevo, String mensajeConflicto) {
+        if (loteRepository.cambiarEstadoSi(lote.getLoteId(), esperado, nuevo, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException(mensajeConflicto);
+        }
+        lote.setEstadoLote(nuevo);
+    }
+
+    // El estado del lote lo cambia la venta: se publica como evento propio del lote
+    private void registrarCambioEstadoLote(Lote lote) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("loteId", lote.getLoteId());
+        payload.put("estadoLoteId", lote.getEstadoLote().getEstadoLoteId());
+        payload.put("estadoLoteNombre", lote.getEstadoLote().getNombre());
+        outbox.registrar(EventoOutbox.TipoAgregado.LOTE, lote.getLoteId(), "ESTADO_ACTUALIZADO", payload);
     }
 
     // --- Mapeadores ---
@@ -203,9 +326,9 @@ public class VentaService {
                 .orElseThrow(() -> new IllegalArgumentException("Cliente no encontrado"));
         Lote lote = loteRepository.findById(dto.getLoteId())
                 .orElseThrow(() -> new IllegalArgumentException("Lote no encontrado"));
-        EstadoVenta estadoVenta = estadoVentaRepository.findById(dto.getEstadoVentaId())
+        EstadoVenta estadoVenta = catalogos.estadoVentaPorId(dto.getEstadoVentaId())
                 .orElseThrow(() -> new IllegalArgumentException("Estado de Venta no encontrado"));
-        Moneda moneda = monedaRepository.findById(dto.getMonedaId())
+        Moneda moneda = catalogos.monedaPorId(dto.getMonedaId())
                 .orElseThrow(() -> new IllegalArgumentException("Moneda no encontrada"));
 
         venta.setCliente(cliente);
@@ -217,20 +340,59 @@ public class VentaService {
         venta.setNroCuotas(dto.getNroCuotas());
         venta.setMontoTotal(dto.getMontoTotal());
 
+        // Saldo persistido: una venta nueva arranca sin abonos; si cambia el monto total se recalcula el saldo
+        if (venta.getVentaId() == null) {
+            venta.setMontoAbonado(0.0);
+        }
+        if (venta.getMontoAbonado() != null) {
+            double montoTotal = venta.getMontoTotal() != null ? venta.getMontoTotal() : 0.0;
+            venta.setSaldoPendiente(montoTotal - venta.getMontoAbonado());
+        }
+
         return venta;
     }
 
-    // Método auxiliar para calcular el total abonado
-    private Double calcularTotalAbonado(UUID ventaId) {
-        return abonoRepository.findByVenta_VentaId(ventaId).stream()
-                .mapToDouble(Abono::getMontoAbonado)
-                .sum();
+    // Método auxiliar para obtener el total abonado: lee el saldo persistido y solo suma en BD
+    // para ventas que aún no fueron conciliadas
+    private Double calcularTotalAbonado(Venta venta) {
+        if (venta.getMontoAbonado() != null) {
+            return venta.getMontoAbonado();
+        }
+        return abonoRepository.sumarMontoAbonadoPorVenta(venta.getVentaId());
     }
 
 
+    private VentaResponseDTO mapearResumenADto(VentaResumenProjection r) {
+        Double montoAbonado = r.getMontoAbonado() != null ? r.getMontoAbonado() : 0.0;
+        Double montoTotal = r.getMontoTotal() != null ? r.getMontoTotal() : 0.0;
+
+        return new VentaResponseDTO(
+                r.getVentaId(),
+                r.getClienteId(),
+                r.getClientePrimerNombre() + " " + r.getClienteApellidoPaterno(),
+                r.getLoteId(),
+                r.getLoteNombre(),
+                r.getProyectoId(),
+                r.getProyectoNombre() != null ? r.getProyectoNombre() : "",
+                r.getEstadoVentaId(),
+                r.getEstadoVentaNombre(),
+                r.getMonedaId(),
+                r.getMonedaNombre(),
+
+                r.getFechaContrato(),
+                r.getNroCuotas(),
+                r.getMontoTotal(),
+
+                montoAbonado,
+                montoTotal - montoAbonado,
+
+                true // la consulta solo devuelve ventas activas
+        );
+    }
+
     private VentaResponseDTO mapearVentaADto(Venta venta) {
 
-        Double montoAbonado = calcularTotalAbonado(venta.getVentaId());
+        Double montoAbonado = calcularTotalAbonado(venta);
         Double montoTotal = venta.getMontoTotal() != null ? venta.getMontoTotal() : 0.0;
         Double saldoPendiente = montoTotal - montoAbonado;
         UUID proyectoId = venta.getLote().getProyecto() != null ? venta.getLote().getProyecto().getProyectoId() : null;
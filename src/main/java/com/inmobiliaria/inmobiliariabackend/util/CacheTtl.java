@@ -0,0 +1,71 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché en memoria con vencimiento por entrada y tamaño máximo.
+ * Al llenarse se descartan primero las entradas vencidas y, si no alcanza, se vacía completa:
+ * se usa para datos que se pueden volver a calcular (tokens verificados, usuarios cargados).
+ */
+public class CacheTtl<K, V> {
+
+    private final Map<K, Entrada<V>> entradas = new ConcurrentHashMap<>();
+    private final int maximo;
+    private final LongSupplier reloj;
+
+    public CacheTtl(int maximo) {
+        this(maximo, System::currentTimeMillis);
+    }
+
+    public CacheTtl(int maximo, LongSupplier reloj) {
+        this.maximo = maximo;
+        this.reloj = reloj;
+    }
+
+    public V obtener(K clave) {
+        Entrada<V> entrada = entradas.get(clave);
+        if (entrada == null) return null;
+        if (entrada.venceEn <= reloj.getAsLong()) {
+            entradas.remove(clave, entrada);
+            return null;
+        }
+        return entrada.valor;
+    }
+
+    /**
+     * Guarda el valor hasta el instante indicado (epoch en milisegundos).
+     */
+    public void guardar(K clave, V valor, long venceEn) {
+        long ahora = reloj.getAsLong();
+        if (venceEn <= ahora) return;
+        if (entradas.size() >= maximo) {
+            entradas.values().removeIf(e -> e.venceEn <= ahora);
+            if (entradas.size() >= maximo) entradas.clear();
+        }
+        entradas.put(clave, new Entrada<>(valor, venceEn));
+    }
+
+    public void invalidar(K clave) {
+        entradas.remove(clave);
+    }
+
+    public void invalidarTodo() {
+        entradas.clear();
+    }
+
+    public int tamanio() {
+        return entradas.size();
+    }
+
+    private static final class Entrada<V> {
+        private final V valor;
+        private final long venceEn;
+
+        private Entrada(V valor, long venceEn) {
+            this.valor = valor;
+            this.venceEn = venceEn;
+        }
+    }
+}
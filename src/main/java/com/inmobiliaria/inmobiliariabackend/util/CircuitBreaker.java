@@ -0,0 +1,72 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker mínimo para llamadas a servicios externos.
+ * CERRADO: deja pasar todo. Tras umbralFallos fallas consecutivas pasa a ABIERTO y rechaza sin llamar
+ * durante tiempoAbiertoMs; luego SEMIABIERTO deja pasar una sola llamada de prueba que lo cierra o lo reabre.
+ */
+public class CircuitBreaker {
+
+    public enum Estado { CERRADO, ABIERTO, SEMIABIERTO }
+
+    private final int umbralFallos;
+    private final long tiempoAbiertoMs;
+    private final LongSupplier reloj;
+
+    private Estado estado = Estado.CERRADO;
+    private int fallosConsecutivos;
+    private long abiertoDesdeMs;
+    private boolean pruebaEnCurso;
+
+    public CircuitBreaker(int umbralFallos, long tiempoAbiertoMs) {
+        this(umbralFallos, tiempoAbiertoMs, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int umbralFallos, long tiempoAbiertoMs, LongSupplier reloj) {
+        this.umbralFallos = umbralFallos;
+        this.tiempoAbiertoMs = tiempoAbiertoMs;
+        this.reloj = reloj;
+    }
+
+    /**
+     * @return true si se puede intentar la llamada; en ese caso debe informarse exito() o fallo() en todos
+     * los caminos (también ante excepciones inesperadas), o la prueba del estado SEMIABIERTO no se libera
+     */
+    public synchronized boolean permitir() {
+        if (estado == Estado.ABIERTO && reloj.getAsLong() - abiertoDesdeMs >= tiempoAbiertoMs) {
+            estado = Estado.SEMIABIERTO;
+            pruebaEnCurso = false;
+        }
+        switch (estado) {
+            case CERRADO:
+                return true;
+            case SEMIABIERTO:
+                if (pruebaEnCurso) return false;
+                pruebaEnCurso = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void exito() {
+        estado = Estado.CERRADO;
+        fallosConsecutivos = 0;
+        pruebaEnCurso = false;
+    }
+
+    public synchronized void fallo() {
+        fallosConsecutivos++;
+        if (estado == Estado.SEMIABIERTO || fallosConsecutivos >= umbralFallos) {
+            estado = Estado.ABIERTO;
+            abiertoDesdeMs = reloj.getAsLong();
+            pruebaEnCurso = false;
+        }
+    }
+
+    public synchronized Estado getEstado() {
+        return estado;
+    }
+}
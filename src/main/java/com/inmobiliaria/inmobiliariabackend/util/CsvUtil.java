@@ -0,0 +1,121 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CsvUtil {
+
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * Lee un CSV con cabecera y devuelve cada fila como columna → valor.
+     * El separador (',' o ';', el que exporta Excel en español) se toma de la cabecera. Admite campos entre
+     * comillas dobles con separadores, saltos de línea y comillas escapadas ("") en su interior.
+     * Los nombres de columna se normalizan con {@link TextUtil#limpiarAcentos}; los valores vacíos quedan en null.
+     */
+    public static List<Map<String, String>> leer(Reader reader) throws IOException {
+        List<List<String>> registros = registros(new BufferedReader(reader));
+        List<Map<String, String>> filas = new ArrayList<>();
+        if (registros.isEmpty()) return filas;
+
+        List<String> cabecera = new ArrayList<>();
+        for (String columna : registros.get(0)) {
+            cabecera.add(TextUtil.limpiarAcentos(columna));
+        }
+        for (int i = 1; i < registros.size(); i++) {
+            List<String> registro = registros.get(i);
+            Map<String, String> fila = new HashMap<>();
+            for (int c = 0; c < cabecera.size() && c < registro.size(); c++) {
+                String valor = registro.get(c).trim();
+                fila.put(cabecera.get(c), valor.isEmpty() ? null : valor);
+            }
+            filas.add(fila);
+        }
+        return filas;
+    }
+
+    /**
+     * Valor numérico de una columna; admite la coma decimal con la que exporta Excel en español ("1500,50").
+     * @throws IllegalArgumentException si el valor no es numérico
+     */
+    public static Double numero(String valor, String columna) {
+        if (valor == null) return null;
+        String normalizado = valor.indexOf('.') < 0 ? valor.replace(',', '.') : valor.replace(",", "");
+        try {
+            return Double.valueOf(normalizado);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor no numérico en la columna '" + columna + "': " + valor);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException si el valor no es un UUID
+     */
+    public static UUID uuid(String valor, String columna) {
+        if (valor == null) return null;
+        try {
+            return UUID.fromString(valor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(columna + " no es un UUID válido: " + valor);
+        }
+    }
+
+    private static List<List<String>> registros(BufferedReader in) throws IOException {
+        List<List<String>> registros = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        char separador = 0;
+
+        in.mark(1);
+        if (in.read() != BOM) in.reset();
+
+        int c;
+        while ((c = in.read()) != -1) {
+            char ch = (char) c;
+            if (entreComillas) {
+                if (ch != '"') {
+                    campo.append(ch);
+                    continue;
+                }
+                in.mark(1);
+                if (in.read() == '"') {
+                    campo.append('"');
+                } else {
+                    entreComillas = false;
+                    in.reset();
+                }
+            } else if (ch == '"') {
+                entreComillas = true;
+            } else if (separador == 0 && registros.isEmpty() && (ch == ',' || ch == ';')) {
+                separador = ch;
+                actual.add(campo.toString());
+                campo.setLength(0);
+            } else if (ch == separador) {
+                actual.add(campo.toString());
+                campo.setLength(0);
+            } else if (ch == '\n') {
+                cerrarRegistro(registros, actual, campo);
+                actual = new ArrayList<>();
+            } else if (ch != '\r') {
+                campo.append(ch);
+            }
+        }
+        cerrarRegistro(registros, actual, campo);
+        return registros;
+    }
+
+    private static void cerrarRegistro(List<List<String>> registros, List<String> actual, StringBuilder campo) {
+        // Líneas en blanco (incluida la última del archivo) no cuentan como fila
+        if (actual.isEmpty() && campo.toString().trim().isEmpty()) return;
+        actual.add(campo.toString());
+        campo.setLength(0);
+        registros.add(actual);
+    }
+}
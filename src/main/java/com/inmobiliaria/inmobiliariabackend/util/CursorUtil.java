@@ -0,0 +1,91 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Utilidades de paginación por cursor. El cursor es la posición (fechaCreacion, id) de la última fila
+ * entregada, codificada en Base64 URL-safe para que el cliente la trate como un valor opaco.
+ * <p>
+ * Los endpoints de listado responden con una página por cursor cuando reciben {@code cursor} o
+ * {@code limit}; sin ellos mantienen el listado completo de siempre. La página se lee como {@link Slice}
+ * (sin COUNT de la tabla) y el cursor siguiente sale de la última fila entregada.
+ */
+public class CursorUtil {
+
+    public static final int LIMITE_POR_DEFECTO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    // Posición anterior a cualquier fila: se usa cuando no se envía cursor (primera página)
+    private static final LocalDateTime FECHA_INICIAL = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID ID_INICIAL = new UUID(0L, 0L);
+
+    private static final String SEPARADOR = "|";
+
+    public static class Cursor {
+        private final LocalDateTime fecha;
+        private final UUID id;
+
+        public Cursor(LocalDateTime fecha, UUID id) {
+            this.fecha = fecha;
+            this.id = id;
+        }
+
+        public LocalDateTime getFecha() { return fecha; }
+        public UUID getId() { return id; }
+    }
+
+    public static Cursor decodificar(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return new Cursor(FECHA_INICIAL, ID_INICIAL);
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new Cursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido.");
+        }
+    }
+
+    public static String codificar(LocalDateTime fecha, UUID id) {
+        String valor = fecha + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Pageable limite(Integer limite) {
+        int tamano = limite == null ? LIMITE_POR_DEFECTO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+        return PageRequest.of(0, tamano);
+    }
+
+    /**
+     * Convierte un Slice de filas en una página por cursor, tomando la posición de la última fila.
+     */
+    public static <E, D> CursorPageDTO<D> pagina(Slice<E> slice,
+                                                 Function<E, D> mapper,
+                                                 Function<E, LocalDateTime> fecha,
+                                                 Function<E, UUID> id) {
+        List<E> filas = slice.getContent();
+        List<D> contenido = filas.stream().map(mapper).collect(Collectors.toList());
+
+        String siguiente = null;
+        if (slice.hasNext() && !filas.isEmpty()) {
+            E ultima = filas.get(filas.size() - 1);
+            siguiente = codificar(fecha.apply(ultima), id.apply(ultima));
+        }
+        return new CursorPageDTO<>(contenido, siguiente, slice.hasNext());
+    }
+}
@@ -0,0 +1,83 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Escribe filas JSON a medida que llegan, sin armar la lista completa en memoria.
+ * NDJSON: un objeto por línea. ARREGLO: un único arreglo JSON (compatible con los listados normales).
+ * La salida es compacta aunque la aplicación tenga indent_output activo.
+ *
+ * El arreglo se cierra solo con terminar(), al completar la exportación: si se corta antes, close() deja el
+ * JSON abierto (inválido) para que el cliente note que está incompleto en lugar de recibir un arreglo truncado.
+ */
+public class EscritorJsonStream implements Consumer<Object>, Closeable {
+
+    public enum Formato {
+        NDJSON("application/x-ndjson"),
+        ARREGLO("application/json");
+
+        private final String contentType;
+
+        Formato(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Formato desde(String valor) {
+            if (valor == null || valor.isBlank() || valor.equalsIgnoreCase("ndjson")) return NDJSON;
+            if (valor.equalsIgnoreCase("json")) return ARREGLO;
+            throw new IllegalArgumentException("Formato no soportado: " + valor + " (use ndjson o json)");
+        }
+    }
+
+    private final JsonGenerator generador;
+    private final ObjectWriter writer;
+    private final Formato formato;
+
+    public EscritorJsonStream(ObjectMapper objectMapper, OutputStream salida, Formato formato) throws IOException {
+        this.formato = formato;
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generador = objectMapper.getFactory().createGenerator(salida);
+        this.generador.setRootValueSeparator(null);
+        // Sin esto, close() cerraría el arreglo abierto aunque la exportación haya fallado
+        this.generador.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        if (formato == Formato.ARREGLO) generador.writeStartArray();
+    }
+
+    @Override
+    public void accept(Object fila) {
+        try {
+            writer.writeValue(generador, fila);
+            if (formato == Formato.NDJSON) generador.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fin normal de la exportación: cierra el arreglo (ARREGLO) y vacía la salida.
+     */
+    public void terminar() throws IOException {
+        if (formato == Formato.ARREGLO) generador.writeEndArray();
+        generador.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generador.close();
+    }
+}
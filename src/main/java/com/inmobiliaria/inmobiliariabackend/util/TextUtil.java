@@ -1,14 +1,81 @@
 package com.inmobiliaria.inmobiliariabackend.util;
 
 import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 public class TextUtil {
 
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}");
+
+    // Tabla de plegado para U+0000..U+20FF (latín, griego, cirílico, puntuación general): carácter sin acento
+    // y en minúscula. Se calcula con la implementación de referencia, así ambas coinciden por construcción.
+    // Quedan fuera (SIN_MAPEO) las marcas combinantes, lo que se descompone en varios caracteres y la sigma
+    // mayúscula, cuya minúscula depende del contexto (σ / ς).
+    private static final int LIMITE_TABLA = 0x2100;
+    private static final char SIGMA_MAYUSCULA = '\u03A3';
+    private static final char SIN_MAPEO = '\uFFFF';
+    private static final char[] TABLA = new char[LIMITE_TABLA];
+    private static final Locale LOCALE_TABLA = Locale.getDefault();
+
+    static {
+        for (int c = 0; c < LIMITE_TABLA; c++) {
+            String plegado = plegarReferencia(String.valueOf((char) c));
+            TABLA[c] = plegado.length() == 1 && c != SIGMA_MAYUSCULA ? plegado.charAt(0) : SIN_MAPEO;
+        }
+    }
+
+    /**
+     * Quita acentos, pasa a minúsculas y recorta espacios.
+     * Texto latino/español se procesa en una sola pasada con la tabla; cualquier carácter fuera de ella
+     * (o un cambio del Locale por defecto) usa la implementación con Normalizer.
+     */
     public static String limpiarAcentos(String texto) {
         if (texto == null) return null;
-        return Normalizer.normalize(texto, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}", "")
-                .toLowerCase()
-                .trim();
+        if (!LOCALE_TABLA.equals(Locale.getDefault())) return limpiarAcentosReferencia(texto);
+
+        int largo = texto.length();
+        int i = 0;
+        // Camino rápido: ASCII que ya está en minúsculas no requiere copia
+        for (; i < largo; i++) {
+            char c = texto.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) break;
+        }
+        if (i == largo) return recortar(texto);
+
+        char[] buffer = new char[largo];
+        texto.getChars(0, i, buffer, 0);
+        for (; i < largo; i++) {
+            char c = texto.charAt(i);
+            char plegado = c < LIMITE_TABLA ? TABLA[c] : SIN_MAPEO;
+            if (plegado == SIN_MAPEO) return limpiarAcentosReferencia(texto);
+            buffer[i] = plegado;
+        }
+
+        int inicio = 0;
+        int fin = largo;
+        while (inicio < fin && buffer[inicio] <= ' ') inicio++;
+        while (fin > inicio && buffer[fin - 1] <= ' ') fin--;
+        return new String(buffer, inicio, fin - inicio);
+    }
+
+    /**
+     * Implementación original: NFD, quitar marcas (\p{M}), minúsculas y trim.
+     */
+    static String limpiarAcentosReferencia(String texto) {
+        if (texto == null) return null;
+        return plegarReferencia(texto).trim();
+    }
+
+    private static String plegarReferencia(String texto) {
+        return MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase();
+    }
+
+    private static String recortar(String texto) {
+        int largo = texto.length();
+        if (largo == 0 || (texto.charAt(0) > ' ' && texto.charAt(largo - 1) > ' ')) return texto;
+        return texto.trim();
     }
-}
\ No newline at end of file
+}
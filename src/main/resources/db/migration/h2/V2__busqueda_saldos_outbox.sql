@@ -0,0 +1,24 @@
+-- Equivalente H2 de postgresql/V2 (pruebas, base vacía: sin backfill).
+
+ALTER TABLE catalogo.estados_lote ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE catalogo.tipos_documento ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE catalogo.tipos_lote ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE core.usuarios ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE core.usuarios_rol ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE crm.clientes ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.estados_venta ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.lotes ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS monto_abonado double;
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS saldo_pendiente double;
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS core.outbox_eventos (evento_id bigint generated by default as identity, agregado_id uuid not null, fecha_creacion timestamp not null, fecha_descarte timestamp, fecha_envio timestamp, intentos integer not null, payload varchar(10000) not null, tipo_agregado varchar(20) not null, tipo_evento varchar(40) not null, ultimo_error varchar(1000), primary key (evento_id));
+CREATE INDEX IF NOT EXISTS core.idx_outbox_eventos_pendientes ON core.outbox_eventos (fecha_envio, fecha_descarte, evento_id);
+
+CREATE INDEX IF NOT EXISTS ventas.idx_lotes_cambios ON ventas.lotes (fecha_modificacion, lote_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_proyectos_cambios ON ventas.proyectos (fecha_modificacion, proyecto_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_ventas_cambios ON ventas.ventas (fecha_modificacion, venta_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_ventas_fecha_creacion ON ventas.ventas (fecha_creacion);
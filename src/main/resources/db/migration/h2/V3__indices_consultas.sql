@@ -0,0 +1,19 @@
+-- Equivalente H2 de postgresql/V3 (pruebas). H2 no admite índices parciales, funcionales ni INCLUDE:
+-- se crean las mismas columnas sin filtro y se omite el índice sobre LOWER(TRIM(nombre)).
+
+DROP INDEX IF EXISTS ventas.idx_lotes_fecha_eliminacion;
+CREATE INDEX IF NOT EXISTS ventas.idx_lotes_activos_creacion ON ventas.lotes (fecha_creacion, lote_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_lotes_activos_proyecto_estado ON ventas.lotes (proyecto_id, estado_lote_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_lotes_activos_estado ON ventas.lotes (estado_lote_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_lotes_proyecto_nombre ON ventas.lotes (proyecto_id, nombre);
+
+DROP INDEX IF EXISTS ventas.idx_ventas_fecha_eliminacion;
+CREATE INDEX IF NOT EXISTS ventas.idx_ventas_activas_creacion ON ventas.ventas (fecha_creacion, venta_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_ventas_activas_lote ON ventas.ventas (lote_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_ventas_activas_cliente ON ventas.ventas (cliente_id);
+
+CREATE INDEX IF NOT EXISTS ventas.idx_abonos_venta ON ventas.abonos (venta_id, monto_abonado);
+
+DROP INDEX IF EXISTS ventas.idx_proyectos_fecha_eliminacion;
+CREATE INDEX IF NOT EXISTS ventas.idx_proyectos_activos_creacion ON ventas.proyectos (fecha_creacion, proyecto_id);
+CREATE INDEX IF NOT EXISTS ventas.idx_proyectos_nombre ON ventas.proyectos (nombre);
@@ -0,0 +1,5 @@
+-- Equivalente H2 de postgresql/V4 (pruebas, base vacía: sin backfill). El índice único de H2 admite
+-- varios NULL, así que se comporta como el índice parcial de PostgreSQL.
+
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS lote_vigente_id uuid;
+CREATE UNIQUE INDEX IF NOT EXISTS ventas.uk_ventas_lote_vigente ON ventas.ventas (lote_vigente_id);
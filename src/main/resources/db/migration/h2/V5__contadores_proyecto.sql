@@ -0,0 +1,7 @@
+-- Equivalente H2 de postgresql/V5 (pruebas, base vacía: sin backfill).
+
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS total_lotes bigint DEFAULT 0 NOT NULL;
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS lotes_disponibles bigint DEFAULT 0 NOT NULL;
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS lotes_reservados bigint DEFAULT 0 NOT NULL;
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS lotes_vendidos bigint DEFAULT 0 NOT NULL;
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS monto_vendido double DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- Equivalente H2 de postgresql/V6 (mismas sentencias).
+
+UPDATE ventas.ventas SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
+UPDATE ventas.lotes SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
+UPDATE ventas.proyectos SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
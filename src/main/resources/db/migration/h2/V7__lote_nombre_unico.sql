@@ -0,0 +1,7 @@
+-- Equivalente H2 de postgresql/V7 (pruebas, base vacía: sin corrección de repetidos). H2 no admite índices
+-- parciales: una columna calculada vale el nombre solo mientras el lote está activo y, como el índice único
+-- admite varios NULL, los eliminados no chocan entre sí ni con el activo.
+
+ALTER TABLE ventas.lotes ADD COLUMN IF NOT EXISTS nombre_activo varchar(100)
+    AS CASE WHEN fecha_eliminacion IS NULL THEN nombre END;
+CREATE UNIQUE INDEX IF NOT EXISTS ventas.uk_lotes_proyecto_nombre_activo ON ventas.lotes (proyecto_id, nombre_activo);
@@ -0,0 +1,3 @@
+-- Equivalente H2 de postgresql/V8: sin pg_trgm no hay índice que crear, y en H2 no hay filas anteriores a la
+-- columna "busqueda" que completar (las bases se crean desde V1 y las filas se insertan con las entidades).
+SELECT 1;
@@ -0,0 +1,39 @@
+-- Esquema inicial: el que generaba Hibernate con ddl-auto=update antes de usar Flyway (nombres de restricciones
+-- incluidos). Las bases creadas así se toman como esta versión (baseline-on-migrate) y solo aplican las
+-- siguientes, así que aquí no va nada que no existiera entonces: columnas, tablas e índices nuevos van en V2+.
+
+-- Tablas
+create table catalogo.departamentos (departamento_id uuid not null, activo boolean not null, descripcion varchar(255), nombre varchar(255), primary key (departamento_id));
+create table catalogo.distritos (distrito_id uuid not null, activo boolean not null, descripcion varchar(255), nombre varchar(255), provincia_id uuid not null, primary key (distrito_id));
+create table catalogo.estados_lote (estado_lote_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(255), nombre varchar(255), primary key (estado_lote_id));
+create table catalogo.monedas (moneda_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(255), nombre varchar(255), simbolo varchar(255), primary key (moneda_id));
+create table catalogo.provincias (provincia_id uuid not null, activo boolean not null, descripcion varchar(255), nombre varchar(255), departamento_id uuid not null, primary key (provincia_id));
+create table catalogo.tipos_documento (tipo_documento_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(255), nombre varchar(255), primary key (tipo_documento_id));
+create table catalogo.tipos_lote (tipo_lote_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(255), nombre varchar(255), primary key (tipo_lote_id));
+create table core.usuario_roles (usuario_id uuid not null, usuario_rol_id uuid not null, primary key (usuario_id, usuario_rol_id));
+create table core.usuarios (usuario_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, activo boolean not null, password varchar(255) not null, username varchar(100) not null, primary key (usuario_id));
+create table core.usuarios_rol (usuario_rol_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, nombre varchar(50) not null, primary key (usuario_rol_id));
+create table crm.clientes (cliente_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, apellido_materno varchar(50), apellido_paterno varchar(50), correo varchar(100), ingresos_mensuales float8, numero_documento varchar(20), primer_nombre varchar(50), segundo_nombre varchar(50), telefono varchar(20), tipo_documento_id uuid not null, primary key (cliente_id));
+create table ventas.abonos (abono_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, fecha_abono timestamp not null, monto_abonado float8 not null, venta_id uuid not null, primary key (abono_id));
+create table ventas.estados_venta (estado_venta_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(255), nombre varchar(100), primary key (estado_venta_id));
+create table ventas.lotes (lote_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, area float8 not null, descripcion varchar(255), direccion varchar(200), nombre varchar(100), precio float8 not null, estado_lote_id uuid not null, proyecto_id uuid not null, primary key (lote_id));
+create table ventas.proyectos (proyecto_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, descripcion varchar(500), nombre varchar(150), distrito_id uuid not null, primary key (proyecto_id));
+create table ventas.ventas (venta_id uuid not null, fecha_creacion timestamp not null, fecha_eliminacion timestamp, fecha_modificacion timestamp, fecha_contrato date, monto_total float8, nro_cuotas int4, cliente_id uuid not null, estado_venta_id uuid not null, lote_id uuid not null, moneda_id uuid not null, primary key (venta_id));
+
+-- Restricciones únicas
+alter table if exists core.usuarios add constraint UK_m2dvbwfge291euvmk6vkkocao unique (username);
+
+-- Claves foráneas
+alter table if exists catalogo.distritos add constraint FKaku36qpxq4q9qld0o340lxvgq foreign key (provincia_id) references catalogo.provincias;
+alter table if exists catalogo.provincias add constraint FKki8gpxckosk8k3kgobe3wjrtd foreign key (departamento_id) references catalogo.departamentos;
+alter table if exists core.usuario_roles add constraint FKdd5bd0742px31hb2a5v16r1gh foreign key (usuario_rol_id) references core.usuarios_rol;
+alter table if exists core.usuario_roles add constraint FKuu9tea04xb29m2km5lwe46ua foreign key (usuario_id) references core.usuarios;
+alter table if exists crm.clientes add constraint FK7kip9sonhtidtyvk9vw33ng0x foreign key (tipo_documento_id) references catalogo.tipos_documento;
+alter table if exists ventas.abonos add constraint FKdo29o7fxsccxafcualscn1ida foreign key (venta_id) references ventas.ventas;
+alter table if exists ventas.lotes add constraint FKr821bkau9apdxebv352ppllws foreign key (estado_lote_id) references catalogo.estados_lote;
+alter table if exists ventas.lotes add constraint FK1hqf0bqyj6hcc0dujdudgar4m foreign key (proyecto_id) references ventas.proyectos;
+alter table if exists ventas.proyectos add constraint FK4qr1ad5oc1dyq78nrnr3dqdbq foreign key (distrito_id) references catalogo.distritos;
+alter table if exists ventas.ventas add constraint FK4dgjhccl2uuo8swmxlxb4ipb5 foreign key (cliente_id) references crm.clientes;
+alter table if exists ventas.ventas add constraint FKo6p20m3wwik7mytije3pcrsc foreign key (estado_venta_id) references ventas.estados_venta;
+alter table if exists ventas.ventas add constraint FKj9yhod257e0wi5bmp5j9y63in foreign key (lote_id) references ventas.lotes;
+alter table if exists ventas.ventas add constraint FKqxsw9yvg7tsitub6d8fs4p58n foreign key (moneda_id) references catalogo.monedas;
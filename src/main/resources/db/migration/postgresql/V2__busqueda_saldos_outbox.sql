@@ -0,0 +1,54 @@
+-- Columnas, tabla e índices que las entidades agregaron sobre el esquema de V1 (búsqueda normalizada, saldo
+-- persistido de la venta, outbox y feed de cambios). En las bases tomadas como V1 es lo que falta para que
+-- Hibernate valide el esquema (ddl-auto=validate).
+
+-- Texto de búsqueda normalizado. BusquedaIndicesInitializer completa al arrancar las filas que quedan en NULL
+ALTER TABLE catalogo.estados_lote ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE catalogo.tipos_documento ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE catalogo.tipos_lote ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE core.usuarios ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE core.usuarios_rol ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE crm.clientes ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.estados_venta ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.lotes ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.proyectos ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS busqueda varchar(1000);
+
+-- Saldo persistido de la venta y versión para el bloqueo optimista
+ALTER TABLE ventas.ventas
+    ADD COLUMN IF NOT EXISTS monto_abonado float8,
+    ADD COLUMN IF NOT EXISTS saldo_pendiente float8,
+    ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+UPDATE ventas.ventas v
+SET monto_abonado = s.abonado,
+    saldo_pendiente = COALESCE(v.monto_total, 0) - s.abonado
+FROM (
+    SELECT x.venta_id, COALESCE(SUM(a.monto_abonado), 0) AS abonado
+    FROM ventas.ventas x
+    LEFT JOIN ventas.abonos a ON a.venta_id = x.venta_id
+    GROUP BY x.venta_id
+) s
+WHERE s.venta_id = v.venta_id AND v.monto_abonado IS NULL;
+
+-- Outbox de eventos hacia el servicio de IA
+CREATE TABLE IF NOT EXISTS core.outbox_eventos (
+    evento_id int8 GENERATED BY DEFAULT AS IDENTITY,
+    agregado_id uuid NOT NULL,
+    fecha_creacion timestamp NOT NULL,
+    fecha_descarte timestamp,
+    fecha_envio timestamp,
+    intentos int4 NOT NULL,
+    payload varchar(10000) NOT NULL,
+    tipo_agregado varchar(20) NOT NULL,
+    tipo_evento varchar(40) NOT NULL,
+    ultimo_error varchar(1000),
+    PRIMARY KEY (evento_id)
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_pendientes ON core.outbox_eventos (fecha_envio, fecha_descarte, evento_id);
+
+-- /api/ia/cambios (orden fecha_modificacion, id) y métricas del reporte mensual (fecha_creacion)
+CREATE INDEX IF NOT EXISTS idx_lotes_cambios ON ventas.lotes (fecha_modificacion, lote_id);
+CREATE INDEX IF NOT EXISTS idx_proyectos_cambios ON ventas.proyectos (fecha_modificacion, proyecto_id);
+CREATE INDEX IF NOT EXISTS idx_ventas_cambios ON ventas.ventas (fecha_modificacion, venta_id);
+CREATE INDEX IF NOT EXISTS idx_ventas_fecha_creacion ON ventas.ventas (fecha_creacion);
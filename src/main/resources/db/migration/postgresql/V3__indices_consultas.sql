@@ -0,0 +1,64 @@
+-- Índices con la forma de las consultas de LoteRepository, VentaRepository, AbonoRepository y ProyectoRepository.
+-- Casi todas filtran "fecha_eliminacion IS NULL": los índices parciales solo contienen las filas activas y
+-- reemplazan a los índices completos sobre fecha_eliminacion, que no sirven para ese filtro.
+-- ConsultasIndicesPlanTest comprueba el plan de cada consulta contra PostgreSQL.
+
+-- Lotes ---------------------------------------------------------------------------------------------------
+
+DROP INDEX IF EXISTS ventas.idx_lotes_fecha_eliminacion;
+
+-- findByFechaEliminacionIsNull (lista y página), streamActivos, buscarActivosDespuesDe (orden del cursor)
+CREATE INDEX IF NOT EXISTS idx_lotes_activos_creacion
+    ON ventas.lotes (fecha_creacion, lote_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByProyectoProyectoIdAndFechaEliminacionIsNull, ...EstadoLote_NombreAndProyecto_ProyectoId,
+-- nombresActivosPorProyecto y los conteos de lotes por proyecto de ProyectoRepository
+CREATE INDEX IF NOT EXISTS idx_lotes_activos_proyecto_estado
+    ON ventas.lotes (proyecto_id, estado_lote_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByEstadoLoteNombreIgnoreCaseAndFechaEliminacionIsNull, findByFechaEliminacionIsNullAndEstadoLote_Nombre
+CREATE INDEX IF NOT EXISTS idx_lotes_activos_estado
+    ON ventas.lotes (estado_lote_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByNombreAndProyecto (unicidad del nombre; incluye eliminados, el servicio los descarta)
+CREATE INDEX IF NOT EXISTS idx_lotes_proyecto_nombre
+    ON ventas.lotes (proyecto_id, nombre);
+
+-- Ventas --------------------------------------------------------------------------------------------------
+
+DROP INDEX IF EXISTS ventas.idx_ventas_fecha_eliminacion;
+
+-- findByFechaEliminacionIsNull, listarResumenActivas, listarResumenActivasDespuesDe, streamResumenActivas
+CREATE INDEX IF NOT EXISTS idx_ventas_activas_creacion
+    ON ventas.ventas (fecha_creacion, venta_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByLoteLoteIdAndFechaEliminacionIsNull(...AndEstadoVenta_EstadoVentaIdIsNot), findByLoteLoteIdIn...
+CREATE INDEX IF NOT EXISTS idx_ventas_activas_lote
+    ON ventas.ventas (lote_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByClienteClienteIdAndFechaEliminacionIsNull
+CREATE INDEX IF NOT EXISTS idx_ventas_activas_cliente
+    ON ventas.ventas (cliente_id) WHERE fecha_eliminacion IS NULL;
+
+-- Abonos --------------------------------------------------------------------------------------------------
+
+-- findByVenta_VentaId, sumarMontoAbonadoPorVenta(s) y la subconsulta de saldo del listado de ventas.
+-- monto_abonado incluido: las sumas se resuelven solo con el índice
+CREATE INDEX IF NOT EXISTS idx_abonos_venta
+    ON ventas.abonos (venta_id) INCLUDE (monto_abonado);
+
+-- Proyectos -----------------------------------------------------------------------------------------------
+
+DROP INDEX IF EXISTS ventas.idx_proyectos_fecha_eliminacion;
+
+-- findByFechaEliminacionIsNull, findProyectosActivosWithLoteCount, buscarActivosDespuesDe
+CREATE INDEX IF NOT EXISTS idx_proyectos_activos_creacion
+    ON ventas.proyectos (fecha_creacion, proyecto_id) WHERE fecha_eliminacion IS NULL;
+
+-- findByNombre, findByNombreAndFechaEliminacionIsNull
+CREATE INDEX IF NOT EXISTS idx_proyectos_nombre
+    ON ventas.proyectos (nombre);
+
+-- findByNombreNormalizadoAndFechaEliminacionIsNull: LOWER(TRIM(nombre)) = LOWER(TRIM(:nombre))
+CREATE INDEX IF NOT EXISTS idx_proyectos_activos_nombre_normalizado
+    ON ventas.proyectos (lower(trim(nombre))) WHERE fecha_eliminacion IS NULL;
@@ -0,0 +1,20 @@
+-- Una sola venta vigente (no cancelada ni eliminada) por lote.
+-- Los IDs de estado se generan al sembrar, así que el predicado no puede nombrar "Cancelada": la entidad Venta
+-- mantiene lote_vigente_id (lote_id mientras está vigente, NULL si no) y el índice único se apoya en esa columna.
+
+ALTER TABLE ventas.ventas ADD COLUMN IF NOT EXISTS lote_vigente_id uuid;
+
+-- Ventas existentes: si algún lote tuviera más de una venta vigente solo se marca la más antigua;
+-- las demás quedan fuera del índice hasta que se resuelvan a mano.
+UPDATE ventas.ventas v
+SET lote_vigente_id = v.lote_id
+WHERE v.venta_id IN (
+    SELECT DISTINCT ON (x.lote_id) x.venta_id
+    FROM ventas.ventas x
+    JOIN ventas.estados_venta e ON e.estado_venta_id = x.estado_venta_id
+    WHERE x.fecha_eliminacion IS NULL AND e.nombre <> 'Cancelada'
+    ORDER BY x.lote_id, x.fecha_creacion, x.venta_id
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_ventas_lote_vigente
+    ON ventas.ventas (lote_vigente_id) WHERE lote_vigente_id IS NOT NULL;
@@ -0,0 +1,40 @@
+-- Contadores por proyecto: lotes activos (total y por estado) y monto de sus ventas vigentes.
+-- ProyectoService los lee en lugar de contar lotes en cada consulta; ContadoresProyectoService los ajusta
+-- en la misma transacción que cambia el lote o la venta y ConciliacionContadoresService corrige desvíos.
+
+ALTER TABLE ventas.proyectos
+    ADD COLUMN IF NOT EXISTS total_lotes bigint DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS lotes_disponibles bigint DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS lotes_reservados bigint DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS lotes_vendidos bigint DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS monto_vendido float8 DEFAULT 0 NOT NULL;
+
+-- Datos existentes
+UPDATE ventas.proyectos p
+SET total_lotes = c.total,
+    lotes_disponibles = c.disponibles,
+    lotes_reservados = c.reservados,
+    lotes_vendidos = c.vendidos
+FROM (
+    SELECT l.proyecto_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE e.nombre = 'Disponible') AS disponibles,
+           COUNT(*) FILTER (WHERE e.nombre = 'Reservado') AS reservados,
+           COUNT(*) FILTER (WHERE e.nombre = 'Vendido') AS vendidos
+    FROM ventas.lotes l
+    JOIN catalogo.estados_lote e ON e.estado_lote_id = l.estado_lote_id
+    WHERE l.fecha_eliminacion IS NULL
+    GROUP BY l.proyecto_id
+) c
+WHERE c.proyecto_id = p.proyecto_id;
+
+UPDATE ventas.proyectos p
+SET monto_vendido = m.monto
+FROM (
+    SELECT l.proyecto_id, COALESCE(SUM(v.monto_total), 0) AS monto
+    FROM ventas.ventas v
+    JOIN ventas.lotes l ON l.lote_id = v.lote_id
+    WHERE v.lote_vigente_id IS NOT NULL
+    GROUP BY l.proyecto_id
+) m
+WHERE m.proyecto_id = p.proyecto_id;
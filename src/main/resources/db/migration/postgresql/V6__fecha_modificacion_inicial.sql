@@ -0,0 +1,7 @@
+-- Filas anteriores a la auditoría de modificación: fecha_modificacion toma su fecha_creacion, así el feed de
+-- cambios (CambiosRepository) las entrega sin COALESCE y su índice (fecha_modificacion, id) las cubre.
+-- Antes lo hacía CambiosService en cada arranque de cada instancia; aquí corre una sola vez.
+
+UPDATE ventas.ventas SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
+UPDATE ventas.lotes SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
+UPDATE ventas.proyectos SET fecha_modificacion = fecha_creacion WHERE fecha_modificacion IS NULL;
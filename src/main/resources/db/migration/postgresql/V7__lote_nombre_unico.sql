@@ -0,0 +1,17 @@
+-- Un solo lote activo con cada nombre dentro de un proyecto. LoteService y LoteImportacionService ya lo
+-- validan antes de insertar, pero dos altas simultáneas podían pasar ambas la validación; el índice único
+-- parcial (solo filas no eliminadas) es la garantía y los servicios traducen su violación al mismo error.
+
+-- Datos existentes: si hubiera nombres repetidos se conserva el lote más antiguo y a los demás se les agrega
+-- el inicio de su ID, para que el índice se pueda crear; quedan a la vista para corregirlos a mano.
+UPDATE ventas.lotes l
+SET nombre = left(l.nombre, 91) || ' ' || left(l.lote_id::text, 8)
+WHERE l.fecha_eliminacion IS NULL
+  AND EXISTS (
+    SELECT 1 FROM ventas.lotes o
+    WHERE o.proyecto_id = l.proyecto_id AND o.nombre = l.nombre AND o.fecha_eliminacion IS NULL
+      AND (o.fecha_creacion, o.lote_id) < (l.fecha_creacion, l.lote_id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_lotes_proyecto_nombre_activo
+    ON ventas.lotes (proyecto_id, nombre) WHERE fecha_eliminacion IS NULL;
@@ -0,0 +1,59 @@
+-- Búsqueda por texto (columna "busqueda", ver Buscable): índice GIN trigram en cada tabla para que los
+-- LIKE '%palabra%' no recorran la tabla completa, y texto de búsqueda para las filas creadas antes de V2.
+
+-- pg_trgm requiere permiso para crear extensiones; sin él la búsqueda funciona igual, solo que sin índice
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION WHEN insufficient_privilege THEN
+    RAISE WARNING 'No se pudo crear la extensión pg_trgm; la búsqueda funcionará sin índice: %', SQLERRM;
+END $$;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_estados_lote_busqueda_trgm ON catalogo.estados_lote USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_tipos_documento_busqueda_trgm ON catalogo.tipos_documento USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_tipos_lote_busqueda_trgm ON catalogo.tipos_lote USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_usuarios_busqueda_trgm ON core.usuarios USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_usuarios_rol_busqueda_trgm ON core.usuarios_rol USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_clientes_busqueda_trgm ON crm.clientes USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_estados_venta_busqueda_trgm ON ventas.estados_venta USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_lotes_busqueda_trgm ON ventas.lotes USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_proyectos_busqueda_trgm ON ventas.proyectos USING gin (busqueda gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_ventas_busqueda_trgm ON ventas.ventas USING gin (busqueda gin_trgm_ops);
+    END IF;
+END $$;
+
+-- Mismo texto que Buscable.actualizarBusqueda: partes no vacías unidas por espacio, sin acentos, en minúsculas,
+-- sin espacios en los extremos y a lo más 1000 caracteres (base en UTF8). No toca fecha_modificacion: no es un
+-- cambio de datos, así que no aparece en /api/ia/cambios.
+CREATE FUNCTION core.busqueda_inicial(VARIADIC partes text[]) RETURNS varchar AS $$
+    SELECT left(btrim(lower(translate(array_to_string(array_remove(partes, ''), ' '),
+                                      'ÁÀÂÄÃáàâäãÉÈÊËéèêëÍÌÎÏíìîïÓÒÔÖÕóòôöõÚÙÛÜúùûüÑñÇç',
+                                      'AAAAAaaaaaEEEEeeeeIIIIiiiiOOOOOoooooUUUUuuuuNnCc'))), 1000)
+$$ LANGUAGE sql IMMUTABLE;
+
+UPDATE catalogo.estados_lote SET busqueda = core.busqueda_inicial(nombre, descripcion) WHERE busqueda IS NULL;
+UPDATE catalogo.tipos_documento SET busqueda = core.busqueda_inicial(nombre, descripcion) WHERE busqueda IS NULL;
+UPDATE catalogo.tipos_lote SET busqueda = core.busqueda_inicial(nombre, descripcion) WHERE busqueda IS NULL;
+UPDATE core.usuarios SET busqueda = core.busqueda_inicial(username) WHERE busqueda IS NULL;
+UPDATE core.usuarios_rol SET busqueda = core.busqueda_inicial(nombre) WHERE busqueda IS NULL;
+UPDATE crm.clientes
+SET busqueda = core.busqueda_inicial(primer_nombre, segundo_nombre, apellido_paterno, apellido_materno, numero_documento)
+WHERE busqueda IS NULL;
+UPDATE ventas.estados_venta SET busqueda = core.busqueda_inicial(nombre, descripcion) WHERE busqueda IS NULL;
+UPDATE ventas.proyectos SET busqueda = core.busqueda_inicial(nombre, descripcion) WHERE busqueda IS NULL;
+
+UPDATE ventas.lotes l
+SET busqueda = core.busqueda_inicial(l.nombre, l.descripcion, l.direccion, p.nombre, e.nombre)
+FROM ventas.proyectos p, catalogo.estados_lote e
+WHERE l.busqueda IS NULL AND p.proyecto_id = l.proyecto_id AND e.estado_lote_id = l.estado_lote_id;
+
+UPDATE ventas.ventas v
+SET busqueda = core.busqueda_inicial(c.primer_nombre, c.apellido_paterno, l.nombre, p.nombre, e.nombre)
+FROM crm.clientes c, ventas.lotes l, ventas.proyectos p, ventas.estados_venta e
+WHERE v.busqueda IS NULL AND c.cliente_id = v.cliente_id AND l.lote_id = v.lote_id
+  AND p.proyecto_id = l.proyecto_id AND e.estado_venta_id = v.estado_venta_id;
+
+DROP FUNCTION core.busqueda_inicial(text[]);
@@ -3,6 +3,7 @@ package com.inmobiliaria.inmobiliariabackend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+// Esquema creado por las migraciones de H2 y validado por Hibernate (ddl-auto=validate de application.yml)
 @SpringBootTest
 class InmobiliariaBackendApplicationTests {
 
@@ -0,0 +1,135 @@
+package com.inmobiliaria.inmobiliariabackend;
+
+import com.inmobiliaria.inmobiliariabackend.model.*;
+import lombok.Getter;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+/**
+ * Datos mínimos para las pruebas de persistencia: un proyecto en Miraflores con sus catálogos y ventas
+ * sintéticas (cliente, lote y venta por fila) insertadas directo con el EntityManager, sin servicios.
+ *
+ * Con el EntityManager compartido (pruebas que confirman cada transacción) se crea y se usa dentro de un
+ * TransactionTemplate; los estados se buscan por nombre, así no se duplican entre pruebas sin rollback.
+ */
+@Getter
+public class VentasDePrueba {
+
+    private final EntityManager em;
+    private final Proyecto proyecto;
+    private final EstadoLote estadoLote;
+    private final EstadoVenta estadoVenta;
+    private final Moneda moneda;
+    private final TipoDocumento tipoDocumento;
+    private int secuencia;
+    private int lotes;
+
+    public VentasDePrueba(TestEntityManager em) {
+        this(em.getEntityManager());
+    }
+
+    public VentasDePrueba(EntityManager em) {
+        this.em = em;
+
+        Departamento departamento = new Departamento();
+        departamento.setNombre("Lima");
+        em.persist(departamento);
+
+        Provincia provincia = new Provincia();
+        provincia.setNombre("Lima");
+        provincia.setDepartamento(departamento);
+        em.persist(provincia);
+
+        Distrito distrito = new Distrito();
+        distrito.setNombre("Miraflores");
+        distrito.setProvincia(provincia);
+        em.persist(distrito);
+
+        proyecto = new Proyecto();
+        proyecto.setNombre("Los Álamos");
+        proyecto.setDistrito(distrito);
+        em.persist(proyecto);
+
+        estadoLote = estadoLote("Reservado");
+        estadoVenta = estadoVenta("Pendiente");
+
+        moneda = new Moneda();
+        moneda.setNombre("Sol");
+        moneda.setSimbolo("S/");
+        em.persist(moneda);
+
+        tipoDocumento = new TipoDocumento();
+        tipoDocumento.setNombre("DNI");
+        em.persist(tipoDocumento);
+    }
+
+    public EstadoLote estadoLote(String nombre) {
+        return em.createQuery("SELECT e FROM EstadoLote e WHERE e.nombre = :nombre", EstadoLote.class)
+                .setParameter("nombre", nombre)
+                .getResultStream().findFirst()
+                .orElseGet(() -> persistir(new EstadoLote(null, nombre, null)));
+    }
+
+    public EstadoVenta estadoVenta(String nombre) {
+        return em.createQuery("SELECT e FROM EstadoVenta e WHERE e.nombre = :nombre", EstadoVenta.class)
+                .setParameter("nombre", nombre)
+                .getResultStream().findFirst()
+                .orElseGet(() -> persistir(new EstadoVenta(null, nombre, null)));
+    }
+
+    // Venta de 1000 con abonos de 100; cliente y lote numerados ("Paterno1", "Lote 1", ...)
+    public void crearVentas(int cantidad, int abonosPorVenta) {
+        for (int i = 0; i < cantidad; i++) {
+            Venta venta = crearVenta(null);
+            for (int j = 0; j < abonosPorVenta; j++) {
+                Abono abono = new Abono();
+                abono.setVenta(venta);
+                abono.setMontoAbonado(100.0);
+                abono.setFechaAbono(LocalDateTime.now());
+                em.persist(abono);
+            }
+        }
+    }
+
+    // Venta de 1000 sobre su propio lote reservado; montoAbonado null = saldo sin persistir (sin conciliar)
+    public Venta crearVenta(Double montoAbonado) {
+        Venta venta = new Venta();
+        venta.setCliente(crearCliente());
+        venta.setLote(crearLote(estadoLote, 1000.0));
+        venta.setEstadoVenta(estadoVenta);
+        venta.setMoneda(moneda);
+        venta.setMontoTotal(1000.0);
+        venta.setMontoAbonado(montoAbonado);
+        venta.setSaldoPendiente(montoAbonado != null ? 1000.0 - montoAbonado : null);
+        return persistir(venta);
+    }
+
+    public Cliente crearCliente() {
+        secuencia++;
+        Cliente cliente = new Cliente();
+        cliente.setPrimerNombre("Cliente");
+        cliente.setApellidoPaterno("Paterno" + secuencia);
+        cliente.setApellidoMaterno("Materno");
+        cliente.setTipoDocumento(tipoDocumento);
+        cliente.setNumeroDocumento(String.valueOf(10000000 + secuencia));
+        return persistir(cliente);
+    }
+
+    public Lote crearLote(EstadoLote estado, double precio) {
+        Lote lote = new Lote();
+        lote.setNombre("Lote " + ++lotes);
+        lote.setDescripcion("Lote de prueba");
+        lote.setPrecio(precio);
+        lote.setArea(120.0);
+        lote.setEstadoLote(estado);
+        lote.setProyecto(proyecto);
+        return persistir(lote);
+    }
+
+    private <T> T persistir(T entidad) {
+        em.persist(entidad);
+        return entidad;
+    }
+}
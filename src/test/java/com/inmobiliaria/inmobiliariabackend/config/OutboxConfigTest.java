@@ -0,0 +1,36 @@
+package com.inmobiliaria.inmobiliariabackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.service.HttpOutboxSink;
+import com.inmobiliaria.inmobiliariabackend.service.LocalOutboxSink;
+import com.inmobiliaria.inmobiliariabackend.service.OutboxSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxConfigTest {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withUserConfiguration(OutboxConfig.class)
+            .withBean(RestTemplateBuilder.class, () -> new RestTemplateBuilder())
+            .withBean(ObjectMapper.class);
+
+    @Test
+    void sinRelayNoSeCreaDestino() {
+        contexto.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(OutboxSink.class));
+    }
+
+    @Test
+    void conRelayYSinUrlNoArrancaFueraDeIaStub() {
+        contexto.withPropertyValues("app.outbox.relay.habilitado=true")
+                .run(ctx -> assertThat(ctx).hasFailed().getFailure().hasStackTraceContaining("IA_OUTBOX_URL"));
+
+        contexto.withPropertyValues("app.outbox.relay.habilitado=true", "spring.profiles.active=ia-stub")
+                .run(ctx -> assertThat(ctx).getBean(OutboxSink.class).isInstanceOf(LocalOutboxSink.class));
+
+        contexto.withPropertyValues("app.outbox.relay.habilitado=true", "app.outbox.sink.url=http://ia/eventos")
+                .run(ctx -> assertThat(ctx).getBean(OutboxSink.class).isInstanceOf(HttpOutboxSink.class));
+    }
+}
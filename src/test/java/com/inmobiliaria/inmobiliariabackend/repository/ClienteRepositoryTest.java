@@ -0,0 +1,36 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.model.Cliente;
+import com.inmobiliaria.inmobiliariabackend.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Slice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+class ClienteRepositoryTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private ClienteRepository clienteRepository;
+
+    @Test
+    void cursorGenericoPaginaClientesActivos() {
+        new VentasDePrueba(em).crearVentas(5, 0);
+        em.flush();
+        em.clear();
+
+        CursorUtil.Cursor inicio = CursorUtil.decodificar(null);
+        Slice<Cliente> primera = clienteRepository.buscarActivosDespuesDe(inicio.getFecha(), inicio.getId(), CursorUtil.limite(4));
+        assertEquals(4, primera.getNumberOfElements());
+        assertTrue(primera.hasNext());
+
+        Cliente ultimo = primera.getContent().get(3);
+        Slice<Cliente> segunda = clienteRepository.buscarActivosDespuesDe(ultimo.getFechaCreacion(), ultimo.getClienteId(), CursorUtil.limite(4));
+        assertEquals(1, segunda.getNumberOfElements());
+        assertFalse(segunda.hasNext());
+    }
+}
@@ -0,0 +1,220 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import com.inmobiliaria.inmobiliariabackend.model.EstadoLote;
+import com.inmobiliaria.inmobiliariabackend.model.Lote;
+import com.inmobiliaria.inmobiliariabackend.model.Proyecto;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba contra PostgreSQL que cada consulta de LoteRepository, VentaRepository, AbonoRepository y
+ * ProyectoRepository se puede resolver con un índice de db/migration/postgresql, y que la búsqueda por texto
+ * (LIKE sobre la columna "busqueda") usa el índice trigram de cada tabla.
+ *
+ * La base se migra con Flyway y se valida con Hibernate (ddl-auto=validate). Cada consulta se captura tal como
+ * la genera Hibernate y se explica su plan genérico (independiente de los parámetros) con enable_seqscan
+ * desactivado: si aun así aparece "Seq Scan" sobre la tabla consultada, ningún índice la sirve.
+ *
+ * Se omite si no hay base configurada, p. ej.:
+ * PLAN_DB_URL=jdbc:postgresql://localhost:5432/inmobiliaria_plan PLAN_DB_USERNAME=postgres PLAN_DB_PASSWORD=...
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_DB_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${PLAN_DB_URL}",
+        "spring.datasource.username=${PLAN_DB_USERNAME:postgres}",
+        "spring.datasource.password=${PLAN_DB_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.inmobiliaria.inmobiliariabackend.repository.ConsultasIndicesPlanTest$Capturador"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ConsultasIndicesPlanTest {
+
+    private static final Pattern PARAMETRO = Pattern.compile("\\?");
+
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private ProyectoRepository proyectoRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime fecha = LocalDateTime.now();
+    private Proyecto proyecto;
+
+    @BeforeEach
+    void setUp() {
+        proyecto = new Proyecto();
+        proyecto.setProyectoId(id);
+    }
+
+    @Test
+    void consultasDeLotesUsanIndice() {
+        assertAll(
+                usaIndice("findByFechaEliminacionIsNull", () -> loteRepository.findByFechaEliminacionIsNull(), "lotes"),
+                usaIndice("findByFechaEliminacionIsNull(Pageable)", () -> loteRepository.findByFechaEliminacionIsNull(PageRequest.of(0, 10)), "lotes"),
+                usaIndice("findByNombreAndProyecto", () -> loteRepository.findByNombreAndProyecto("Lote 1", proyecto), "lotes"),
+                usaIndice("findByEstadoLoteNombreIgnoreCaseAndFechaEliminacionIsNull", () -> loteRepository.findByEstadoLoteNombreIgnoreCaseAndFechaEliminacionIsNull("disponible"), "lotes"),
+                usaIndice("findByFechaEliminacionIsNullAndEstadoLote_Nombre", () -> loteRepository.findByFechaEliminacionIsNullAndEstadoLote_Nombre("Disponible"), "lotes"),
+                usaIndice("findByProyectoProyectoIdAndFechaEliminacionIsNull", () -> loteRepository.findByProyectoProyectoIdAndFechaEliminacionIsNull(id), "lotes"),
+                usaIndice("findByFechaEliminacionIsNullAndEstadoLote_NombreAndProyecto_ProyectoId", () -> loteRepository.findByFechaEliminacionIsNullAndEstadoLote_NombreAndProyecto_ProyectoId("Disponible", id), "lotes"),
+                usaIndice("nombresActivosPorProyecto", () -> loteRepository.nombresActivosPorProyecto(id), "lotes"),
+                usaIndice("streamActivos", () -> {
+                    try (Stream<Lote> lotes = loteRepository.streamActivos()) {
+                        lotes.count();
+                    }
+                }, "lotes"),
+                usaIndice("buscarActivosDespuesDe", () -> loteRepository.buscarActivosDespuesDe(fecha, id, PageRequest.of(0, 20)), "lotes"),
+                usaIndice("buscarCambiosDespuesDe", () -> loteRepository.buscarCambiosDespuesDe(fecha, id, fecha, PageRequest.of(0, 20)), "lotes"),
+                usaIndice("cambiarEstadoSi", () -> loteRepository.cambiarEstadoSi(id, estado(), estado(), LocalDateTime.now()), "lotes"),
+                usaIndice("buscarParaActualizar", () -> loteRepository.buscarParaActualizar(id), "lotes"),
+                usaIndice("contarActivosPorProyectoYEstado", () -> loteRepository.contarActivosPorProyectoYEstado(List.of(id, UUID.randomUUID())), "lotes")
+        );
+    }
+
+    @Test
+    void consultasDeVentasUsanIndice() {
+        assertAll(
+                usaIndice("findByFechaEliminacionIsNull", () -> ventaRepository.findByFechaEliminacionIsNull(), "ventas"),
+                usaIndice("findByLoteLoteIdAndFechaEliminacionIsNull", () -> ventaRepository.findByLoteLoteIdAndFechaEliminacionIsNull(id), "ventas"),
+                usaIndice("findByLoteLoteIdAndFechaEliminacionIsNullAndEstadoVenta_EstadoVentaIdIsNot", () -> ventaRepository.findByLoteLoteIdAndFechaEliminacionIsNullAndEstadoVenta_EstadoVentaIdIsNot(id, id), "ventas"),
+                usaIndice("listarResumenActivas", () -> ventaRepository.listarResumenActivas(), "ventas", "abonos"),
+                usaIndice("listarResumenActivasDespuesDe", () -> ventaRepository.listarResumenActivasDespuesDe(fecha, id, PageRequest.of(0, 20)), "ventas", "abonos"),
+                usaIndice("streamResumenActivas", () -> {
+                    try (Stream<?> ventas = ventaRepository.streamResumenActivas()) {
+                        ventas.count();
+                    }
+                }, "ventas", "abonos"),
+                usaIndice("listarResumenPorIds", () -> ventaRepository.listarResumenPorIds(List.of(id, UUID.randomUUID())), "ventas", "abonos"),
+                usaIndice("findByClienteClienteIdAndFechaEliminacionIsNull", () -> ventaRepository.findByClienteClienteIdAndFechaEliminacionIsNull(id), "ventas"),
+                usaIndice("findByLoteLoteIdInAndFechaEliminacionIsNull", () -> ventaRepository.findByLoteLoteIdInAndFechaEliminacionIsNull(List.of(id, UUID.randomUUID())), "ventas"),
+                usaIndice("saldosOrdenados", () -> ventaRepository.saldosOrdenados(PageRequest.of(0, 500)), "ventas"),
+                usaIndice("saldosOrdenadosDespuesDe", () -> ventaRepository.saldosOrdenadosDespuesDe(id, PageRequest.of(0, 500)), "ventas"),
+                usaIndice("corregirSaldo", () -> ventaRepository.corregirSaldo(id, 100.0, 900.0, 0, LocalDateTime.now()), "ventas"),
+                usaIndice("ultimaModificacion", () -> ventaRepository.ultimaModificacion(), "ventas"),
+                usaIndice("buscarCambiosDespuesDe", () -> ventaRepository.buscarCambiosDespuesDe(fecha, id, fecha, PageRequest.of(0, 20)), "ventas"),
+                usaIndice("sumarAbono", () -> ventaRepository.sumarAbono(id, 100.0, 0.001, LocalDateTime.now()), "ventas"),
+                usaIndice("inicializarMontoAbonado", () -> ventaRepository.inicializarMontoAbonado(id, LocalDateTime.now()), "ventas", "abonos"),
+                usaIndice("saldosPorIds", () -> ventaRepository.saldosPorIds(List.of(id, UUID.randomUUID())), "ventas", "abonos"),
+                usaIndice("sumarMontoVigentePorProyectos", () -> ventaRepository.sumarMontoVigentePorProyectos(List.of(id, UUID.randomUUID())), "ventas", "lotes")
+        );
+    }
+
+    @Test
+    void consultasDeAbonosUsanIndice() {
+        assertAll(
+                usaIndice("findByVenta_VentaId", () -> abonoRepository.findByVenta_VentaId(id), "abonos"),
+                usaIndice("sumarMontoAbonadoPorVenta", () -> abonoRepository.sumarMontoAbonadoPorVenta(id), "abonos"),
+                usaIndice("sumarMontoAbonadoPorVentas", () -> abonoRepository.sumarMontoAbonadoPorVentas(List.of(id, UUID.randomUUID())), "abonos")
+        );
+    }
+
+    @Test
+    void consultasDeProyectosUsanIndice() {
+        assertAll(
+                usaIndice("findByNombre", () -> proyectoRepository.findByNombre("El Eden"), "proyectos"),
+                usaIndice("findByFechaEliminacionIsNull", () -> proyectoRepository.findByFechaEliminacionIsNull(), "proyectos"),
+                usaIndice("findByProyectoIdAndFechaEliminacionIsNull", () -> proyectoRepository.findByProyectoIdAndFechaEliminacionIsNull(id), "proyectos"),
+                usaIndice("findByNombreAndFechaEliminacionIsNull", () -> proyectoRepository.findByNombreAndFechaEliminacionIsNull("El Eden"), "proyectos"),
+                usaIndice("findByNombreNormalizadoAndFechaEliminacionIsNull", () -> proyectoRepository.findByNombreNormalizadoAndFechaEliminacionIsNull(" el eden "), "proyectos"),
+                usaIndice("ajustarContadores", () -> proyectoRepository.ajustarContadores(id, 1, 1, 0, 0, 0.0), "proyectos"),
+                usaIndice("contadoresOrdenados", () -> proyectoRepository.contadoresOrdenados(PageRequest.of(0, 200)), "proyectos"),
+                usaIndice("contadoresOrdenadosDespuesDe", () -> proyectoRepository.contadoresOrdenadosDespuesDe(id, PageRequest.of(0, 200)), "proyectos"),
+                usaIndice("corregirContadores", () -> proyectoRepository.corregirContadores(id, 1, 1, 0, 0, 0.0, 0, 0, 0, 0, 0.0), "proyectos"),
+                usaIndice("buscarActivosDespuesDe", () -> proyectoRepository.buscarActivosDespuesDe(fecha, id, PageRequest.of(0, 20)), "proyectos"),
+                usaIndice("buscarCambiosDespuesDe", () -> proyectoRepository.buscarCambiosDespuesDe(fecha, id, fecha, PageRequest.of(0, 20)), "proyectos")
+        );
+    }
+
+    @Test
+    void busquedaPorTextoUsaIndiceTrigram() {
+        assertAll(Stream.of("catalogo.estados_lote", "catalogo.tipos_documento", "catalogo.tipos_lote", "core.usuarios",
+                        "core.usuarios_rol", "crm.clientes", "ventas.estados_venta", "ventas.lotes", "ventas.proyectos",
+                        "ventas.ventas")
+                .map(tabla -> () -> {
+                    String plan = planGenerico("SELECT 1 FROM " + tabla + " WHERE busqueda LIKE ?");
+                    assertTrue(plan.contains("_busqueda_trgm"), () -> tabla + " no usa el índice trigram:\n" + plan);
+                }));
+    }
+
+    private static EstadoLote estado() {
+        return new EstadoLote(UUID.randomUUID(), "Disponible", null);
+    }
+
+    private Executable usaIndice(String consulta, Runnable invocar, String... tablas) {
+        return () -> {
+            Capturador.SQL.clear();
+            invocar.run();
+            List<String> sentencias = new ArrayList<>(Capturador.SQL);
+            assertFalse(sentencias.isEmpty(), consulta + ": no ejecutó ninguna sentencia");
+
+            for (String sql : sentencias) {
+                String plan = planGenerico(sql);
+                for (String tabla : tablas) {
+                    assertFalse(Pattern.compile("Seq Scan on " + tabla + "\\b").matcher(plan).find(),
+                            () -> consulta + " recorre " + tabla + " completa:\n" + sql + "\n" + plan);
+                }
+            }
+        };
+    }
+
+    // PREPARE con $1..$n y EXPLAIN EXECUTE con plan genérico: el plan no depende de los valores (todos NULL)
+    private String planGenerico(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            int parametros = 0;
+            StringBuilder preparada = new StringBuilder();
+            var m = PARAMETRO.matcher(sql);
+            while (m.find()) {
+                m.appendReplacement(preparada, "\\$" + (++parametros));
+            }
+            m.appendTail(preparada);
+
+            try (Statement st = con.createStatement()) {
+                st.execute("SET LOCAL enable_seqscan = off");
+                st.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                st.execute("PREPARE consulta_plan AS " + preparada);
+                String valores = parametros == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parametros, "NULL")) + ")";
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = st.executeQuery("EXPLAIN EXECUTE consulta_plan" + valores)) {
+                    while (rs.next()) plan.append(rs.getString(1)).append('\n');
+                } finally {
+                    st.execute("DEALLOCATE consulta_plan");
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    public static class Capturador implements StatementInspector {
+        static final List<String> SQL = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
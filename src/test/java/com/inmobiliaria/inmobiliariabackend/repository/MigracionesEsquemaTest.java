@@ -0,0 +1,60 @@
+package com.inmobiliaria.inmobiliariabackend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Una base anterior a Flyway (creada con ddl-auto=update) tiene exactamente el esquema de V1 y no tiene historial.
+ * Se reproduce ese caso: se migra solo hasta V1, se borra el historial y se arranca como en producción
+ * (baseline-on-migrate). Si alguna columna, tabla o índice que usan las entidades quedó en V1 en lugar de una
+ * migración posterior, Hibernate (ddl-auto=validate) no deja levantar el contexto.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class MigracionesEsquemaTest {
+
+    @Autowired private Flyway flyway;
+
+    @Test
+    void unaBaseAnteriorAFlywaySeMigraDesdeV2YValida() {
+        List<String> aplicadas = Arrays.stream(flyway.info().applied())
+                .filter(m -> m.getVersion() != null)
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        assertEquals("1", aplicadas.get(0));                        // BASELINE, no el script V1
+        assertEquals("<< Flyway Baseline >>", flyway.info().applied()[0].getDescription());
+        assertEquals(flyway.info().all().length, aplicadas.size());  // y todas las siguientes
+    }
+
+    @TestConfiguration
+    static class BaseAnteriorAFlyway {
+
+        @Bean
+        FlywayMigrationStrategy desdeEsquemaInicial() {
+            return flyway -> {
+                Flyway.configure().configuration(flyway.getConfiguration()).target("1").load().migrate();
+                // Sin historial, como una base creada por Hibernate
+                new JdbcTemplate(flyway.getConfiguration().getDataSource())
+                        .execute("DROP TABLE \"core\".\"flyway_schema_history\"");
+                // baseline-on-migrate lo haría solo al ver tablas en los esquemas; en H2 las tablas quedan en los
+                // esquemas sin comillas (en mayúsculas), que Flyway no revisa, así que la línea base se marca aquí
+                flyway.baseline();
+                flyway.migrate();
+            };
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.inmobiliaria.inmobiliariabackend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @Test
+    void tokenVerificadoSeReutilizaDesdeLaCache() {
+        UserDetails ana = new User("ana", "x", Collections.emptyList());
+        String token = jwtUtil.generateToken(ana);
+
+        Claims claims = jwtUtil.getClaims(token);
+        assertSame(claims, jwtUtil.getClaims(token));
+        assertTrue(jwtUtil.validateToken(claims, ana));
+        assertTrue(jwtUtil.validateToken(token, ana));
+        assertFalse(jwtUtil.validateToken(claims, new User("otro", "x", Collections.emptyList())));
+    }
+
+    @Test
+    void tokenAlteradoNoPasaAunqueElOriginalEsteEnCache() {
+        String token = jwtUtil.generateToken(new User("ana", "x", Collections.emptyList()));
+        jwtUtil.getClaims(token);
+
+        String alterado = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertThrows(JwtException.class, () -> jwtUtil.getClaims(alterado));
+    }
+}
@@ -0,0 +1,43 @@
+package com.inmobiliaria.inmobiliariabackend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired private MockMvc mvc;
+
+    @Test
+    void consultasDeIaSonPublicasPeroExportacionesFeedYJobsNo() throws Exception {
+        mvc.perform(get("/api/ia/proyectos")).andExpect(status().isOk());
+
+        mvc.perform(get("/api/ia/ventas/exportar")).andExpect(status().isForbidden());
+        mvc.perform(get("/api/ia/lotes/exportar")).andExpect(status().isForbidden());
+        mvc.perform(get("/api/ia/cambios")).andExpect(status().isForbidden());
+        mvc.perform(post("/api/reportes/jobs")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void elReportePublicoRechazaMesesFuturosOFueraDelHistorial() throws Exception {
+        mvc.perform(get("/api/reportes/mensual/pdf").param("fuente", "local")
+                .param("mes", YearMonth.now().plusMonths(1).toString())).andExpect(status().isBadRequest());
+        mvc.perform(get("/api/reportes/mensual/pdf").param("fuente", "local")
+                .param("mes", "0001-01")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void laImitacionDelServicioDeIaNoEsPublicaSinElPerfilIaStub() throws Exception {
+        mvc.perform(get("/api/v1/reportes/api/reportes/mensual")).andExpect(status().isForbidden());
+    }
+}
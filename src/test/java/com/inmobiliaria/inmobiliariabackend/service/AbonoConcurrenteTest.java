@@ -0,0 +1,229 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.dto.AbonoDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionAbonosDTO.Estado;
+import com.inmobiliaria.inmobiliariabackend.model.*;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.sql.DataSource;
+import javax.validation.Validation;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abonos concurrentes reales: cada abono corre en su propia transacción y confirma, como en producción.
+ * Sin volcar las miles de sentencias de los 3000 intentos (showSql = false).
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.hibernate.ddl-auto=none")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AbonoConcurrenteTest {
+
+    private static final int VENTAS = 1000;
+    private static final double MONTO_TOTAL = 1000.0;
+    private static final double MONTO_ABONO = 400.0;
+    // 3 intentos de 400 sobre 1000: 2 caben, el tercero debe rechazarse
+    private static final int ABONOS_POR_VENTA = 3;
+    private static final int HILOS = 32;
+
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private EstadoVentaRepository estadoVentaRepository;
+    @Autowired private EstadoLoteRepository estadoLoteRepository;
+    @Autowired private MonedaRepository monedaRepository;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private AbonoService abonoService;
+    private AbonoImportacionService abonoImportacionService;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        OutboxService outbox = new OutboxService(eventoOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        abonoService = new AbonoService(abonoRepository, ventaRepository,
+                new CatalogoRegistry(estadoVentaRepository, estadoLoteRepository, monedaRepository), loteRepository, outbox);
+        // Bloques de 2 ventas para que la importación cruce varias transacciones
+        abonoImportacionService = new AbonoImportacionService(ventaRepository, outbox,
+                Validation.buildDefaultValidatorFactory().getValidator(), new NamedParameterJdbcTemplate(dataSource),
+                transactionManager, 2, 1000, 30);
+        ReflectionTestUtils.setField(abonoImportacionService, "entityManager", entityManager);
+    }
+
+    @Test
+    void abonosConcurrentesNuncaSobrepaganYElSaldoCuadra() throws Exception {
+        List<UUID> ventas = crearVentas(VENTAS, 0.0);
+        AtomicInteger aceptados = new AtomicInteger();
+        AtomicInteger rechazados = new AtomicInteger();
+        List<Throwable> inesperados = new CopyOnWriteArrayList<>();
+
+        // Intentos mezclados (semilla fija): varias ventas a la vez y, con frecuencia, dos o más hilos sobre la misma
+        List<UUID> intentos = new ArrayList<>();
+        for (UUID ventaId : ventas) intentos.addAll(Collections.nCopies(ABONOS_POR_VENTA, ventaId));
+        Collections.shuffle(intentos, new Random(42));
+
+        ExecutorService pool = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (UUID ventaId : intentos) {
+            tareas.add(pool.submit(() -> {
+                salida.await();
+                try {
+                    tx.executeWithoutResult(s -> abonoService.crearAbono(abono(ventaId, MONTO_ABONO)));
+                    aceptados.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rechazados.incrementAndGet();
+                } catch (RuntimeException e) {
+                    inesperados.add(e);
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> tarea : tareas) tarea.get(120, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertTrue(inesperados.isEmpty(), () -> "Errores no esperados: " + inesperados);
+        int caben = (int) (MONTO_TOTAL / MONTO_ABONO);
+        assertEquals(VENTAS * caben, aceptados.get());
+        assertEquals(VENTAS * (ABONOS_POR_VENTA - caben), rechazados.get());
+
+        // Invariante por venta: saldo persistido = suma real de abonos, sin sobrepago
+        Map<UUID, Double> sumas = new HashMap<>();
+        tx.executeWithoutResult(s -> abonoRepository.sumarMontoAbonadoPorVentas(ventas)
+                .forEach(fila -> sumas.put((UUID) fila[0], ((Number) fila[1]).doubleValue())));
+        double pagado = caben * MONTO_ABONO;
+        tx.executeWithoutResult(s -> ventaRepository.findAllById(ventas).forEach(v -> {
+            assertEquals(pagado, sumas.get(v.getVentaId()), 0.001);
+            assertEquals(pagado, v.getMontoAbonado(), 0.001);
+            assertEquals(MONTO_TOTAL - pagado, v.getSaldoPendiente(), 0.001);
+        }));
+    }
+
+    @Test
+    void ventaSinSaldoPersistidoSeInicializaConSusAbonos() {
+        UUID ventaId = crearVentas(1, null).get(0);
+        tx.executeWithoutResult(s -> {
+            Abono previo = new Abono();
+            previo.setVenta(entityManager.getReference(Venta.class, ventaId));
+            previo.setMontoAbonado(700.0);
+            previo.setFechaAbono(LocalDateTime.now());
+            entityManager.persist(previo);
+        });
+
+        IllegalArgumentException excede = assertThrows(IllegalArgumentException.class,
+                () -> tx.executeWithoutResult(s -> abonoService.crearAbono(abono(ventaId, 400.0))));
+        assertTrue(excede.getMessage().contains("(300.0)"), excede.getMessage());
+
+        tx.executeWithoutResult(s -> abonoService.crearAbono(abono(ventaId, 300.0)));
+        Venta venta = ventaRepository.findById(ventaId).orElseThrow();
+        assertEquals(1000.0, venta.getMontoAbonado(), 0.001);
+        assertEquals(0.0, venta.getSaldoPendiente(), 0.001);
+    }
+
+    @Test
+    void ventaInexistenteEsNoEncontrada() {
+        assertThrows(javax.persistence.EntityNotFoundException.class,
+                () -> tx.executeWithoutResult(s -> abonoService.crearAbono(abono(UUID.randomUUID(), 10.0))));
+    }
+
+    @Test
+    void importacionValidaCadaLineaContraElSaldoQueDejanLasAnteriores() throws Exception {
+        List<UUID> ventas = crearVentas(2, 0.0);
+        UUID sinConciliar = crearVentas(1, null).get(0);
+        tx.executeWithoutResult(s -> {
+            Abono previo = new Abono();
+            previo.setVenta(entityManager.getReference(Venta.class, sinConciliar));
+            previo.setMontoAbonado(700.0);
+            previo.setFechaAbono(LocalDateTime.now());
+            entityManager.persist(previo);
+        });
+        UUID v1 = ventas.get(0);
+        UUID v2 = ventas.get(1);
+        String csv = "ventaId;monto;fecha\n"
+                + v1 + ";400;2026-01-31\n"
+                + v1 + ";400,50;31/01/2026\n"
+                + v1 + ";300;2026-01-31T10:15\n"          // excede: quedan 199.5
+                + v2 + ";1000;2026-01-31\n"
+                + UUID.randomUUID() + ";10;2026-01-31\n"  // venta inexistente
+                + v1 + ";abc;2026-01-31\n"                // no numérico
+                + sinConciliar + ";300;2026-01-31\n"      // saldo a partir de sus abonos: 300
+                + v2 + ";-5;2026-01-31\n";                // monto no positivo
+
+        ImportacionAbonosDTO resultado = abonoImportacionService.importarCsv(new StringReader(csv));
+
+        assertEquals(8, resultado.getTotalLineas());
+        assertEquals(4, resultado.getRegistrados());
+        assertEquals(4, resultado.getRechazados());
+        List<ImportacionAbonosDTO.ResultadoLinea> lineas = resultado.getLineas();
+        Estado[] esperados = {Estado.REGISTRADO, Estado.REGISTRADO, Estado.RECHAZADO, Estado.REGISTRADO,
+                Estado.RECHAZADO, Estado.RECHAZADO, Estado.REGISTRADO, Estado.RECHAZADO};
+        for (int i = 0; i < esperados.length; i++) {
+            assertEquals(i + 1, lineas.get(i).getLinea());
+            assertEquals(esperados[i], lineas.get(i).getEstado(), "línea " + (i + 1));
+        }
+        assertEquals(199.5, lineas.get(1).getSaldoPendiente(), 0.001);
+        assertTrue(lineas.get(2).getMensaje().contains("(199.5)"), lineas.get(2).getMensaje());
+        assertTrue(lineas.get(4).getMensaje().startsWith("Venta no encontrada"));
+        assertTrue(lineas.get(5).getMensaje().contains("montoAbonado"));
+        assertEquals("El monto debe ser positivo", lineas.get(7).getMensaje());
+
+        Map<UUID, Double> esperado = Map.of(v1, 800.5, v2, 1000.0, sinConciliar, 1000.0);
+        tx.executeWithoutResult(s -> {
+            abonoRepository.sumarMontoAbonadoPorVentas(esperado.keySet()).forEach(fila ->
+                    assertEquals(esperado.get((UUID) fila[0]), ((Number) fila[1]).doubleValue(), 0.001));
+            ventaRepository.findAllById(esperado.keySet()).forEach(v -> {
+                assertEquals(esperado.get(v.getVentaId()), v.getMontoAbonado(), 0.001);
+                assertEquals(MONTO_TOTAL - esperado.get(v.getVentaId()), v.getSaldoPendiente(), 0.001);
+            });
+        });
+        assertNotNull(lineas.get(0).getAbonoId());
+        assertTrue(abonoRepository.existsById(lineas.get(6).getAbonoId()));
+    }
+
+    // Ventas de MONTO_TOTAL, cada una con su propio lote (un lote admite una sola venta vigente);
+    // montoAbonado null = venta sin conciliar
+    private List<UUID> crearVentas(int cantidad, Double montoAbonado) {
+        return tx.execute(s -> {
+            VentasDePrueba datos = new VentasDePrueba(entityManager);
+            List<UUID> ids = new ArrayList<>(cantidad);
+            for (int i = 0; i < cantidad; i++) {
+                ids.add(datos.crearVenta(montoAbonado).getVentaId());
+            }
+            return ids;
+        });
+    }
+
+    private static AbonoDTO abono(UUID ventaId, double monto) {
+        AbonoDTO dto = new AbonoDTO();
+        dto.setVentaId(ventaId);
+        dto.setMontoAbonado(monto);
+        dto.setFechaAbono(LocalDateTime.now());
+        return dto;
+    }
+}
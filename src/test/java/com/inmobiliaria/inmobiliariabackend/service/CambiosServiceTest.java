@@ -0,0 +1,85 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.dto.CambiosDTO;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(BusquedaTextoRepository.class)
+class CambiosServiceTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private ClienteRepository clienteRepository;
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private EstadoVentaRepository estadoVentaRepository;
+    @Autowired private EstadoLoteRepository estadoLoteRepository;
+    @Autowired private MonedaRepository monedaRepository;
+    @Autowired private BusquedaTextoRepository busquedaTextoRepository;
+    @Autowired private ProyectoRepository proyectoRepository;
+    @Autowired private DistritoRepository distritoRepository;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+
+    private CambiosService cambios;
+    private VentasDePrueba datos;
+
+    @BeforeEach
+    void setUp() {
+        CatalogoRegistry catalogos = new CatalogoRegistry(estadoVentaRepository, estadoLoteRepository, monedaRepository);
+        IndiceBusquedaService indice = new IndiceBusquedaService();
+        OutboxService outbox = new OutboxService(eventoOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        ContadoresProyectoService contadores = new ContadoresProyectoService(proyectoRepository);
+        cambios = new CambiosService(ventaRepository, loteRepository, proyectoRepository,
+                new VentaService(ventaRepository, clienteRepository, loteRepository, abonoRepository, catalogos,
+                        busquedaTextoRepository, indice, outbox, contadores),
+                new LoteService(loteRepository, proyectoRepository, ventaRepository, catalogos, busquedaTextoRepository,
+                        indice, outbox, contadores),
+                new ProyectoService(proyectoRepository, distritoRepository, ventaRepository, busquedaTextoRepository, indice), 0, 0);
+        datos = new VentasDePrueba(em);
+    }
+
+    @Test
+    void feedDeCambiosPaginaPorTipoYEntregaEliminados() throws InterruptedException {
+        datos.crearVentas(3, 0);
+        em.flush();
+        em.clear();
+
+        CambiosDTO primera = cambios.cambiosDesde(null, 2);
+        assertEquals(2, primera.getVentas().size());
+        assertEquals(2, primera.getLotes().size());
+        assertEquals(1, primera.getProyectos().size());
+        assertTrue(primera.isHaySiguiente());
+
+        CambiosDTO segunda = cambios.cambiosDesde(primera.getMarca(), 2);
+        assertEquals(1, segunda.getVentas().size());
+        assertEquals(1, segunda.getLotes().size());
+        assertEquals(0, segunda.getProyectos().size());
+        assertFalse(segunda.isHaySiguiente());
+
+        Thread.sleep(5);
+        Venta eliminada = ventaRepository.findAll().get(0);
+        eliminada.setFechaEliminacion(LocalDateTime.now());
+        ventaRepository.save(eliminada);
+        em.flush();
+
+        CambiosDTO tercera = cambios.cambiosDesde(segunda.getMarca(), 2);
+        assertEquals(0, tercera.getVentas().size());
+        assertEquals(0, tercera.getLotes().size());
+        assertEquals(1, tercera.getEliminados().size());
+        assertEquals("VENTA", tercera.getEliminados().get(0).getTipo());
+        assertEquals(eliminada.getVentaId(), tercera.getEliminados().get(0).getId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.Moneda;
+import com.inmobiliaria.inmobiliariabackend.repository.EstadoLoteRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.EstadoVentaRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.MonedaRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogoRegistryTest {
+
+    @Test
+    void idsInexistentesNoRecarganMasDeUnaVezPorIntervalo() {
+        EstadoVentaRepository estadosVenta = mock(EstadoVentaRepository.class);
+        EstadoLoteRepository estadosLote = mock(EstadoLoteRepository.class);
+        MonedaRepository monedas = mock(MonedaRepository.class);
+        when(estadosVenta.findAll()).thenReturn(Collections.emptyList());
+        when(estadosLote.findAll()).thenReturn(Collections.emptyList());
+        when(monedas.findAll()).thenReturn(Collections.emptyList());
+
+        CatalogoRegistry catalogos = new CatalogoRegistry(estadosVenta, estadosLote, monedas, 60_000);
+        catalogos.recargar();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(catalogos.monedaPorId(UUID.randomUUID()).isEmpty());
+        }
+        // Solo la carga inicial: las búsquedas fallidas caen dentro del intervalo mínimo
+        verify(monedas, times(1)).findAll();
+    }
+
+    @Test
+    void unaFilaNuevaSeEncuentraTrasElIntervalo() {
+        EstadoVentaRepository estadosVenta = mock(EstadoVentaRepository.class);
+        EstadoLoteRepository estadosLote = mock(EstadoLoteRepository.class);
+        MonedaRepository monedas = mock(MonedaRepository.class);
+        when(estadosVenta.findAll()).thenReturn(Collections.emptyList());
+        when(estadosLote.findAll()).thenReturn(Collections.emptyList());
+        UUID soles = UUID.randomUUID();
+        Moneda moneda = new Moneda();
+        moneda.setMonedaId(soles);
+        moneda.setNombre("Soles");
+        when(monedas.findAll()).thenReturn(Collections.emptyList(), Collections.singletonList(moneda));
+
+        CatalogoRegistry catalogos = new CatalogoRegistry(estadosVenta, estadosLote, monedas, 0);
+        catalogos.recargar();
+        assertEquals("Soles", catalogos.monedaPorId(soles).map(Moneda::getNombre).orElse(null));
+        verify(monedas, times(2)).findAll();
+    }
+}
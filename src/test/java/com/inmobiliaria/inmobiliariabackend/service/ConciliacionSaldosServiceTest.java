@@ -0,0 +1,99 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.AbonoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+class ConciliacionSaldosServiceTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private ConciliacionSaldosService conciliacion;
+
+    @BeforeEach
+    void setUp() {
+        conciliacion = new ConciliacionSaldosService(ventaRepository, abonoRepository, transactionManager);
+        // Bloques de 2 para recorrer varias páginas del keyset con 5 ventas
+        ReflectionTestUtils.setField(conciliacion, "tamanoBloque", 2);
+
+        new VentasDePrueba(em).crearVentas(5, 2);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void corrigeSoloLasVentasConDiferencias() {
+        // Recién creadas no tienen saldo persistido: todas se corrigen
+        assertEquals(5, conciliacion.conciliar());
+        em.clear();
+        Map<UUID, Venta> conciliadas = ventasPorId();
+        conciliadas.values().forEach(v -> {
+            assertEquals(200.0, v.getMontoAbonado(), 0.001);
+            assertEquals(800.0, v.getSaldoPendiente(), 0.001);
+        });
+
+        // Se desajusta una sola venta por fuera del flujo de abonos
+        UUID desajustada = conciliadas.keySet().iterator().next();
+        em.getEntityManager().createQuery("UPDATE Venta v SET v.montoAbonado = 50.0, v.saldoPendiente = 950.0 WHERE v.ventaId = :id")
+                .setParameter("id", desajustada)
+                .executeUpdate();
+        em.clear();
+
+        assertEquals(1, conciliacion.conciliar());
+        em.clear();
+        Map<UUID, Venta> despues = ventasPorId();
+        Venta corregida = despues.get(desajustada);
+        assertEquals(200.0, corregida.getMontoAbonado(), 0.001);
+        assertEquals(800.0, corregida.getSaldoPendiente(), 0.001);
+        assertEquals(conciliadas.get(desajustada).getVersion() + 1, corregida.getVersion());
+
+        // Las que ya cuadraban no se reescribieron
+        despues.values().stream()
+                .filter(v -> !v.getVentaId().equals(desajustada))
+                .forEach(v -> assertEquals(conciliadas.get(v.getVentaId()).getVersion(), v.getVersion()));
+    }
+
+    @Test
+    void sinDiferenciasNoModificaNingunaVenta() {
+        conciliacion.conciliar();
+        em.clear();
+        Map<UUID, Venta> antes = ventasPorId();
+        Map<UUID, LocalDateTime> modificacionAntes = antes.values().stream()
+                .collect(Collectors.toMap(Venta::getVentaId, Venta::getFechaModificacion));
+
+        assertEquals(0, conciliacion.conciliar());
+        em.clear();
+
+        ventasPorId().values().forEach(v -> {
+            assertEquals(antes.get(v.getVentaId()).getVersion(), v.getVersion());
+            assertEquals(modificacionAntes.get(v.getVentaId()), v.getFechaModificacion());
+        });
+    }
+
+    private Map<UUID, Venta> ventasPorId() {
+        List<Venta> ventas = ventaRepository.findAll();
+        assertEquals(5, ventas.size());
+        return ventas.stream().collect(Collectors.toMap(Venta::getVentaId, Function.identity()));
+    }
+}
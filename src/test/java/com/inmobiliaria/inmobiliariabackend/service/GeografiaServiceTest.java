@@ -0,0 +1,58 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.model.Departamento;
+import com.inmobiliaria.inmobiliariabackend.repository.DepartamentoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.DistritoRepository;
+import com.inmobiliaria.inmobiliariabackend.repository.ProvinciaRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeografiaServiceTest {
+
+    @Test
+    void arbolAgrupaPorPadreYGzipCoincideConJson() throws IOException {
+        UUID lima = UUID.randomUUID();
+        UUID provinciaLima = UUID.randomUUID();
+        UUID miraflores = UUID.randomUUID();
+
+        DepartamentoRepository departamentos = mock(DepartamentoRepository.class);
+        ProvinciaRepository provincias = mock(ProvinciaRepository.class);
+        DistritoRepository distritos = mock(DistritoRepository.class);
+        when(departamentos.findByActivoTrueOrderByNombre())
+                .thenReturn(Collections.singletonList(new Departamento(lima, "Lima", null, true)));
+        when(provincias.listarActivasParaArbol())
+                .thenReturn(Collections.singletonList(new Object[]{provinciaLima, "Lima", lima}));
+        when(distritos.listarActivosParaArbol())
+                .thenReturn(Arrays.asList(new Object[]{miraflores, "Miraflores", provinciaLima},
+                        new Object[]{UUID.randomUUID(), "Huérfano", UUID.randomUUID()}));
+
+        GeografiaService servicio = new GeografiaService(departamentos, provincias, distritos, new ObjectMapper());
+        GeografiaService.Arbol arbol = servicio.obtenerArbol();
+
+        JsonNode json = new ObjectMapper().readTree(arbol.getJson());
+        assertEquals(1, json.size());
+        JsonNode distritosLima = json.get(0).get("provincias").get(0).get("distritos");
+        assertEquals(1, distritosLima.size());
+        assertEquals(miraflores.toString(), distritosLima.get(0).get("distritoId").asText());
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(arbol.getGzip()))) {
+            assertArrayEquals(arbol.getJson(), gzip.readAllBytes());
+        }
+        assertNotEquals(arbol.getEtag(), arbol.getEtagGzip());
+
+        // Se arma una sola vez: las siguientes llamadas no consultan la base
+        assertSame(arbol, servicio.obtenerArbol());
+        verify(departamentos, times(1)).findByActivoTrueOrderByNombre();
+    }
+}
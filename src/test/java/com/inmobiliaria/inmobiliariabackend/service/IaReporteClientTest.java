@@ -0,0 +1,87 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class IaReporteClientTest {
+
+    private static final String URL = "http://ia.local/api/v1/reportes/api/reportes/mensual";
+
+    private MockRestServiceServer servidor;
+    private SimpleMeterRegistry registry;
+    private IaReporteClient cliente;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        servidor = MockRestServiceServer.bindTo(restTemplate).build();
+        registry = new SimpleMeterRegistry();
+        cliente = new IaReporteClient(restTemplate, registry, "http://ia.local", 2, 60_000, 24);
+    }
+
+    @Test
+    void usaLaUltimaRespuestaValidaCuandoElServicioFalla() {
+        servidor.expect(once(), requestTo(URL)).andRespond(withSuccess("{\"ventas_mes\":19}", MediaType.APPLICATION_JSON));
+        servidor.expect(once(), requestTo(URL)).andRespond(withServerError());
+
+        IaReporteClient.ReporteIa nuevo = cliente.obtenerReporteMensual();
+        IaReporteClient.ReporteIa respaldo = cliente.obtenerReporteMensual();
+
+        assertFalse(nuevo.isRespaldo());
+        assertTrue(respaldo.isRespaldo());
+        assertEquals(19, respaldo.getDatos().get("ventas_mes"));
+        assertEquals(nuevo.getObtenidoEn(), respaldo.getObtenidoEn());
+        assertEquals(1, registry.get("ia.cliente.latencia").tag("resultado", "ok").timer().count());
+        assertEquals(1, registry.get("ia.cliente.latencia").tag("resultado", "error").timer().count());
+        assertEquals(1.0, registry.get("ia.cliente.respaldo").counter().count());
+        servidor.verify();
+    }
+
+    @Test
+    void circuitoAbiertoNoLlamaAlServicio() {
+        servidor.expect(once(), requestTo(URL)).andRespond(withServerError());
+        servidor.expect(once(), requestTo(URL)).andRespond(withServerError());
+
+        assertThrows(IaReporteClient.IaNoDisponibleException.class, cliente::obtenerReporteMensual);
+        assertThrows(IaReporteClient.IaNoDisponibleException.class, cliente::obtenerReporteMensual);
+        assertEquals(CircuitBreaker.Estado.ABIERTO, cliente.estadoCircuito());
+
+        // Tercera llamada: rechazada sin tocar el servidor (solo se esperaban dos)
+        assertThrows(IaReporteClient.IaNoDisponibleException.class, cliente::obtenerReporteMensual);
+        assertEquals(1.0, registry.get("ia.cliente.rechazadas").counter().count());
+        assertEquals(1.0, registry.get("ia.cliente.circuito.abierto").gauge().value());
+        servidor.verify();
+    }
+
+    @Test
+    void unErrorInesperadoEnLaPruebaReabreElCircuitoEnVezDeBloquearlo() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer servidor = MockRestServiceServer.bindTo(restTemplate).build();
+        // Sin tiempo de espera: después de abrirse, cada llamada es la prueba del estado SEMIABIERTO
+        IaReporteClient cliente = new IaReporteClient(restTemplate, new SimpleMeterRegistry(), "http://ia.local", 1, 0, 24);
+        servidor.expect(once(), requestTo(URL)).andRespond(withServerError());
+        servidor.expect(once(), requestTo(URL)).andRespond(request -> {
+            throw new IllegalStateException("fallo al convertir la respuesta");
+        });
+        servidor.expect(once(), requestTo(URL)).andRespond(withSuccess("{\"ventas_mes\":7}", MediaType.APPLICATION_JSON));
+
+        assertThrows(IaReporteClient.IaNoDisponibleException.class, cliente::obtenerReporteMensual);
+        assertThrows(IaReporteClient.IaNoDisponibleException.class, cliente::obtenerReporteMensual);
+        assertEquals(CircuitBreaker.Estado.ABIERTO, cliente.estadoCircuito());
+
+        assertEquals(7, cliente.obtenerReporteMensual().getDatos().get("ventas_mes"));
+        assertEquals(CircuitBreaker.Estado.CERRADO, cliente.estadoCircuito());
+        servidor.verify();
+    }
+}
@@ -0,0 +1,76 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.model.Cliente;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndiceBusquedaServiceTest {
+
+    private final IndiceBusquedaService indice = new IndiceBusquedaService();
+
+    @Test
+    void interseccionDePalabrasSinAcentosYPorPrefijo() {
+        UUID ana = UUID.randomUUID();
+        UUID angel = UUID.randomUUID();
+        indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, ana, cliente("Ana", "Pérez", "10000001"));
+        indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, angel, cliente("Ángel", "Perales", "10000002"));
+
+        assertEquals(2, indice.buscar("PER", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+        assertEquals(Collections.singletonList(ana), indice.buscar("ana perez", null).get(IndiceBusquedaService.Tipo.CLIENTE));
+        assertEquals(Collections.singletonList(angel), indice.buscar("angel", null).get(IndiceBusquedaService.Tipo.CLIENTE));
+        assertEquals(0, indice.buscar("ana perales", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+    }
+
+    @Test
+    void actualizarReemplazaTerminosYEliminarQuitaLaFila() {
+        UUID id = UUID.randomUUID();
+        Cliente cliente = cliente("Rosa", "Quispe", "20000001");
+        indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, id, cliente);
+
+        cliente.setApellidoPaterno("Mamani");
+        indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, id, cliente);
+        assertEquals(0, indice.buscar("quispe", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+        assertEquals(1, indice.buscar("rosa mamani", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+
+        cliente.setFechaEliminacion(LocalDateTime.now());
+        indice.actualizar(IndiceBusquedaService.Tipo.CLIENTE, id, cliente);
+        assertEquals(0, indice.buscar("rosa", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+        assertEquals(0L, indice.estadisticas().get(IndiceBusquedaService.Tipo.CLIENTE).get("terminos"));
+    }
+
+    @Test
+    void reconstruirConservaLosCambiosConfirmadosDuranteLaCarga() {
+        UUID existente = UUID.randomUUID();
+        UUID nuevo = UUID.randomUUID();
+        // La consulta devuelve el estado previo; mientras tanto otra transacción edita y crea clientes
+        IndiceBusquedaService indice = new IndiceBusquedaService() {
+            @Override
+            List<Object[]> cargarFilas(String entidad) {
+                if (!"Cliente".equals(entidad)) return Collections.emptyList();
+                actualizar(IndiceBusquedaService.Tipo.CLIENTE, existente, cliente("Rosa", "Mamani", "30000001"));
+                actualizar(IndiceBusquedaService.Tipo.CLIENTE, nuevo, cliente("Luz", "Condori", "30000002"));
+                return Collections.singletonList(new Object[]{existente, "rosa quispe 30000001"});
+            }
+        };
+
+        indice.reconstruir();
+
+        assertEquals(0, indice.buscar("quispe", null).get(IndiceBusquedaService.Tipo.CLIENTE).size());
+        assertEquals(Collections.singletonList(existente), indice.buscar("rosa mamani", null).get(IndiceBusquedaService.Tipo.CLIENTE));
+        assertEquals(Collections.singletonList(nuevo), indice.buscar("luz", null).get(IndiceBusquedaService.Tipo.CLIENTE));
+    }
+
+    private static Cliente cliente(String nombre, String apellido, String documento) {
+        Cliente cliente = new Cliente();
+        cliente.setPrimerNombre(nombre);
+        cliente.setApellidoPaterno(apellido);
+        cliente.setNumeroDocumento(documento);
+        return cliente;
+    }
+}
@@ -0,0 +1,208 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.dto.ImportacionLotesDTO;
+import com.inmobiliaria.inmobiliariabackend.model.*;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import javax.validation.Validation;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(BusquedaTextoRepository.class)
+class LoteImportacionServiceTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private EntityManagerFactory emf;
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private ProyectoRepository proyectoRepository;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private EstadoVentaRepository estadoVentaRepository;
+    @Autowired private EstadoLoteRepository estadoLoteRepository;
+    @Autowired private MonedaRepository monedaRepository;
+    @Autowired private BusquedaTextoRepository busquedaTextoRepository;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+    @Autowired private DepartamentoRepository departamentoRepository;
+    @Autowired private ProvinciaRepository provinciaRepository;
+    @Autowired private DistritoRepository distritoRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void importacionDeLotesValidaTodasLasFilasAntesDeInsertarEnBloques() throws IOException {
+        VentasDePrueba datos = new VentasDePrueba(em);
+        datos.crearVentas(1, 0);
+        Proyecto proyecto = datos.getProyecto();
+        LoteImportacionService importacion = importacion(loteRepository, 30);
+        em.flush();
+        long lotesAntes = loteRepository.count();
+
+        String conErrores = "Nombre;Descripción;Precio;Área;Estado\n"
+                + "Lote 1;Ya existe en el proyecto;1000;120;Reservado\n"
+                + "Lote A;Correcto;1000;120;Reservado\n"
+                + "Lote A;Repetido en el archivo;1000;120;Reservado\n"
+                + "Lote B;Precio inválido;abc;120;Reservado\n"
+                + "Lote C;Estado inexistente;1000;120;Vendido\n";
+        ImportacionLotesDTO rechazada = importacion.importarCsv(proyecto.getProyectoId(), new StringReader(conErrores));
+        assertEquals(0, rechazada.getImportados());
+        assertEquals(List.of(1, 3, 4, 5), rechazada.getErrores().stream()
+                .map(ImportacionLotesDTO.ErrorFila::getFila).collect(Collectors.toList()));
+        assertEquals(lotesAntes, loteRepository.count());
+
+        StringBuilder csv = new StringBuilder("nombre,descripcion,precio,area,estado\n")
+                .append("Esquina,\"Frente al parque, con \"\"vista\"\"\",\"1500,50\",90,Reservado\n");
+        for (int i = 0; i < 119; i++) {
+            csv.append("Manzana A-").append(i).append(",Lote importado,1000,120,Reservado\n");
+        }
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        ImportacionLotesDTO resultado = importacion.importarCsv(proyecto.getProyectoId(), new StringReader(csv.toString()));
+
+        assertEquals(120, resultado.getImportados());
+        assertTrue(resultado.getErrores().isEmpty());
+        // 120 lotes en 3 batches JDBC; el resto son los eventos del outbox (IDENTITY, uno por fila) y las lecturas
+        assertTrue(stats.getPrepareStatementCount() < 120 + 10, "sentencias: " + stats.getPrepareStatementCount());
+        assertEquals(lotesAntes + 120, loteRepository.count());
+
+        Lote esquina = loteRepository.findByNombreAndProyecto("Esquina", proyecto).orElseThrow();
+        assertEquals("Frente al parque, con \"vista\"", esquina.getDescripcion());
+        assertEquals(1500.50, esquina.getPrecio());
+
+        // crearVentas insertó sus lotes sin pasar por los servicios: los contadores solo reflejan la importación
+        em.clear();
+        Proyecto contado = proyectoRepository.findById(proyecto.getProyectoId()).orElseThrow();
+        assertEquals(120, contado.getTotalLotes());
+        assertEquals(120, contado.getLotesReservados());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void unNombreConfirmadoDespuesDeValidarSeInformaEnSuFila() throws IOException {
+        // Sin transacción de prueba: el lote "existente" se confirma y se borra al final
+        String sufijo = UUID.randomUUID().toString().substring(0, 8);
+        Lote existente = loteConfirmado(sufijo);
+        Proyecto proyecto = existente.getProyecto();
+        try {
+            // La validación no ve "Lote 7", como si otra importación lo hubiera confirmado justo después
+            LoteRepository lecturaAnterior = mock(LoteRepository.class, delegatesTo(loteRepository));
+            doReturn(Collections.emptySet()).doAnswer(delegatesTo(loteRepository)).when(lecturaAnterior).nombresActivosPorProyecto(proyecto.getProyectoId());
+            String csv = "nombre,descripcion,precio,area,estado\n"
+                    + "Lote 6,Nuevo,1000,120,Libre " + sufijo + "\n"
+                    + "Lote 7,Nuevo,1000,120,Libre " + sufijo + "\n";
+
+            ImportacionLotesDTO resultado = importacion(lecturaAnterior, 30).importarCsv(proyecto.getProyectoId(), new StringReader(csv));
+
+            assertEquals(0, resultado.getImportados());
+            assertEquals(1, resultado.getErrores().size());
+            assertEquals(2, resultado.getErrores().get(0).getFila());
+            assertEquals(Collections.singleton("Lote 7"), loteRepository.nombresActivosPorProyecto(proyecto.getProyectoId()));
+        } finally {
+            borrar(existente);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void unaImportacionQueSuperaElTimeoutNoConfirmaNingunLote() {
+        String sufijo = UUID.randomUUID().toString().substring(0, 8);
+        Lote existente = loteConfirmado(sufijo);
+        Proyecto proyecto = existente.getProyecto();
+        try {
+            // La validación tarda más que el timeout de 1 s: los INSERT posteriores ya no se ejecutan
+            LoteRepository lenta = mock(LoteRepository.class, delegatesTo(loteRepository));
+            doAnswer(invocacion -> {
+                Thread.sleep(1500);
+                return loteRepository.nombresActivosPorProyecto(proyecto.getProyectoId());
+            }).when(lenta).nombresActivosPorProyecto(proyecto.getProyectoId());
+            String csv = "nombre,descripcion,precio,area,estado\n"
+                    + "Lote 8,Nuevo,1000,120,Libre " + sufijo + "\n";
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> importacion(lenta, 1).importarCsv(proyecto.getProyectoId(), new StringReader(csv)));
+            assertEquals(Collections.singleton("Lote 7"), loteRepository.nombresActivosPorProyecto(proyecto.getProyectoId()));
+        } finally {
+            borrar(existente);
+        }
+    }
+
+    // "Lote 7" confirmado en un proyecto y estado propios (con sufijo, para no chocar con otros datos)
+    private Lote loteConfirmado(String sufijo) {
+        return new TransactionTemplate(transactionManager).execute(s -> {
+            Departamento departamento = departamentoRepository.save(new Departamento(null, "Cusco " + sufijo, null, true));
+            Provincia provincia = new Provincia();
+            provincia.setNombre("Cusco");
+            provincia.setDepartamento(departamento);
+            Distrito distrito = new Distrito();
+            distrito.setNombre("Wanchaq");
+            distrito.setProvincia(provinciaRepository.save(provincia));
+            Proyecto proyecto = new Proyecto();
+            proyecto.setNombre("Qosqo " + sufijo);
+            proyecto.setDistrito(distritoRepository.save(distrito));
+            Lote lote = new Lote();
+            lote.setNombre("Lote 7");
+            lote.setDescripcion("Confirmado por otra importación");
+            lote.setPrecio(1000.0);
+            lote.setArea(120.0);
+            lote.setEstadoLote(estadoLoteRepository.save(new EstadoLote(null, "Libre " + sufijo, null)));
+            lote.setProyecto(proyectoRepository.save(proyecto));
+            return loteRepository.save(lote);
+        });
+    }
+
+    private void borrar(Lote existente) {
+        Proyecto proyecto = existente.getProyecto();
+        new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+            loteRepository.findByProyectoProyectoIdAndFechaEliminacionIsNull(proyecto.getProyectoId()).forEach(loteRepository::delete);
+            proyectoRepository.deleteById(proyecto.getProyectoId());
+            Distrito distrito = proyecto.getDistrito();
+            distritoRepository.deleteById(distrito.getDistritoId());
+            provinciaRepository.deleteById(distrito.getProvincia().getProvinciaId());
+            departamentoRepository.deleteById(distrito.getProvincia().getDepartamento().getDepartamentoId());
+            estadoLoteRepository.deleteById(existente.getEstadoLote().getEstadoLoteId());
+        });
+    }
+
+    private LoteImportacionService importacion(LoteRepository lotes, int timeoutSegundos) {
+        CatalogoRegistry catalogos = new CatalogoRegistry(estadoVentaRepository, estadoLoteRepository, monedaRepository);
+        IndiceBusquedaService indice = new IndiceBusquedaService();
+        OutboxService outbox = new OutboxService(eventoOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        ContadoresProyectoService contadores = new ContadoresProyectoService(proyectoRepository);
+        LoteService loteService = new LoteService(lotes, proyectoRepository, ventaRepository, catalogos,
+                busquedaTextoRepository, indice, outbox, contadores);
+        LoteImportacionService importacion = new LoteImportacionService(lotes, proyectoRepository, loteService,
+                catalogos, indice, outbox, contadores, Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager, 50, 1000, timeoutSegundos);
+        ReflectionTestUtils.setField(importacion, "entityManager", entityManager);
+        return importacion;
+    }
+}
@@ -0,0 +1,140 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.EventoOutboxDTO;
+import com.inmobiliaria.inmobiliariabackend.model.EventoOutbox;
+import com.inmobiliaria.inmobiliariabackend.repository.EventoOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * El relay corre fuera de la transacción de la prueba: cada paso confirma como en producción.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(OutboxService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final UUID A = UUID.randomUUID();
+    private static final UUID B = UUID.randomUUID();
+
+    @Autowired private OutboxService outboxService;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void limpiar() {
+        eventoOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void registrarExigeUnaTransaccionActiva() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxService.registrar(EventoOutbox.TipoAgregado.VENTA, A, "CREADA", Collections.emptyMap()));
+    }
+
+    @Test
+    void entregaEnOrdenYReintentaElMismoLoteTrasUnaFalla() {
+        registrar(A, B, A, B, A);
+        List<EventoOutboxDTO> recibidos = new ArrayList<>();
+        int[] llamadas = {0};
+        OutboxRelay relay = relay(eventos -> {
+            if (llamadas[0]++ == 0) throw new IllegalStateException("destino caído");
+            recibidos.addAll(eventos);
+        }, 10);
+
+        assertEquals(0, relay.enviarPendientes());
+        assertEquals(5, eventoOutboxRepository.contarPendientes());
+
+        assertEquals(5, relay.enviarPendientes());
+        assertEquals(0, eventoOutboxRepository.contarPendientes());
+        List<Long> ids = recibidos.stream().map(EventoOutboxDTO::getEventoId).collect(Collectors.toList());
+        List<Long> ordenados = new ArrayList<>(ids);
+        Collections.sort(ordenados);
+        assertEquals(ordenados, ids);
+        assertEquals("{\"agregado\":\"" + A + "\"}", recibidos.get(0).getPayload());
+        assertEquals(4, llamadas[0]);
+    }
+
+    @Test
+    void loteRechazadoSeReenviaDeAUnoYSeDescartaSoloElInvalido() {
+        registrar(A, B, A);
+        List<UUID> recibidos = new ArrayList<>();
+        OutboxRelay relay = relay(eventos -> {
+            if (eventos.stream().anyMatch(e -> e.getAgregadoId().equals(B))) {
+                throw new OutboxSink.EnvioRechazadoException("payload inválido", null);
+            }
+            eventos.forEach(e -> recibidos.add(e.getAgregadoId()));
+        }, 2);
+
+        assertEquals(2, relay.enviarPendientes());
+        assertEquals(List.of(A, A), recibidos);
+        assertEquals(0, eventoOutboxRepository.contarPendientes());
+        EventoOutbox descartado = eventoOutboxRepository.findAll().stream()
+                .filter(e -> e.getAgregadoId().equals(B)).findFirst().orElseThrow();
+        assertNotNull(descartado.getFechaDescarte());
+        assertEquals(2, descartado.getIntentos());
+    }
+
+    @Test
+    void unEventoQueConfirmaTardeSeEntregaAunqueTengaUnIdMenor() throws Exception {
+        CountDownLatch insertado = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        ExecutorService hilo = Executors.newSingleThreadExecutor();
+        Future<?> tardio = hilo.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.registrar(EventoOutbox.TipoAgregado.VENTA, A, "CREADA", Collections.emptyMap());
+            insertado.countDown();
+            try {
+                confirmar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(insertado.await(10, TimeUnit.SECONDS));
+        registrar(B);
+
+        List<EventoOutboxDTO> recibidos = new ArrayList<>();
+        OutboxRelay relay = relay(recibidos::addAll, 10);
+        assertEquals(1, relay.enviarPendientes());
+
+        confirmar.countDown();
+        tardio.get(10, TimeUnit.SECONDS);
+        hilo.shutdown();
+        assertEquals(1, relay.enviarPendientes());
+
+        assertEquals(List.of(B, A), recibidos.stream().map(EventoOutboxDTO::getAgregadoId).collect(Collectors.toList()));
+        assertTrue(recibidos.get(1).getEventoId() < recibidos.get(0).getEventoId());
+        assertEquals(0, eventoOutboxRepository.contarPendientes());
+    }
+
+    private OutboxRelay relay(OutboxSink sink, int maxIntentos) {
+        return new OutboxRelay(eventoOutboxRepository, sink, transactionManager, 2, maxIntentos, 0, 0, 72);
+    }
+
+    private void registrar(UUID... agregados) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (UUID id : agregados) {
+                outboxService.registrar(EventoOutbox.TipoAgregado.VENTA, id, "ACTUALIZADA", Collections.singletonMap("agregado", id));
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.dto.ReporteJobDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReporteJobServiceTest {
+
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private final ReporteMensualService reporteMensualService = mock(ReporteMensualService.class);
+    // 1 hilo, 1 lugar en cola, 1 trabajo activo por usuario
+    private final ReporteJobService servicio = new ReporteJobService(reporteMensualService, 1, 1, 1, 60_000);
+
+    @AfterEach
+    void cerrar() {
+        liberar.countDown();
+        servicio.detener();
+    }
+
+    @Test
+    void aplicaLimitePorUsuarioYDeCola() throws Exception {
+        ReporteMensualService.ReportePdf pdf = mock(ReporteMensualService.ReportePdf.class);
+        when(reporteMensualService.obtenerPdf(anyString(), any())).thenAnswer(inv -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return pdf;
+        });
+
+        ReporteJobDTO primero = servicio.encolar("ana", "local", null);
+        ReporteJobService.JobRechazadoException limite = assertThrows(ReporteJobService.JobRechazadoException.class,
+                () -> servicio.encolar("ana", "local", null));
+        assertEquals(ReporteJobService.JobRechazadoException.Motivo.LIMITE_USUARIO, limite.getMotivo());
+
+        // El hilo único queda ocupado con el primero; el segundo ocupa la cola y el tercero se rechaza
+        esperarEstado("ana", primero, "EN_PROCESO");
+        ReporteJobDTO segundo = servicio.encolar("beto", "local", null);
+        ReporteJobService.JobRechazadoException llena = assertThrows(ReporteJobService.JobRechazadoException.class,
+                () -> servicio.encolar("carla", "local", null));
+        assertEquals(ReporteJobService.JobRechazadoException.Motivo.COLA_LLENA, llena.getMotivo());
+
+        liberar.countDown();
+        esperarEstado("ana", primero, "COMPLETADO");
+        esperarEstado("beto", segundo, "COMPLETADO");
+        assertSame(pdf, servicio.resultado(primero.getJobId(), "ana").orElseThrow());
+        assertEquals("/api/reportes/jobs/" + primero.getJobId() + "/pdf",
+                servicio.obtener(primero.getJobId(), "ana").orElseThrow().getDescargaUrl());
+        // El trabajo de otro usuario no se ve ni se descarga
+        assertTrue(servicio.obtener(primero.getJobId(), "beto").isEmpty());
+        assertTrue(servicio.resultado(primero.getJobId(), "beto").isEmpty());
+
+        // Terminado el anterior, el usuario puede volver a encolar
+        assertNotNull(servicio.encolar("ana", "local", null).getJobId());
+    }
+
+    private void esperarEstado(String usuario, ReporteJobDTO job, String estado) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5_000;
+        while (!estado.equals(servicio.obtener(job.getJobId(), usuario).orElseThrow().getEstado())) {
+            assertTrue(System.currentTimeMillis() < limite, "el trabajo no llegó a " + estado);
+            Thread.sleep(10);
+        }
+    }
+}
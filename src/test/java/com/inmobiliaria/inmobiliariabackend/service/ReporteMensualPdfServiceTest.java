@@ -0,0 +1,62 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReporteMensualPdfServiceTest {
+
+    @Test
+    void escribeEnElStreamSinCerrarloEIncrustaElLogoUnaSolaVez(@TempDir Path dir) throws IOException {
+        Path logo = dir.resolve("logo.png");
+        ImageIO.write(new BufferedImage(120, 120, BufferedImage.TYPE_INT_RGB), "png", logo.toFile());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReporteMensualPdfService servicio = new ReporteMensualPdfService(registry, logo.toString());
+
+        // Suficientes recomendaciones para que el documento ocupe varias páginas
+        List<String> recomendaciones = new ArrayList<>();
+        for (int i = 0; i < 150; i++) recomendaciones.add("Recomendación número " + i);
+        Map<String, Object> data = new HashMap<>();
+        data.put("ventas_mes", 12);
+        data.put("recomendaciones", recomendaciones);
+
+        boolean[] cerrado = {false};
+        ByteArrayOutputStream salida = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                cerrado[0] = true;
+            }
+        };
+        servicio.generarReporteProfesional(data, salida);
+
+        String pdf = new String(salida.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.startsWith("%PDF"));
+        assertFalse(cerrado[0]);
+        assertTrue(contar(pdf, "/Type\\s*/Page\\b") > 1);
+        assertEquals(1, contar(pdf, "/Subtype\\s*/Image"));
+        assertEquals(1, registry.get("reportes.pdf.latencia").timer().count());
+        assertEquals(salida.size(), registry.get("reportes.pdf.tamano").summary().totalAmount());
+    }
+
+    private static int contar(String texto, String regex) {
+        Matcher m = Pattern.compile(regex).matcher(texto);
+        int n = 0;
+        while (m.find()) n++;
+        return n;
+    }
+}
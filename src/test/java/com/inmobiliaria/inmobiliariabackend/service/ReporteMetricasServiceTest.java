@@ -0,0 +1,45 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.model.EstadoVenta;
+import com.inmobiliaria.inmobiliariabackend.model.Venta;
+import com.inmobiliaria.inmobiliariabackend.repository.VentaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+class ReporteMetricasServiceTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void metricasMensualesExcluyenCanceladasYAgrupanPorProyectoYZona() {
+        new VentasDePrueba(em).crearVentas(3, 0);
+        EstadoVenta cancelada = new EstadoVenta();
+        cancelada.setNombre("Cancelada");
+        em.persist(cancelada);
+        Venta venta = ventaRepository.findAll().get(0);
+        venta.setEstadoVenta(cancelada);
+        em.flush();
+
+        ReporteMetricasService metricas = new ReporteMetricasService(new NamedParameterJdbcTemplate(dataSource), 5, false);
+        Map<String, Object> mes = metricas.calcular(YearMonth.now());
+
+        assertEquals(2, mes.get("ventas_mes"));
+        assertEquals(Map.of("Los Álamos", 2), mes.get("proyectos_con_mas_ventas"));
+        assertEquals(Map.of("Miraflores", 2), mes.get("zonas_top"));
+        assertEquals(Map.of("Los Álamos", 1000.0), mes.get("ticket_promedio_proyecto"));
+        assertEquals(0, metricas.calcular(YearMonth.now().minusMonths(1)).get("ventas_mes"));
+    }
+}
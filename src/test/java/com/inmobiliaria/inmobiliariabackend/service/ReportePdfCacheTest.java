@@ -0,0 +1,79 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportePdfCacheTest {
+
+    private static final int KB_600 = 600 * 1024;
+
+    @Test
+    void mismaClaveSeGeneraUnaSolaVez(@TempDir Path dir) {
+        ReportePdfCache cache = new ReportePdfCache(dir.toString(), 1);
+        AtomicInteger generaciones = new AtomicInteger();
+
+        ReportePdfCache.Entrada primera = cache.obtenerOGenerar("reporte_a", contar(generaciones, 10));
+        ReportePdfCache.Entrada segunda = cache.obtenerOGenerar("reporte_a", contar(generaciones, 10));
+
+        assertEquals(1, generaciones.get());
+        assertEquals(primera.getArchivo(), segunda.getArchivo());
+        assertEquals(10, segunda.getTamano());
+
+        // Un reinicio recupera los archivos ya generados
+        new ReportePdfCache(dir.toString(), 1).obtenerOGenerar("reporte_a", contar(generaciones, 10));
+        assertEquals(1, generaciones.get());
+    }
+
+    @Test
+    void excedidoElLimiteDescartaElMenosUsado(@TempDir Path dir) {
+        ReportePdfCache cache = new ReportePdfCache(dir.toString(), 1);
+        AtomicInteger generaciones = new AtomicInteger();
+
+        cache.obtenerOGenerar("a", contar(generaciones, KB_600 / 2));
+        cache.obtenerOGenerar("b", contar(generaciones, KB_600 / 2));
+        cache.obtenerOGenerar("a", contar(generaciones, KB_600 / 2)); // "a" pasa a ser el más reciente
+        cache.obtenerOGenerar("c", contar(generaciones, KB_600));
+
+        assertTrue(Files.exists(dir.resolve("a.pdf")));
+        assertFalse(Files.exists(dir.resolve("b.pdf")));
+        assertTrue(Files.exists(dir.resolve("c.pdf")));
+        assertTrue(cache.getTotalBytes() <= 1024 * 1024);
+        assertEquals(3, generaciones.get());
+    }
+
+    @Test
+    void tocarUnaEntradaLaProtegeDelDescarte(@TempDir Path dir) {
+        ReportePdfCache cache = new ReportePdfCache(dir.toString(), 1);
+        AtomicInteger generaciones = new AtomicInteger();
+
+        ReportePdfCache.Entrada a = cache.obtenerOGenerar("a", contar(generaciones, KB_600 / 2));
+        ReportePdfCache.Entrada b = cache.obtenerOGenerar("b", contar(generaciones, KB_600 / 2));
+        assertTrue(cache.tocar(a)); // servida sin volver a generarla: "a" pasa a ser la más reciente
+        cache.obtenerOGenerar("c", contar(generaciones, KB_600));
+
+        assertTrue(cache.contiene(a));
+        assertFalse(cache.contiene(b));
+        assertFalse(cache.tocar(b));
+    }
+
+    private static Consumer<OutputStream> contar(AtomicInteger generaciones, int bytes) {
+        return salida -> {
+            generaciones.incrementAndGet();
+            try {
+                salida.write(new byte[bytes]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
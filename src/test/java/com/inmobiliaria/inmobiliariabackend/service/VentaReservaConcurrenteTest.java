@@ -0,0 +1,282 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.dto.LoteRequestDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.VentaRequestDTO;
+import com.inmobiliaria.inmobiliariabackend.model.*;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reservas concurrentes reales: cada venta corre en su propia transacción y confirma, como en producción.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Import(BusquedaTextoRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VentaReservaConcurrenteTest {
+
+    private static final int LOTES = 20;
+    private static final int INTENTOS_POR_LOTE = 20;
+    private static final int HILOS = 32;
+
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private ClienteRepository clienteRepository;
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private ProyectoRepository proyectoRepository;
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private EstadoVentaRepository estadoVentaRepository;
+    @Autowired private EstadoLoteRepository estadoLoteRepository;
+    @Autowired private MonedaRepository monedaRepository;
+    @Autowired private BusquedaTextoRepository busquedaTextoRepository;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private VentaService ventaService;
+    private LoteService loteService;
+    private ConciliacionContadoresService conciliacion;
+    private TransactionTemplate tx;
+    private VentasDePrueba datos;
+
+    private EstadoLote disponible;
+    private EstadoVenta pendiente;
+    private Moneda moneda;
+    private Cliente cliente;
+    private Proyecto proyecto;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        CatalogoRegistry catalogos = new CatalogoRegistry(estadoVentaRepository, estadoLoteRepository, monedaRepository);
+        IndiceBusquedaService indice = new IndiceBusquedaService();
+        OutboxService outbox = new OutboxService(eventoOutboxRepository, new ObjectMapper().findAndRegisterModules());
+        ContadoresProyectoService contadores = new ContadoresProyectoService(proyectoRepository);
+        ventaService = new VentaService(ventaRepository, clienteRepository, loteRepository, abonoRepository,
+                catalogos, busquedaTextoRepository, indice, outbox, contadores);
+        loteService = new LoteService(loteRepository, proyectoRepository, ventaRepository, catalogos,
+                busquedaTextoRepository, indice, outbox, contadores);
+        conciliacion = new ConciliacionContadoresService(proyectoRepository, loteRepository, ventaRepository,
+                catalogos, transactionManager);
+        ReflectionTestUtils.setField(conciliacion, "tamanoBloque", 2);
+
+        // Sin rollback entre pruebas: cada una arma su proyecto y los estados se reutilizan por nombre
+        datos = tx.execute(s -> new VentasDePrueba(entityManager));
+        tx.executeWithoutResult(s -> {
+            disponible = datos.estadoLote("Disponible");
+            datos.estadoVenta("Cancelada");
+            cliente = datos.crearCliente();
+        });
+        pendiente = datos.getEstadoVenta();
+        moneda = datos.getMoneda();
+        proyecto = datos.getProyecto();
+    }
+
+    @Test
+    void reservasConcurrentesNuncaVendenDosVecesElMismoLote() throws Exception {
+        List<UUID> lotes = crearLotesDisponibles(LOTES);
+        // Los lotes se insertaron sin pasar por los servicios: la conciliación pone los contadores al día
+        assertTrue(conciliacion.conciliar() >= 1);
+        assertContadores(LOTES, LOTES, 0, 0.0);
+        AtomicInteger creadas = new AtomicInteger();
+        AtomicInteger conflictos = new AtomicInteger();
+        List<Throwable> inesperados = new CopyOnWriteArrayList<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int i = 0; i < LOTES * INTENTOS_POR_LOTE; i++) {
+            UUID loteId = lotes.get(i % LOTES);
+            tareas.add(pool.submit(() -> {
+                salida.await();
+                try {
+                    tx.executeWithoutResult(s -> ventaService.crear(solicitud(loteId)));
+                    creadas.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    conflictos.incrementAndGet();
+                } catch (RuntimeException e) {
+                    inesperados.add(e);
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> tarea : tareas) tarea.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertTrue(inesperados.isEmpty(), () -> "Errores no esperados: " + inesperados);
+        assertEquals(LOTES, creadas.get());
+        assertEquals(LOTES * (INTENTOS_POR_LOTE - 1), conflictos.get());
+
+        lotes.forEach(id -> assertEquals(1, ventasDelLote(id)));
+        tx.executeWithoutResult(s -> lotes.forEach(id ->
+                assertEquals("Reservado", loteRepository.findById(id).orElseThrow().getEstadoLote().getNombre())));
+
+        // Cada reserva ajustó los contadores en su transacción; los conflictos no dejaron rastro
+        assertContadores(LOTES, 0, LOTES, LOTES * 25000.0);
+        conciliacion.conciliar();
+        assertContadores(LOTES, 0, LOTES, LOTES * 25000.0);
+    }
+
+    @Test
+    void elIndiceUnicoRechazaUnaSegundaVentaAunqueElLoteFigureDisponible() {
+        UUID loteId = crearLotesDisponibles(1).get(0);
+        crear(loteId);
+
+        // Estado desalineado: el lote vuelve a "Disponible" sin cancelar la venta
+        tx.executeWithoutResult(s -> loteRepository.findById(loteId).orElseThrow().setEstadoLote(disponible));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> crear(loteId));
+        assertTrue(e.getMessage().contains("no está disponible"));
+        assertEquals(1, ventasDelLote(loteId));
+    }
+
+    @Test
+    void unaVentaCanceladaLiberaElLoteParaUnaNueva() {
+        UUID loteId = crearLotesDisponibles(1).get(0);
+        UUID ventaId = crear(loteId);
+
+        VentaRequestDTO cancelar = solicitud(loteId);
+        cancelar.setEstadoVentaId(tx.execute(s -> estadoVentaRepository.findByNombre("Cancelada").orElseThrow().getEstadoVentaId()));
+        tx.executeWithoutResult(s -> ventaService.actualizar(ventaId, cancelar));
+
+        assertNotEquals(ventaId, crear(loteId));
+    }
+
+    @Test
+    void cambiarDeLoteReservaElNuevoYLiberaElAnterior() {
+        List<UUID> lotes = crearLotesDisponibles(3);
+        UUID ventaId = crear(lotes.get(0));
+        crear(lotes.get(2));
+
+        // El lote ocupado por otra venta no se puede tomar: 409 y nada cambia
+        VentaRequestDTO aOcupado = solicitud(lotes.get(2));
+        assertThrows(IllegalStateException.class, () -> tx.executeWithoutResult(s -> ventaService.actualizar(ventaId, aOcupado)));
+        assertEquals("Reservado", estadoDelLote(lotes.get(0)));
+
+        tx.executeWithoutResult(s -> ventaService.actualizar(ventaId, solicitud(lotes.get(1))));
+        assertEquals("Disponible", estadoDelLote(lotes.get(0)));
+        assertEquals("Reservado", estadoDelLote(lotes.get(1)));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> crear(lotes.get(1)));
+        assertTrue(e.getMessage().contains("no está disponible"));
+        assertNotEquals(ventaId, crear(lotes.get(0)));
+    }
+
+    @Test
+    void eliminarUnaVentaCanceladaNoLiberaElLoteDeOtraVenta() {
+        UUID loteId = crearLotesDisponibles(1).get(0);
+        UUID cancelada = crear(loteId);
+        VentaRequestDTO cancelar = solicitud(loteId);
+        cancelar.setEstadoVentaId(tx.execute(s -> estadoVentaRepository.findByNombre("Cancelada").orElseThrow().getEstadoVentaId()));
+        tx.executeWithoutResult(s -> ventaService.actualizar(cancelada, cancelar));
+        crear(loteId);
+
+        tx.executeWithoutResult(s -> ventaService.eliminar(cancelada));
+        assertEquals("Reservado", estadoDelLote(loteId));
+        assertEquals(1, ventasDelLote(loteId));
+    }
+
+    @Test
+    void editarElLoteMientrasSeReservaNoPisaLaReserva() throws Exception {
+        UUID loteId = crearLotesDisponibles(1).get(0);
+        conciliacion.conciliar();
+        CountDownLatch reservado = new CountDownLatch(1);
+        CountDownLatch edicionIniciada = new CountDownLatch(1);
+
+        // La venta reclama el lote y demora su commit mientras la edición intenta devolverlo a "Disponible"
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<UUID> venta = pool.submit(() -> tx.execute(s -> {
+            UUID id = ventaService.crear(solicitud(loteId)).getVentaId();
+            reservado.countDown();
+            try {
+                edicionIniciada.await();
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return id;
+        }));
+
+        reservado.await(10, TimeUnit.SECONDS);
+        LoteRequestDTO edicion = new LoteRequestDTO();
+        edicion.setNombre("Lote editado");
+        edicion.setDescripcion("Lote esquinero");
+        edicion.setPrecio(25000.0);
+        edicion.setArea(160.0);
+        edicion.setEstadoLoteId(disponible.getEstadoLoteId());
+        edicion.setProyectoId(proyecto.getProyectoId());
+        edicionIniciada.countDown();
+        assertThrows(IllegalArgumentException.class,
+                () -> tx.executeWithoutResult(s -> loteService.actualizarLote(loteId, edicion)));
+
+        assertNotNull(venta.get(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals("Reservado", estadoDelLote(loteId));
+        assertContadores(1, 0, 1, 25000.0);
+    }
+
+    private String estadoDelLote(UUID loteId) {
+        return tx.execute(s -> loteRepository.findById(loteId).orElseThrow().getEstadoLote().getNombre());
+    }
+
+    private void assertContadores(long total, long disponibles, long reservados, double montoVendido) {
+        Proyecto leido = tx.execute(s -> proyectoRepository.findById(proyecto.getProyectoId()).orElseThrow());
+        assertEquals(total, leido.getTotalLotes());
+        assertEquals(disponibles, leido.getLotesDisponibles());
+        assertEquals(reservados, leido.getLotesReservados());
+        assertEquals(montoVendido, leido.getMontoVendido(), 0.001);
+    }
+
+    private UUID crear(UUID loteId) {
+        return tx.execute(s -> ventaService.crear(solicitud(loteId)).getVentaId());
+    }
+
+    private long ventasDelLote(UUID loteId) {
+        return tx.execute(s -> ventaRepository.findAll().stream()
+                .filter(v -> v.getFechaEliminacion() == null && v.getLote().getLoteId().equals(loteId))
+                .count());
+    }
+
+    private List<UUID> crearLotesDisponibles(int cantidad) {
+        return tx.execute(s -> {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < cantidad; i++) {
+                ids.add(datos.crearLote(disponible, 25000.0).getLoteId());
+            }
+            return ids;
+        });
+    }
+
+    private VentaRequestDTO solicitud(UUID loteId) {
+        VentaRequestDTO dto = new VentaRequestDTO();
+        dto.setClienteId(cliente.getClienteId());
+        dto.setLoteId(loteId);
+        dto.setEstadoVentaId(pendiente.getEstadoVentaId());
+        dto.setMonedaId(moneda.getMonedaId());
+        dto.setMontoTotal(25000.0);
+        return dto;
+    }
+}
@@ -0,0 +1,158 @@
+package com.inmobiliaria.inmobiliariabackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inmobiliaria.inmobiliariabackend.VentasDePrueba;
+import com.inmobiliaria.inmobiliariabackend.dto.CursorPageDTO;
+import com.inmobiliaria.inmobiliariabackend.dto.VentaResponseDTO;
+import com.inmobiliaria.inmobiliariabackend.repository.*;
+import com.inmobiliaria.inmobiliariabackend.util.EscritorJsonStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(BusquedaTextoRepository.class)
+class VentaServiceListadoTest {
+
+    @Autowired private TestEntityManager em;
+    @Autowired private EntityManagerFactory emf;
+    @Autowired private VentaRepository ventaRepository;
+    @Autowired private ClienteRepository clienteRepository;
+    @Autowired private LoteRepository loteRepository;
+    @Autowired private EstadoVentaRepository estadoVentaRepository;
+    @Autowired private MonedaRepository monedaRepository;
+    @Autowired private AbonoRepository abonoRepository;
+    @Autowired private EstadoLoteRepository estadoLoteRepository;
+    @Autowired private BusquedaTextoRepository busquedaTextoRepository;
+    @Autowired private ProyectoRepository proyectoRepository;
+    @Autowired private EventoOutboxRepository eventoOutboxRepository;
+
+    private VentaService ventaService;
+    private VentasDePrueba datos;
+
+    @BeforeEach
+    void setUp() {
+        ventaService = new VentaService(ventaRepository, clienteRepository, loteRepository, abonoRepository,
+                new CatalogoRegistry(estadoVentaRepository, estadoLoteRepository, monedaRepository),
+                busquedaTextoRepository, new IndiceBusquedaService(),
+                new OutboxService(eventoOutboxRepository, new ObjectMapper().findAndRegisterModules()),
+                new ContadoresProyectoService(proyectoRepository));
+        datos = new VentasDePrueba(em);
+    }
+
+    @Test
+    void listarUsaUnaSolaConsultaSinImportarCuantasVentasHay() {
+        datos.crearVentas(3, 2);
+        long consultasPocas = contarConsultas();
+
+        datos.crearVentas(40, 5);
+        long consultasMuchas = contarConsultas();
+
+        assertEquals(1, consultasPocas);
+        assertEquals(consultasPocas, consultasMuchas);
+    }
+
+    @Test
+    void listarCalculaMontoAbonadoYSaldoPendiente() {
+        datos.crearVentas(1, 3);
+        em.flush();
+        em.clear();
+
+        List<VentaResponseDTO> ventas = ventaService.listar();
+
+        assertEquals(1, ventas.size());
+        VentaResponseDTO venta = ventas.get(0);
+        assertEquals(1000.0, venta.getMontoTotal());
+        assertEquals(300.0, venta.getMontoAbonado());
+        assertEquals(700.0, venta.getSaldoPendiente());
+        assertEquals("Los Álamos", venta.getProyectoNombre());
+    }
+
+    @Test
+    void listarPorCursorRecorreTodasLasVentasSinRepetir() {
+        datos.crearVentas(7, 1);
+        em.flush();
+        em.clear();
+
+        Set<UUID> vistas = new HashSet<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            CursorPageDTO<VentaResponseDTO> pagina = ventaService.listarPorCursor(cursor, 3);
+            pagina.getContenido().forEach(v -> assertTrue(vistas.add(v.getVentaId())));
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        assertEquals(7, vistas.size());
+        assertEquals(3, paginas);
+    }
+
+    @Test
+    void busquedaIgnoraAcentosYExigeTodasLasPalabras() {
+        datos.crearVentas(4, 0);
+        em.flush();
+        em.clear();
+
+        assertEquals(4, ventaService.listar("ÁLAMOS").size());
+        assertEquals(1, ventaService.listar("alamos paterno3").size());
+        assertEquals(0, ventaService.listar("alamos inexistente").size());
+
+        CursorPageDTO<VentaResponseDTO> pagina = ventaService.listarPorCursor("alamos", null, 3);
+        assertEquals(3, pagina.getContenido().size());
+        assertTrue(pagina.isHaySiguiente());
+        assertEquals(1, ventaService.listarPorCursor("alamos", pagina.getSiguienteCursor(), 3).getContenido().size());
+    }
+
+    @Test
+    void exportarEscribeCadaVentaComoUnaLineaNdjson() throws IOException {
+        datos.crearVentas(5, 1);
+        em.flush();
+        em.clear();
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try (EscritorJsonStream escritor = new EscritorJsonStream(new ObjectMapper().findAndRegisterModules(), salida,
+                EscritorJsonStream.Formato.NDJSON)) {
+            ventaService.exportarActivas(escritor::accept);
+        }
+
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lineas.length);
+        Set<UUID> exportadas = new HashSet<>();
+        for (String linea : lineas) {
+            exportadas.add(UUID.fromString(new ObjectMapper().readTree(linea).get("ventaId").asText()));
+        }
+        Set<UUID> listadas = new HashSet<>();
+        ventaService.listar().forEach(v -> listadas.add(v.getVentaId()));
+        assertEquals(listadas, exportadas);
+    }
+
+    private long contarConsultas() {
+        em.flush();
+        em.clear();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        ventaService.listar();
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,38 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EscritorJsonStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void soloUnaExportacionTerminadaCierraElArreglo() throws IOException {
+        ByteArrayOutputStream completa = new ByteArrayOutputStream();
+        try (EscritorJsonStream escritor = new EscritorJsonStream(objectMapper, completa, EscritorJsonStream.Formato.ARREGLO)) {
+            escritor.accept(Map.of("id", 1));
+            escritor.accept(Map.of("id", 2));
+            escritor.terminar();
+        }
+        assertEquals("[{\"id\":1},{\"id\":2}]", completa.toString(StandardCharsets.UTF_8));
+        assertEquals(2, objectMapper.readTree(completa.toByteArray()).size());
+
+        // Cortada a mitad (sin terminar): el cliente no puede tomarla por un arreglo completo
+        ByteArrayOutputStream cortada = new ByteArrayOutputStream();
+        try (EscritorJsonStream escritor = new EscritorJsonStream(objectMapper, cortada, EscritorJsonStream.Formato.ARREGLO)) {
+            escritor.accept(Map.of("id", 1));
+        }
+        assertEquals("[{\"id\":1}", cortada.toString(StandardCharsets.UTF_8));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(cortada.toByteArray()));
+    }
+}
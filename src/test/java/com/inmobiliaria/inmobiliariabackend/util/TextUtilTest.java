@@ -0,0 +1,51 @@
+package com.inmobiliaria.inmobiliariabackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * La versión con tabla debe devolver exactamente lo mismo que la implementación con Normalizer.
+ */
+class TextUtilTest {
+
+    // Mezcla de ASCII, controles, Latin-1/Extended, marcas combinantes, griego, cirílico, puntuación y otros bloques
+    private static final String ALFABETO = "abcxyzABCXYZ0129 .,-_/\t\n\r\u000B "
+            + "áéíóúÁÉÍÓÚñÑüÜçÇàèìòùâêîôûãõÃÕäëïöÄËÏÖßæÆøØåÅ¿¡ºª"
+            + "ĀāĂăĄąĆćČčĎďĒēĘęĚěĞğĠġĦħĨĩĪīİıĲĳĿŀŁłŃńŇňŉŊŋŌōŐőŒœŘřŚśŠšŢţŤťŨũŮůŰűŴŵŶŷŸŹźŻżŽžſ"
+            + "̧̀́̃̈⃝"
+            + "ΣσςΑάΏΪΰЖжЁёЙйǅǄǆȘșḀḁẞ–—‘’“”•…€𝐀ﬁKΩÅ";
+
+    @Test
+    void coincideConLaReferenciaParaCadaCaracterBmp() {
+        for (int c = 0; c <= 0xFFFF; c++) {
+            String texto = String.valueOf((char) c);
+            assertEquals(TextUtil.limpiarAcentosReferencia(texto), TextUtil.limpiarAcentos(texto), "U+" + Integer.toHexString(c));
+        }
+    }
+
+    @Test
+    void coincideConLaReferenciaEnTextosAleatorios() {
+        Random random = new Random(20240501L);
+        for (int n = 0; n < 200_000; n++) {
+            int largo = random.nextInt(24);
+            StringBuilder sb = new StringBuilder(largo);
+            for (int i = 0; i < largo; i++) {
+                sb.append(ALFABETO.charAt(random.nextInt(ALFABETO.length())));
+            }
+            String texto = sb.toString();
+            assertEquals(TextUtil.limpiarAcentosReferencia(texto), TextUtil.limpiarAcentos(texto), texto);
+        }
+    }
+
+    @Test
+    void casosConocidos() {
+        assertNull(TextUtil.limpiarAcentos(null));
+        assertEquals("", TextUtil.limpiarAcentos("   "));
+        assertEquals("jose perez nunez", TextUtil.limpiarAcentos("  José PÉREZ Núñez "));
+        assertEquals("lote 12", TextUtil.limpiarAcentos("lote 12"));
+    }
+}